@@ -0,0 +1,125 @@
+package io.swapastack.dunetd.benchmarks;
+
+import io.swapastack.dunetd.config.Configuration;
+import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.entities.towers.GuardTower;
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.game.GameHandler;
+import io.swapastack.dunetd.hostileunits.HostileUnitEnum;
+import io.swapastack.dunetd.hostileunits.HostileUnitStore;
+import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.pathfinding.PathBlockingMap;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.Random;
+
+import lombok.NonNull;
+
+/**
+ * Creates the scenarios of the benchmarks. All scenarios are generated from a seeded random number generator, so every
+ * run of a benchmark measures the same scenario.
+ */
+final class BenchmarkScenarios {
+
+    /**
+     * Seed of all scenarios
+     */
+    static final long SEED = 42L;
+
+    /**
+     * Time between two updates, ~ 60 FPS
+     */
+    static final float DELTA_TIME_IN_MILLISECONDS = 16.6f;
+
+    /**
+     * Share of the tiles on which a tower is placed, if it doesn't block the path
+     */
+    private static final float TOWER_DENSITY = 0.2f;
+
+    /**
+     * Spice and health of the player in the game handler scenarios, so the game can't be lost during a benchmark
+     */
+    private static final String PLAYER_INITIAL_VALUE = Integer.toString(Integer.MAX_VALUE);
+
+    static {
+        // Game classes read the configuration when they are loaded, so the overrides have to be applied before the
+        // first scenario is created
+        var configuration = Configuration.getInstance();
+        configuration.overrideProperty("PLAYER_INITIAL_SPICE", PLAYER_INITIAL_VALUE);
+        configuration.overrideProperty("PLAYER_INITIAL_HEALTH", PLAYER_INITIAL_VALUE);
+    }
+
+    private BenchmarkScenarios() {
+    }
+
+    /**
+     * Creates a grid with guard towers on random tiles, which leaves a path from the start (0, 0) to the end
+     * (width - 1, height - 1).
+     */
+    static Entity[][] createGrid(int width, int height, @NonNull Random random) {
+        var grid = new Entity[width][height];
+        var start = Vector2.ZERO;
+        var end = new Vector2(width - 1f, height - 1f);
+        var pathBlockingMap = new PathBlockingMap(width, height, start, end);
+        pathBlockingMap.update(grid);
+
+        var towerCount = (int) (width * height * TOWER_DENSITY);
+        for (int i = 0; i < towerCount; i++) {
+            var x = random.nextInt(width);
+            var y = random.nextInt(height);
+            var isStartOrEnd = x == 0 && y == 0 || x == width - 1 && y == height - 1;
+            if (grid[x][y] == null && !isStartOrEnd && !pathBlockingMap.wouldBlockPath(x, y)) {
+                grid[x][y] = new GuardTower(i, new Vector2(x, y), null);
+                pathBlockingMap.update(grid);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Creates hostile units of random types at random positions on the path and adds them to the store.
+     */
+    static void addHostileUnitsOnPath(@NonNull Path path, int count, @NonNull HostileUnitStore hostileUnitStore,
+                                      @NonNull Random random) {
+        var hostileUnitEnums = HostileUnitEnum.values();
+        for (int i = 0; i < count; i++) {
+            var hostileUnitEnum = hostileUnitEnums[random.nextInt(hostileUnitEnums.length)];
+            hostileUnitEnum.toHostileUnit(getRandomPositionOnPath(path, random), null, hostileUnitStore);
+        }
+    }
+
+    /**
+     * Returns a random position on the path, which is either a waypoint or between two waypoints.
+     */
+    static Vector2 getRandomPositionOnPath(@NonNull Path path, @NonNull Random random) {
+        var waypoints = path.getWaypoints();
+        var index = random.nextInt(waypoints.length - 1);
+        var from = waypoints[index];
+        var to = waypoints[index + 1];
+        var progress = random.nextFloat();
+        return new Vector2(from.x() + (to.x() - from.x()) * progress, from.y() + (to.y() - from.y()) * progress);
+    }
+
+    /**
+     * Creates a game handler in the wave phase with random towers and the specified number of hostile units on the
+     * path. The player has endless spice and health, so the game can't be lost during the benchmark.
+     */
+    static GameHandler createGameHandlerInWavePhase(int gridSize, int hostileUnitCount, @NonNull Random random) {
+        var gameHandler = new GameHandler(gridSize, gridSize);
+
+        var towerEnums = TowerEnum.values();
+        var towerCount = (int) (gridSize * gridSize * TOWER_DENSITY);
+        for (int i = 0; i < towerCount; i++) {
+            // Towers which would block the path are rejected by the game handler
+            var towerEnum = towerEnums[random.nextInt(towerEnums.length)];
+            gameHandler.buildTower(towerEnum, random.nextInt(gridSize), random.nextInt(gridSize));
+        }
+
+        // The first update after skipping the build phase starts the wave
+        gameHandler.skipBuildPhase();
+        gameHandler.update(DELTA_TIME_IN_MILLISECONDS);
+
+        addHostileUnitsOnPath(gameHandler.getPath(), hostileUnitCount, gameHandler.getHostileUnitStore(), random);
+        return gameHandler;
+    }
+}
@@ -0,0 +1,60 @@
+package io.swapastack.dunetd.benchmarks;
+
+import io.swapastack.dunetd.game.GameHandler;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one second of the wave phase (60 updates) with random towers and hostile units on the path. Every
+ * invocation starts from the same scenario, because the hostile units move and die during the updates. The hostile
+ * units on the path are added on top of the first wave, which the game handler releases during the updates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameHandlerBenchmark {
+
+    private static final int UPDATES_PER_INVOCATION = 60;
+
+    @Param({"10", "20"})
+    public int gridSize;
+
+    /**
+     * Number of hostile units placed on the path, in addition to the hostile units of the first wave
+     */
+    @Param({"100", "1000", "5000"})
+    public int waveSize;
+
+    private GameHandler gameHandler;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        gameHandler = BenchmarkScenarios.createGameHandlerInWavePhase(gridSize, waveSize,
+                new Random(BenchmarkScenarios.SEED));
+    }
+
+    @Benchmark
+    public int update() {
+        for (int i = 0; i < UPDATES_PER_INVOCATION; i++) {
+            gameHandler.update(BenchmarkScenarios.DELTA_TIME_IN_MILLISECONDS);
+        }
+        return gameHandler.getPlayerSpice();
+    }
+}
@@ -0,0 +1,68 @@
+package io.swapastack.dunetd.benchmarks;
+
+import io.swapastack.dunetd.hostileunits.HostileUnitStore;
+import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures moving the specified number of hostile units along the path for one second (60 updates). Every invocation
+ * starts from the same positions, so hostile units don't pile up at the end of the path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HostileUnitBenchmark {
+
+    private static final int GRID_SIZE = 50;
+
+    private static final int UPDATES_PER_INVOCATION = 60;
+
+    @Param({"100", "1000", "10000"})
+    public int hostileUnitCount;
+
+    private Path path;
+
+    private HostileUnitStore hostileUnitStore;
+
+    @Setup
+    public void setUpPath() {
+        var grid = BenchmarkScenarios.createGrid(GRID_SIZE, GRID_SIZE, new Random(BenchmarkScenarios.SEED));
+        path = Path.calculatePath(grid, Vector2.ZERO, new Vector2(GRID_SIZE - 1f, GRID_SIZE - 1f));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpHostileUnits() {
+        hostileUnitStore = new HostileUnitStore(hostileUnitCount);
+        BenchmarkScenarios.addHostileUnitsOnPath(path, hostileUnitCount, hostileUnitStore,
+                new Random(BenchmarkScenarios.SEED));
+    }
+
+    @Benchmark
+    public HostileUnitStore move() {
+        for (int i = 0; i < UPDATES_PER_INVOCATION; i++) {
+            for (int slot = 0; slot < hostileUnitStore.getSize(); slot++) {
+                hostileUnitStore.getHostileUnit(slot).move(path, BenchmarkScenarios.DELTA_TIME_IN_MILLISECONDS);
+            }
+        }
+        return hostileUnitStore;
+    }
+}
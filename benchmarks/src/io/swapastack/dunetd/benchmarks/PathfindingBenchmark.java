@@ -0,0 +1,66 @@
+package io.swapastack.dunetd.benchmarks;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+
+import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.pathfinding.EntityGraph;
+import io.swapastack.dunetd.pathfinding.EntityNode;
+import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the path finding on grids with random towers. {@link Path#calculatePath(Entity[][], Vector2, Vector2)}
+ * includes building the graph, {@link EntityGraph#findPath(Vector2, Vector2)} only searches an existing graph.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PathfindingBenchmark {
+
+    @Param({"20", "50", "100"})
+    public int gridSize;
+
+    private Entity[][] grid;
+
+    private EntityGraph entityGraph;
+
+    private Vector2 start;
+
+    private Vector2 end;
+
+    @Setup
+    public void setUp() {
+        grid = BenchmarkScenarios.createGrid(gridSize, gridSize, new Random(BenchmarkScenarios.SEED));
+        entityGraph = new EntityGraph(grid);
+        start = Vector2.ZERO;
+        end = new Vector2(gridSize - 1f, gridSize - 1f);
+    }
+
+    @Benchmark
+    public Path calculatePath() {
+        return Path.calculatePath(grid, start, end);
+    }
+
+    @Benchmark
+    public GraphPath<EntityNode> findPath() {
+        return entityGraph.findPath(start, end);
+    }
+}
@@ -0,0 +1,98 @@
+package io.swapastack.dunetd.benchmarks;
+
+import io.swapastack.dunetd.entities.towers.Tower;
+import io.swapastack.dunetd.entities.towers.TowerRegistry;
+import io.swapastack.dunetd.game.Statistics;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
+import io.swapastack.dunetd.hostileunits.HostileUnitStore;
+import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.shaihulud.ShaiHulud;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an attack of the shai hulud, from summoning it until it left the grid, on a grid with random towers and
+ * the specified number of hostile units on the path. Every invocation starts from the same scenario, because the shai
+ * hulud kills hostile units and destroys towers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ShaiHuludBenchmark {
+
+    private static final int GRID_SIZE = 20;
+
+    /**
+     * Maximum number of updates of an attack, prevents an endless benchmark if the shai hulud never leaves the grid
+     */
+    private static final int MAX_UPDATES_PER_ATTACK = 100_000;
+
+    @Param({"10", "100", "1000"})
+    public int hostileUnitCount;
+
+    private ShaiHulud shaiHulud;
+
+    private HostileUnitSpatialIndex hostileUnitSpatialIndex;
+
+    private Statistics statistics;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        var random = new Random(BenchmarkScenarios.SEED);
+        var grid = BenchmarkScenarios.createGrid(GRID_SIZE, GRID_SIZE, random);
+        var path = Path.calculatePath(grid, Vector2.ZERO, new Vector2(GRID_SIZE - 1f, GRID_SIZE - 1f));
+
+        var towerRegistry = new TowerRegistry(GRID_SIZE);
+        for (var column : grid) {
+            for (var entity : column) {
+                if (entity instanceof Tower tower) {
+                    towerRegistry.add(tower);
+                }
+            }
+        }
+
+        var hostileUnitStore = new HostileUnitStore(hostileUnitCount);
+        BenchmarkScenarios.addHostileUnitsOnPath(path, hostileUnitCount, hostileUnitStore, random);
+        hostileUnitSpatialIndex = new HostileUnitSpatialIndex(GRID_SIZE, GRID_SIZE);
+        hostileUnitSpatialIndex.rebuild(hostileUnitStore);
+        statistics = new Statistics();
+
+        // Let the shai hulud cross the grid horizontally in the middle row
+        shaiHulud = new ShaiHulud(grid, towerRegistry, null);
+        shaiHulud.setThumper(new Vector2(0, GRID_SIZE / 2f));
+        shaiHulud.setThumper(new Vector2(GRID_SIZE - 1f, GRID_SIZE / 2f));
+    }
+
+    @Benchmark
+    public Statistics attack() {
+        // The first update summons the shai hulud, it vanishes when it leaves the grid
+        shaiHulud.update(hostileUnitSpatialIndex, BenchmarkScenarios.DELTA_TIME_IN_MILLISECONDS, statistics);
+        var updates = 1;
+        while (shaiHulud.getGridPosition() != null) {
+            if (updates >= MAX_UPDATES_PER_ATTACK) {
+                throw new IllegalStateException("The shai hulud didn't leave the grid after " + updates + " updates");
+            }
+            shaiHulud.update(hostileUnitSpatialIndex, BenchmarkScenarios.DELTA_TIME_IN_MILLISECONDS, statistics);
+            updates++;
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,89 @@
+package io.swapastack.dunetd.benchmarks;
+
+import io.swapastack.dunetd.entities.towers.Tower;
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
+import io.swapastack.dunetd.hostileunits.HostileUnitStore;
+import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import lombok.NonNull;
+
+/**
+ * Measures the update of a single tower next to the path with the specified number of hostile units on the path. The
+ * hostile units can't die, so every invocation finds the same hostile units.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TowerBenchmark {
+
+    private static final int GRID_SIZE = 20;
+
+    @Param({"GUARD_TOWER", "BOMB_TOWER", "SOUND_TOWER"})
+    public TowerEnum towerEnum;
+
+    @Param({"10", "100", "1000"})
+    public int hostileUnitCount;
+
+    private Tower tower;
+
+    private HostileUnitSpatialIndex hostileUnitSpatialIndex;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(BenchmarkScenarios.SEED);
+        var grid = BenchmarkScenarios.createGrid(GRID_SIZE, GRID_SIZE, random);
+        var path = Path.calculatePath(grid, Vector2.ZERO, new Vector2(GRID_SIZE - 1f, GRID_SIZE - 1f));
+
+        var hostileUnitStore = new HostileUnitStore(hostileUnitCount);
+        for (int i = 0; i < hostileUnitCount; i++) {
+            new ImmortalHostileUnit(BenchmarkScenarios.getRandomPositionOnPath(path, random), hostileUnitStore);
+        }
+        hostileUnitSpatialIndex = new HostileUnitSpatialIndex(GRID_SIZE, GRID_SIZE);
+        hostileUnitSpatialIndex.rebuild(hostileUnitStore);
+
+        // The tower only uses its position, so it can stand on the path in the middle of the grid
+        tower = towerEnum.toTower(0, path.getWaypoint(path.getWaypoints().length / 2), null);
+    }
+
+    @Benchmark
+    public Tower update() {
+        tower.update(BenchmarkScenarios.DELTA_TIME_IN_MILLISECONDS, hostileUnitSpatialIndex);
+        return tower;
+    }
+
+    /**
+     * Hostile unit with so much health, that it survives every benchmark
+     */
+    private static final class ImmortalHostileUnit extends HostileUnit {
+
+        private ImmortalHostileUnit(@NonNull Vector2 position, @NonNull HostileUnitStore hostileUnitStore) {
+            super(position, 0f, Integer.MAX_VALUE, null, hostileUnitStore);
+        }
+
+        @Override
+        public int getSpiceReward() {
+            return 0;
+        }
+    }
+}
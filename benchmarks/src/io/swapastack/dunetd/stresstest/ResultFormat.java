@@ -0,0 +1,107 @@
+package io.swapastack.dunetd.stresstest;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.NonNull;
+
+/**
+ * Represents the formats in which the results of a stress test can be written:<br>
+ * - CSV: One line per wave with a header line.<br>
+ * - JSON: An object with the scenario and an array with one object per wave.
+ */
+public enum ResultFormat {
+    CSV {
+        @Override
+        void write(@NonNull StressTestScenario scenario, @NonNull List<WaveResult> waveResults,
+                   @NonNull PrintWriter writer) {
+            writer.println("wave,ticks,ticksPerSecond,p50TickTimeInMicroseconds,p99TickTimeInMicroseconds,"
+                    + "peakHostileUnitsAlive,allocationRateInMegabytesPerSecond,gcCount,gcTimeInMilliseconds");
+            for (var result : waveResults) {
+                writer.println(String.format(Locale.ROOT, "%d,%d,%.1f,%.2f,%.2f,%d,%.2f,%d,%d", result.waveNumber(),
+                        result.ticks(), result.ticksPerSecond(), result.p50TickTimeInMicroseconds(),
+                        result.p99TickTimeInMicroseconds(), result.peakHostileUnitsAlive(),
+                        result.allocationRateInMegabytesPerSecond(), result.gcCount(),
+                        result.gcTimeInMilliseconds()));
+            }
+        }
+    },
+    JSON {
+        @Override
+        void write(@NonNull StressTestScenario scenario, @NonNull List<WaveResult> waveResults,
+                   @NonNull PrintWriter writer) {
+            writer.println("{");
+            writer.println("  \"scenario\": {");
+            writer.println(String.format(Locale.ROOT, "    \"gridWidth\": %d,", scenario.gridWidth()));
+            writer.println(String.format(Locale.ROOT, "    \"gridHeight\": %d,", scenario.gridHeight()));
+            writer.println(String.format(Locale.ROOT, "    \"towerLayout\": \"%s\",", scenario.towerLayout()));
+            writer.println(String.format(Locale.ROOT, "    \"seed\": %d,", scenario.seed()));
+            writer.println(String.format(Locale.ROOT, "    \"waveCount\": %d,", scenario.waveCount()));
+            writer.println("    \"configOverrides\": {");
+            // Sorted, so results of the same scenario can be compared line by line
+            var configOverrides = new TreeMap<>(scenario.configOverrides()).entrySet().iterator();
+            while (configOverrides.hasNext()) {
+                Map.Entry<String, String> entry = configOverrides.next();
+                writer.println(String.format(Locale.ROOT, "      \"%s\": \"%s\"%s", escape(entry.getKey()),
+                        escape(entry.getValue()), configOverrides.hasNext() ? "," : ""));
+            }
+            writer.println("    }");
+            writer.println("  },");
+            writer.println("  \"waves\": [");
+            for (int i = 0; i < waveResults.size(); i++) {
+                var result = waveResults.get(i);
+                writer.println(String.format(Locale.ROOT, "    {\"wave\": %d, \"ticks\": %d, \"ticksPerSecond\": %.1f, "
+                                + "\"p50TickTimeInMicroseconds\": %.2f, \"p99TickTimeInMicroseconds\": %.2f, "
+                                + "\"peakHostileUnitsAlive\": %d, \"allocationRateInMegabytesPerSecond\": %.2f, "
+                                + "\"gcCount\": %d, \"gcTimeInMilliseconds\": %d}%s", result.waveNumber(),
+                        result.ticks(), result.ticksPerSecond(), result.p50TickTimeInMicroseconds(),
+                        result.p99TickTimeInMicroseconds(), result.peakHostileUnitsAlive(),
+                        result.allocationRateInMegabytesPerSecond(), result.gcCount(), result.gcTimeInMilliseconds(),
+                        i < waveResults.size() - 1 ? "," : ""));
+            }
+            writer.println("  ]");
+            writer.println("}");
+        }
+    };
+
+    /**
+     * Writes the results of a stress test in this format.
+     *
+     * @param scenario    Scenario of the stress test
+     * @param waveResults Results of the played waves
+     * @param writer      Writer to write the results to
+     */
+    abstract void write(@NonNull StressTestScenario scenario, @NonNull List<WaveResult> waveResults,
+                        @NonNull PrintWriter writer);
+
+    /**
+     * Escapes the specified string, so it can be written as a JSON string.
+     *
+     * @param value String to escape
+     * @return Escaped string without the enclosing quotes
+     */
+    static @NotNull String escape(@NonNull String value) {
+        var escapedValue = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            var character = value.charAt(i);
+            switch (character) {
+                case '"' -> escapedValue.append("\\\"");
+                case '\\' -> escapedValue.append("\\\\");
+                default -> {
+                    // Control characters aren't allowed in JSON strings
+                    if (character < ' ') {
+                        escapedValue.append(String.format(Locale.ROOT, "\\u%04x", (int) character));
+                    } else {
+                        escapedValue.append(character);
+                    }
+                }
+            }
+        }
+        return escapedValue.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package io.swapastack.dunetd.stresstest;
+
+import io.swapastack.dunetd.config.Configuration;
+import io.swapastack.dunetd.game.GameHandler;
+import io.swapastack.dunetd.game.GamePhase;
+import io.swapastack.dunetd.simulation.SimulationEngine;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.NonNull;
+
+/**
+ * Headless runner which plays scripted games through the {@link GameHandler} without a rendering context and records
+ * the performance of every wave. The same scenario always plays the same game, so the results of different builds
+ * can be compared.
+ */
+public final class StressTestRunner {
+
+    private final StressTestScenario scenario;
+
+    /**
+     * Creates a runner for the specified scenario and applies the configuration overrides of the scenario. Game
+     * classes read the configuration when they are loaded, so no game class may be used before.
+     *
+     * @param scenario Scenario to play
+     */
+    public StressTestRunner(@NonNull StressTestScenario scenario) {
+        this.scenario = scenario;
+
+        var configuration = Configuration.getInstance();
+        scenario.configOverrides().forEach(configuration::overrideProperty);
+    }
+
+    public static void main(String[] args) throws IOException {
+        StressTestScenario scenario;
+        try {
+            scenario = StressTestScenario.fromArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        var waveResults = new StressTestRunner(scenario).run();
+
+        if (scenario.output() == null) {
+            var writer = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            scenario.format().write(scenario, waveResults, writer);
+            writer.flush();
+        } else {
+            try (var writer = new PrintWriter(Files.newBufferedWriter(scenario.output(), StandardCharsets.UTF_8))) {
+                scenario.format().write(scenario, waveResults, writer);
+            }
+        }
+    }
+
+    /**
+     * Plays the game of the scenario until all waves were played or the game is over.
+     *
+     * @return Results of the played waves
+     * @throws IllegalStateException If the tower layout doesn't contain a single tower, because the game only starts
+     *                               when the first tower was built
+     */
+    public @NotNull List<WaveResult> run() throws IllegalStateException {
+        var gameHandler = new GameHandler(scenario.gridWidth(), scenario.gridHeight());
+        scenario.towerLayout().build(gameHandler, new Random(scenario.seed()));
+        if (!gameHandler.isGameStarted()) {
+            throw new IllegalStateException("The tower layout must contain at least one tower to start the game");
+        }
+
+        var engine = new SimulationEngine(gameHandler);
+        var waveResults = new ArrayList<WaveResult>(scenario.waveCount());
+        // Stops if the game is over or a wave was aborted because it exceeded the maximum number of ticks
+        while (waveResults.size() < scenario.waveCount() && gameHandler.getGamePhase() == GamePhase.BUILD_PHASE) {
+            // The build phase isn't measured, the next tick starts the wave
+            gameHandler.skipBuildPhase();
+            engine.runTicks(1);
+
+            waveResults.add(playWave(engine));
+        }
+        return waveResults;
+    }
+
+    private @NotNull WaveResult playWave(@NonNull SimulationEngine engine) {
+        var gameHandler = engine.getGameHandler();
+        var recorder = new WaveRecorder(gameHandler.getWaveNumber());
+
+        var ticks = 0;
+        while (gameHandler.getGamePhase() == GamePhase.WAVE_PHASE && ticks < scenario.maxTicksPerWave()) {
+            var startTime = System.nanoTime();
+            engine.runTicks(1);
+            recorder.recordTick(System.nanoTime() - startTime, gameHandler.getHostileUnitStore().getSize());
+            ticks++;
+        }
+        return recorder.finish();
+    }
+}
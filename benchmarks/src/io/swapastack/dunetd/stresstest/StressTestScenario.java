@@ -0,0 +1,123 @@
+package io.swapastack.dunetd.stresstest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import lombok.NonNull;
+
+/**
+ * Scenario of a stress test, parsed from the command line arguments of the {@link StressTestRunner}.
+ *
+ * @param gridWidth          Width of the grid
+ * @param gridHeight         Height of the grid
+ * @param towerLayout        Layout of the towers, which are built before the first wave
+ * @param seed               Seed of the random number generator used for the tower layout
+ * @param waveCount          Number of waves to play, the test stops earlier if the game is over
+ * @param maxTicksPerWave    Maximum number of ticks per wave, prevents endless waves
+ * @param configOverrides    Values which override the values of the configuration file
+ * @param format             Format of the results
+ * @param output             File to write the results to or null to write them to the standard output
+ */
+public record StressTestScenario(int gridWidth, int gridHeight, @NonNull TowerLayout towerLayout, long seed,
+                                 int waveCount, int maxTicksPerWave, @NonNull Map<String, String> configOverrides,
+                                 @NonNull ResultFormat format, @Nullable Path output) {
+
+    static final String USAGE = """
+            Usage: StressTestRunner [options]
+              --grid=<width>x<height>      Grid dimensions (default: 20x20)
+              --layout=<random|maze>       Tower layout built before the first wave (default: maze)
+              --seed=<long>                Seed of the tower layout (default: 42)
+              --waves=<int>                Number of waves to play (default: 20)
+              --max-ticks-per-wave=<int>   Maximum number of ticks per wave (default: 1000000)
+              --set=<KEY>=<VALUE>          Overrides a value of config.properties, can be repeated
+              --format=<csv|json>          Format of the results (default: csv)
+              --output=<file>              File to write the results to (default: standard output)""";
+
+    /**
+     * Spice of the player if not overridden, so every tower layout can be built
+     */
+    private static final String DEFAULT_PLAYER_INITIAL_SPICE = "1000000000";
+
+    /**
+     * Parses a scenario from command line arguments.
+     *
+     * @param arguments Command line arguments in the format described by {@link #USAGE}
+     * @return Parsed scenario
+     * @throws IllegalArgumentException If an argument is unknown or has an invalid value
+     */
+    public static @NotNull StressTestScenario fromArguments(@NonNull String[] arguments)
+            throws IllegalArgumentException {
+        var gridWidth = 20;
+        var gridHeight = 20;
+        var towerLayout = TowerLayout.MAZE;
+        var seed = 42L;
+        var waveCount = 20;
+        var maxTicksPerWave = 1_000_000;
+        var configOverrides = new LinkedHashMap<String, String>();
+        var format = ResultFormat.CSV;
+        Path output = null;
+
+        for (var argument : arguments) {
+            var separatorIndex = argument.indexOf('=');
+            if (!argument.startsWith("--") || separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid argument '" + argument + "'\n" + USAGE);
+            }
+            var name = argument.substring(2, separatorIndex);
+            var value = argument.substring(separatorIndex + 1);
+
+            try {
+                switch (name) {
+                    case "grid" -> {
+                        var dimensions = value.toLowerCase(Locale.ROOT).split("x");
+                        if (dimensions.length != 2) {
+                            throw new IllegalArgumentException("Invalid grid dimensions '" + value + "'");
+                        }
+                        gridWidth = Integer.parseInt(dimensions[0]);
+                        gridHeight = Integer.parseInt(dimensions[1]);
+                    }
+                    case "layout" -> towerLayout = TowerLayout.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "seed" -> seed = Long.parseLong(value);
+                    case "waves" -> waveCount = Integer.parseInt(value);
+                    case "max-ticks-per-wave" -> maxTicksPerWave = Integer.parseInt(value);
+                    case "set" -> {
+                        var overrideSeparatorIndex = value.indexOf('=');
+                        if (overrideSeparatorIndex < 1) {
+                            throw new IllegalArgumentException("Invalid config override '" + value + "'");
+                        }
+                        configOverrides.put(value.substring(0, overrideSeparatorIndex).trim(),
+                                value.substring(overrideSeparatorIndex + 1).trim());
+                    }
+                    case "format" -> format = ResultFormat.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "output" -> output = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unknown argument '" + argument + "'\n" + USAGE);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in argument '" + argument + "'", e);
+            }
+        }
+
+        if (gridWidth < 2 || gridHeight < 2) {
+            throw new IllegalArgumentException("The grid must have a width and height of at least 2");
+        }
+        if (waveCount < 1 || maxTicksPerWave < 1) {
+            throw new IllegalArgumentException("The number of waves and ticks per wave must be at least 1");
+        }
+
+        // The grid size of a stress test isn't limited by the game's maximum grid size and the towers are paid from
+        // the player's spice, explicit overrides take precedence
+        var effectiveConfigOverrides = new LinkedHashMap<String, String>();
+        effectiveConfigOverrides.put("MAX_GRID_WIDTH", Integer.toString(gridWidth));
+        effectiveConfigOverrides.put("MAX_GRID_HEIGHT", Integer.toString(gridHeight));
+        effectiveConfigOverrides.put("MAX_WAVE_COUNT", Integer.toString(waveCount));
+        effectiveConfigOverrides.put("PLAYER_INITIAL_SPICE", DEFAULT_PLAYER_INITIAL_SPICE);
+        effectiveConfigOverrides.putAll(configOverrides);
+
+        return new StressTestScenario(gridWidth, gridHeight, towerLayout, seed, waveCount, maxTicksPerWave,
+                Map.copyOf(effectiveConfigOverrides), format, output);
+    }
+}
@@ -0,0 +1,61 @@
+package io.swapastack.dunetd.stresstest;
+
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.game.GameHandler;
+
+import java.util.Random;
+
+import lombok.NonNull;
+
+/**
+ * Represents the tower layouts, which can be built before the first wave of a stress test:<br>
+ * - RANDOM: Towers of random types on random tiles, covering around a fifth of the grid.<br>
+ * - MAZE: Every second column is filled with towers of random types, so the hostile units have to walk a serpentine
+ * path.
+ */
+public enum TowerLayout {
+    RANDOM {
+        @Override
+        void build(@NonNull GameHandler gameHandler, @NonNull Random random) {
+            var width = gameHandler.getGridWidth();
+            var height = gameHandler.getGridHeight();
+            var towerCount = (int) (width * height * RANDOM_TOWER_DENSITY);
+            for (int i = 0; i < towerCount; i++) {
+                gameHandler.buildTower(getRandomTowerEnum(random), random.nextInt(width), random.nextInt(height));
+            }
+        }
+    },
+    MAZE {
+        @Override
+        void build(@NonNull GameHandler gameHandler, @NonNull Random random) {
+            var height = gameHandler.getGridHeight();
+            for (int x = 1; x < gameHandler.getGridWidth() - 1; x += 2) {
+                // The tower which would block the path is rejected, so the gap alternates between top and bottom
+                var fromBottom = x % 4 == 1;
+                for (int i = 0; i < height; i++) {
+                    var y = fromBottom ? i : height - 1 - i;
+                    gameHandler.buildTower(getRandomTowerEnum(random), x, y);
+                }
+            }
+        }
+    };
+
+    /**
+     * Share of the tiles on which a tower is placed in the random layout
+     */
+    private static final float RANDOM_TOWER_DENSITY = 0.2f;
+
+    /**
+     * Builds the towers of this layout. Towers which can't be built, because they would block the path or the tile
+     * is occupied, are skipped.
+     *
+     * @param gameHandler Game handler in the build phase
+     * @param random      Random number generator of the scenario
+     */
+    abstract void build(@NonNull GameHandler gameHandler, @NonNull Random random);
+
+    private static TowerEnum getRandomTowerEnum(@NonNull Random random) {
+        var towerEnums = TowerEnum.values();
+        return towerEnums[random.nextInt(towerEnums.length)];
+    }
+}
@@ -0,0 +1,114 @@
+package io.swapastack.dunetd.stresstest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.NonNull;
+
+/**
+ * Records the tick durations, hostile unit counts, allocations and garbage collections of a single wave. The
+ * allocations are measured for the current thread, so the recorder has to be used by the thread running the
+ * simulation.
+ */
+final class WaveRecorder {
+
+    private static final double NANOSECONDS_PER_MICROSECOND = 1_000d;
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000d;
+    private static final double BYTES_PER_MEGABYTE = 1024d * 1024d;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeans;
+
+    private final int waveNumber;
+
+    /**
+     * Durations of the recorded ticks in nanoseconds
+     */
+    private long[] tickTimesInNanoseconds;
+    private int ticks;
+    private int peakHostileUnitsAlive;
+
+    private final long startTimeInNanoseconds;
+    private final long startAllocatedBytes;
+    private final long startGcCount;
+    private final long startGcTimeInMilliseconds;
+
+    /**
+     * Starts the recording of a wave.
+     *
+     * @param waveNumber Number of the recorded wave
+     */
+    WaveRecorder(int waveNumber) {
+        this.waveNumber = waveNumber;
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        garbageCollectorMXBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        tickTimesInNanoseconds = new long[1024];
+        ticks = 0;
+        peakHostileUnitsAlive = 0;
+
+        startGcCount = getGcCount();
+        startGcTimeInMilliseconds = getGcTimeInMilliseconds();
+        startAllocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        startTimeInNanoseconds = System.nanoTime();
+    }
+
+    /**
+     * Records a single tick.
+     *
+     * @param tickTimeInNanoseconds Duration of the tick
+     * @param hostileUnitsAlive     Number of hostile units on the grid after the tick
+     */
+    void recordTick(long tickTimeInNanoseconds, int hostileUnitsAlive) {
+        if (ticks == tickTimesInNanoseconds.length) {
+            tickTimesInNanoseconds = Arrays.copyOf(tickTimesInNanoseconds, ticks * 2);
+        }
+        tickTimesInNanoseconds[ticks] = tickTimeInNanoseconds;
+        ticks++;
+        peakHostileUnitsAlive = Math.max(peakHostileUnitsAlive, hostileUnitsAlive);
+    }
+
+    /**
+     * Stops the recording and calculates the result of the wave.
+     *
+     * @return Result of the recorded wave
+     */
+    @NotNull WaveResult finish() {
+        var wallTimeInNanoseconds = System.nanoTime() - startTimeInNanoseconds;
+        var allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+        var gcCount = getGcCount() - startGcCount;
+        var gcTimeInMilliseconds = getGcTimeInMilliseconds() - startGcTimeInMilliseconds;
+
+        var sortedTickTimes = Arrays.copyOf(tickTimesInNanoseconds, ticks);
+        Arrays.sort(sortedTickTimes);
+        var wallTimeInSeconds = Math.max(wallTimeInNanoseconds, 1) / NANOSECONDS_PER_SECOND;
+
+        return new WaveResult(waveNumber, ticks, ticks / wallTimeInSeconds,
+                getPercentile(sortedTickTimes, 0.5) / NANOSECONDS_PER_MICROSECOND,
+                getPercentile(sortedTickTimes, 0.99) / NANOSECONDS_PER_MICROSECOND, peakHostileUnitsAlive,
+                allocatedBytes / BYTES_PER_MEGABYTE / wallTimeInSeconds, gcCount, gcTimeInMilliseconds);
+    }
+
+    /**
+     * Returns the specified percentile of the sorted values using the nearest-rank method.
+     */
+    static long getPercentile(@NonNull long[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        var rank = (int) Math.ceil(percentile * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+
+    private long getGcCount() {
+        // Collectors return -1 if the count is undefined
+        return garbageCollectorMXBeans.stream().mapToLong(bean -> Math.max(bean.getCollectionCount(), 0)).sum();
+    }
+
+    private long getGcTimeInMilliseconds() {
+        return garbageCollectorMXBeans.stream().mapToLong(bean -> Math.max(bean.getCollectionTime(), 0)).sum();
+    }
+}
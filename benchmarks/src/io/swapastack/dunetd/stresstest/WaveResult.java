@@ -0,0 +1,19 @@
+package io.swapastack.dunetd.stresstest;
+
+/**
+ * Measurements of a single wave of a stress test.
+ *
+ * @param waveNumber                         Number of the wave
+ * @param ticks                              Number of ticks until the wave was finished
+ * @param ticksPerSecond                     Number of ticks executed per second of wall time
+ * @param p50TickTimeInMicroseconds          Median duration of a tick
+ * @param p99TickTimeInMicroseconds          99th percentile of the duration of a tick
+ * @param peakHostileUnitsAlive              Maximum number of hostile units on the grid after a tick
+ * @param allocationRateInMegabytesPerSecond Megabytes allocated by the simulation thread per second of wall time
+ * @param gcCount                            Number of garbage collections during the wave
+ * @param gcTimeInMilliseconds               Accumulated time of the garbage collections during the wave
+ */
+public record WaveResult(int waveNumber, int ticks, double ticksPerSecond, double p50TickTimeInMicroseconds,
+                         double p99TickTimeInMicroseconds, int peakHostileUnitsAlive,
+                         double allocationRateInMegabytesPerSecond, long gcCount, long gcTimeInMilliseconds) {
+}
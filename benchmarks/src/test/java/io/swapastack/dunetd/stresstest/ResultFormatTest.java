@@ -0,0 +1,27 @@
+package io.swapastack.dunetd.stresstest;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ResultFormatTest {
+
+    @Test
+    void testEscape() {
+        Assertions.assertEquals("MAX_WAVE_COUNT", ResultFormat.escape("MAX_WAVE_COUNT"));
+        Assertions.assertEquals("a\\\"b\\\\c", ResultFormat.escape("a\"b\\c"));
+        Assertions.assertEquals("a\\u000ab\\u0009", ResultFormat.escape("a\nb\t"));
+    }
+
+    @Test
+    void testWriteJsonEscapesConfigOverrides() {
+        var scenario = StressTestScenario.fromArguments(new String[]{"--set=KEY\"=C:\\games"});
+        var output = new StringWriter();
+        ResultFormat.JSON.write(scenario, List.of(), new PrintWriter(output));
+
+        Assertions.assertTrue(output.toString().contains("\"KEY\\\"\": \"C:\\\\games\""), output.toString());
+    }
+}
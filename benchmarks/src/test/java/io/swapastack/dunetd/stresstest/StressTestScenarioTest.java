@@ -0,0 +1,74 @@
+package io.swapastack.dunetd.stresstest;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class StressTestScenarioTest {
+
+    @Test
+    void testFromArgumentsWithoutArguments() {
+        var scenario = StressTestScenario.fromArguments(new String[0]);
+        Assertions.assertEquals(20, scenario.gridWidth());
+        Assertions.assertEquals(20, scenario.gridHeight());
+        Assertions.assertEquals(TowerLayout.MAZE, scenario.towerLayout());
+        Assertions.assertEquals(42L, scenario.seed());
+        Assertions.assertEquals(20, scenario.waveCount());
+        Assertions.assertEquals(1_000_000, scenario.maxTicksPerWave());
+        Assertions.assertEquals(ResultFormat.CSV, scenario.format());
+        Assertions.assertNull(scenario.output());
+        Assertions.assertEquals("1000000000", scenario.configOverrides().get("PLAYER_INITIAL_SPICE"));
+    }
+
+    @Test
+    void testFromArgumentsWithValidArguments() {
+        var scenario = StressTestScenario.fromArguments(new String[]{"--grid=40X30", "--layout=random",
+                "--seed=7", "--waves=5", "--max-ticks-per-wave=100", "--format=json", "--output=results.json"});
+        Assertions.assertEquals(40, scenario.gridWidth());
+        Assertions.assertEquals(30, scenario.gridHeight());
+        Assertions.assertEquals(TowerLayout.RANDOM, scenario.towerLayout());
+        Assertions.assertEquals(7L, scenario.seed());
+        Assertions.assertEquals(5, scenario.waveCount());
+        Assertions.assertEquals(100, scenario.maxTicksPerWave());
+        Assertions.assertEquals(ResultFormat.JSON, scenario.format());
+        Assertions.assertEquals(Path.of("results.json"), scenario.output());
+
+        // The grid size and wave count are also passed to the game
+        Assertions.assertEquals("40", scenario.configOverrides().get("MAX_GRID_WIDTH"));
+        Assertions.assertEquals("30", scenario.configOverrides().get("MAX_GRID_HEIGHT"));
+        Assertions.assertEquals("5", scenario.configOverrides().get("MAX_WAVE_COUNT"));
+    }
+
+    @Test
+    void testFromArgumentsWithConfigOverrides() {
+        var scenario = StressTestScenario.fromArguments(new String[]{"--set=PLAYER_INITIAL_SPICE=5",
+                "--set= TOWER_TEAR_DOWN_REFUND = 0.5", "--set=SOME_KEY=a=b"});
+        Assertions.assertEquals("5", scenario.configOverrides().get("PLAYER_INITIAL_SPICE"));
+        Assertions.assertEquals("0.5", scenario.configOverrides().get("TOWER_TEAR_DOWN_REFUND"));
+        Assertions.assertEquals("a=b", scenario.configOverrides().get("SOME_KEY"));
+    }
+
+    @Test
+    void testFromArgumentsWithInvalidArguments() {
+        var invalidArguments = new String[][]{
+                {"grid=20x20"},
+                {"--grid"},
+                {"--unknown=1"},
+                {"--grid=20"},
+                {"--grid=axb"},
+                {"--grid=1x20"},
+                {"--seed=abc"},
+                {"--waves=0"},
+                {"--max-ticks-per-wave=0"},
+                {"--layout=spiral"},
+                {"--format=xml"},
+                {"--set=VALUE"},
+                {"--set==1"},
+        };
+        for (var arguments : invalidArguments) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> StressTestScenario.fromArguments(arguments),
+                    arguments[0]);
+        }
+    }
+}
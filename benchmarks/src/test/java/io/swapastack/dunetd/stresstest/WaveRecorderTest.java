@@ -0,0 +1,51 @@
+package io.swapastack.dunetd.stresstest;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WaveRecorderTest {
+
+    @Test
+    void testGetPercentileWithoutValues() {
+        Assertions.assertEquals(0, WaveRecorder.getPercentile(new long[0], 0.5));
+    }
+
+    @Test
+    void testGetPercentileWithSingleValue() {
+        var values = new long[]{7};
+        Assertions.assertEquals(7, WaveRecorder.getPercentile(values, 0.5));
+        Assertions.assertEquals(7, WaveRecorder.getPercentile(values, 0.99));
+    }
+
+    @Test
+    void testGetPercentileUsesNearestRank() {
+        // 1, 2, ..., 100
+        var values = LongStream.rangeClosed(1, 100).toArray();
+        Assertions.assertEquals(1, WaveRecorder.getPercentile(values, 0.0));
+        Assertions.assertEquals(50, WaveRecorder.getPercentile(values, 0.5));
+        Assertions.assertEquals(99, WaveRecorder.getPercentile(values, 0.99));
+        Assertions.assertEquals(100, WaveRecorder.getPercentile(values, 1.0));
+
+        // The rank is rounded up, so the median of four values is the second value
+        Assertions.assertEquals(20, WaveRecorder.getPercentile(new long[]{10, 20, 30, 40}, 0.5));
+        Assertions.assertEquals(40, WaveRecorder.getPercentile(new long[]{10, 20, 30, 40}, 0.99));
+    }
+
+    @Test
+    void testFinishCalculatesPercentilesOfRecordedTicks() {
+        var recorder = new WaveRecorder(3);
+        // Recorded in reverse order, more than the initial capacity of the recorder
+        for (int i = 2000; i > 0; i--) {
+            recorder.recordTick(i * 1_000L, i % 50);
+        }
+        var result = recorder.finish();
+
+        Assertions.assertEquals(3, result.waveNumber());
+        Assertions.assertEquals(2000, result.ticks());
+        Assertions.assertEquals(1000.0, result.p50TickTimeInMicroseconds(), 0.001);
+        Assertions.assertEquals(1980.0, result.p99TickTimeInMicroseconds(), 0.001);
+        Assertions.assertEquals(49, result.peakHostileUnitsAlive());
+    }
+}
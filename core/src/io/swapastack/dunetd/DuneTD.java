@@ -42,6 +42,14 @@ public final class DuneTD extends Game {
         changeScreen(ScreenType.LOADING_SCREEN);
     }
 
+    @Override
+    public void render() {
+        // Stream the game assets in the background, while the menus are shown
+        assetLoader.update();
+
+        super.render();
+    }
+
     @Override
     public void dispose() {
         // If screen is not null dispose all resources from screen
@@ -73,11 +81,13 @@ public final class DuneTD extends Game {
 
         // Create new screen and set it as current
         switch (screen) {
-            case LOADING_SCREEN -> setScreen(new LoadingScreen(this));
+            case LOADING_SCREEN -> setScreen(new LoadingScreen(this, ScreenType.MENU));
             case MENU -> setScreen(new MainMenuScreen(this));
             case NEW_GAME -> setScreen(new NewGameScreen(this));
             case LOAD_GAME -> setScreen(new LoadGameScreen(this));
-            case GAME -> setScreen(new GameScreen(this));
+            // Wait on the loading screen, if the game is started before all game assets were streamed
+            case GAME -> setScreen(assetLoader.isGameAssetsLoaded() ? new GameScreen(this)
+                    : new LoadingScreen(this, ScreenType.GAME));
             case SETTINGS -> setScreen(new SettingsScreen(this));
             case HIGHSCORE -> setScreen(new HighscoreScreen(this));
             case CREDITS -> setScreen(new CreditsScreen(this));
@@ -4,18 +4,22 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Disposable;
 import com.kotcrab.vis.ui.VisUI;
 
+import io.swapastack.dunetd.config.Configuration;
 import io.swapastack.dunetd.entities.portals.Portal;
 import io.swapastack.dunetd.entities.towers.TowerEnum;
 import io.swapastack.dunetd.hostileunits.HostileUnitEnum;
 import io.swapastack.dunetd.math.PixelsConverter;
 import io.swapastack.dunetd.vectors.Vector3;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 
 import org.jetbrains.annotations.NotNull;
@@ -40,6 +44,14 @@ public final class AssetLoader implements Disposable {
 
     private static final String GAME_ASSETS_NOT_LOADED_MESSAGE = "Game assets weren't loaded";
 
+    /**
+     * Maximum time per frame, which is spent on loading game assets in the background
+     */
+    private static final int STREAMING_MILLISECONDS_PER_FRAME = Configuration.getInstance()
+            .getIntProperty("ASSET_STREAMING_MILLISECONDS_PER_FRAME");
+
+    private static final String MAIN_MENU_BACKGROUND_PATH = "mainmenubackground.jpg";
+
     // Hostile unit information
     private static final String INFANTRY_MODEL_PATH = "cute_cyborg/scene.gltf";
     private static final Vector3 INFANTRY_MODEL_SCALE = new Vector3(0.02f, 0.04f, 0.03f);
@@ -72,6 +84,17 @@ public final class AssetLoader implements Disposable {
     private static final String SHAI_HULUD_TEXTURE_PATH = "icons/shaiHulud.png";
     private static final float TOWER_RESIZE_FACTOR = 0.14f;
 
+    /**
+     * Names of the icons in the icon atlas and the paths of their textures
+     */
+    private static final String[][] ICONS = {
+        {DRAWABLE_GUARD_TOWER_NAME, GUARD_TOWER_TEXTURE_PATH},
+        {DRAWABLE_BOMB_TOWER_NAME, BOMB_TOWER_TEXTURE_PATH},
+        {DRAWABLE_SOUND_TOWER_NAME, SOUND_TOWER_TEXTURE_PATH},
+        {DRAWABLE_SHAI_HULUD_NAME, SHAI_HULUD_TEXTURE_PATH},
+    };
+    private static final int ICON_ATLAS_PADDING = 2;
+
     private static final String KENNEY_BASE_PATH = "kenney_gltf/";
     private static final String KENNEY_ASSET_FILE = "kenney_assets.txt";
     private static final String KAY_KIT_BASE_PATH = "kaykit_gltf/";
@@ -84,12 +107,30 @@ public final class AssetLoader implements Disposable {
     private Drawable background;
     private Drawable selection;
 
-    @Getter
-    private Texture mainMenuBackgroundImage;
+    /**
+     * Resized icons packed into one texture, so the HUD draws them without switching textures
+     */
+    private TextureAtlas iconAtlas;
+
+    /**
+     * Size of the icons in the icon atlas in pixels, the atlas is rebuilt if the screen size requires another size
+     */
+    private int iconAtlasIconSize;
 
-    // Paths
-    private String[] kenneyModels;
-    private String[] kayKitModels;
+    /**
+     * Drawables of the icons in the icon atlas by their name
+     */
+    private final HashMap<String, Drawable> iconDrawables;
+
+    /**
+     * Paths of all models by their name, the models of the asset files and the models outside of them
+     */
+    private final HashMap<String, String> modelPaths;
+
+    /**
+     * Names of the models referenced by the game, which are loaded up front
+     */
+    private String[] modelManifest;
 
     // The AssetManager is used to load game assets like 3D gltf models or pngs
     @Getter
@@ -99,61 +140,161 @@ public final class AssetLoader implements Disposable {
     @Getter
     private final HashMap<String, SceneAsset> sceneAssetHashMap;
 
+    /**
+     * Hands out the scenes of the game models over the shared models of the scene assets
+     */
+    @Getter
+    private final SceneModelCache sceneModelCache;
+
+    private boolean loadingStarted;
+
+    /**
+     * True if all game assets are loaded and their scene assets were created
+     */
+    @Getter
+    private boolean gameAssetsLoaded;
+
     public AssetLoader() {
         assetManager = new AssetManager();
         sceneAssetHashMap = new HashMap<>();
+        sceneModelCache = new SceneModelCache(this::getSceneAsset);
+        iconDrawables = new HashMap<>();
+        modelPaths = new HashMap<>();
     }
 
-    public void loadGameAssets() {
-        mainMenuBackgroundImage = new Texture("mainmenubackground.jpg");
+    /**
+     * Queues all assets for loading, the assets of the menus first and the game assets afterwards. The asset manager
+     * loads its queue in order, so the menus can be shown as soon as {@link #isMenuAssetsLoaded()} returns true, while
+     * the game assets are still streamed with {@link #update()}. Does nothing if the loading was already started.
+     */
+    public void loadAssets() {
+        if (loadingStarted) {
+            return;
+        }
+        loadingStarted = true;
+
+        // The menu background is decoded on the loader thread of the asset manager
+        assetManager.load(MAIN_MENU_BACKGROUND_PATH, Texture.class);
+
+        // Load VisUI
+        VisUI.load(VisUI.SkinScale.X2);
+        background = VisUI.getSkin().getDrawable("window-bg");
+        selection = VisUI.getSkin().getDrawable("list-selection");
 
         // Configure asset manager to work with gdx gltf
         assetManager.setLoader(SceneAsset.class, ".gltf", new GLTFAssetLoader());
         assetManager.setLoader(SceneAsset.class, ".glb", new GLBAssetLoader());
 
-        // Load all 3D models listed in kenney_assets.txt file in blocking mode
-        var kenneyAssetsHandle = Gdx.files.internal(KENNEY_ASSET_FILE);
-        var kenneyFileContent = kenneyAssetsHandle.readString();
-        kenneyModels = kenneyFileContent.split("\\r?\\n");
-        for (var kenneyModel : kenneyModels) {
-            assetManager.load(KENNEY_BASE_PATH + kenneyModel, SceneAsset.class);
+        // The models listed in kenney_assets.txt and kaykit_assets.txt are only loaded, if they're referenced
+        addModelPaths(KENNEY_ASSET_FILE, KENNEY_BASE_PATH);
+        addModelPaths(KAY_KIT_ASSET_FILE, KAY_KIT_BASE_PATH);
+
+        // Models outside of the asset files are named by their path
+        for (var hostileUnitEnum : HostileUnitEnum.values()) {
+            var hostileUnitModelPath = getHostileUnitModelPath(hostileUnitEnum);
+            modelPaths.put(hostileUnitModelPath, hostileUnitModelPath);
+        }
+        modelPaths.put(SHAI_HULUD_MODEL_PATH, SHAI_HULUD_MODEL_PATH);
+
+        // Queue the referenced 3D models
+        modelManifest = createModelManifest();
+        for (var modelName : modelManifest) {
+            var modelPath = modelPaths.get(modelName);
+            if (modelPath == null) {
+                throw new IllegalStateException("The model " + modelName + " isn't listed in the asset files");
+            }
+            assetManager.load(modelPath, SceneAsset.class);
         }
+    }
 
-        var kayKitAssetsHandle = Gdx.files.internal(KAY_KIT_ASSET_FILE);
-        var kayKitFileContent = kayKitAssetsHandle.readString();
-        kayKitModels = kayKitFileContent.split("\\r?\\n");
-        for (var kayKitModel : kayKitModels) {
-            assetManager.load(KAY_KIT_BASE_PATH + kayKitModel, SceneAsset.class);
+    /**
+     * Adds the paths of all models listed in the specified asset file.
+     */
+    private void addModelPaths(@NonNull String assetFile, @NonNull String basePath) {
+        var fileContent = Gdx.files.internal(assetFile).readString();
+        for (var modelName : fileContent.split("\\r?\\n")) {
+            if (!modelName.isBlank()) {
+                modelPaths.put(modelName, basePath + modelName);
+            }
         }
+    }
 
-        // Load example enemy models
-        assetManager.load(BOSS_UNIT_MODEL_PATH, SceneAsset.class);
-        assetManager.load(INFANTRY_MODEL_PATH, SceneAsset.class);
-        assetManager.load(HARVESTER_MODEL_PATH, SceneAsset.class);
-        assetManager.load(SHAI_HULUD_MODEL_PATH, SceneAsset.class);
+    /**
+     * Creates the manifest of the models, which are referenced by the game. The models are taken from the same
+     * mappings as the game models, so every tower, hostile unit and ground tile type is covered.
+     *
+     * @return Names of the referenced models
+     */
+    private static String[] createModelManifest() {
+        var modelNames = new ArrayList<String>();
+        modelNames.add(TOWER_BASE_PATH);
+        modelNames.add(TOWER_DEBRIS_PATH);
+        modelNames.add(PORTAL_PATH);
+        modelNames.add(SHAI_HULUD_MODEL_PATH);
+        for (var towerEnum : TowerEnum.values()) {
+            modelNames.add(getTowerModelPath(towerEnum));
+        }
+        for (var hostileUnitEnum : HostileUnitEnum.values()) {
+            modelNames.add(getHostileUnitModelPath(hostileUnitEnum));
+        }
+        for (var groundTileEnum : GroundTileEnum.values()) {
+            modelNames.add(getGroundTileModelPath(groundTileEnum));
+        }
+        return modelNames.toArray(new String[0]);
+    }
 
-        // Load VisUI
-        VisUI.load(VisUI.SkinScale.X2);
-        background = VisUI.getSkin().getDrawable("window-bg");
-        selection = VisUI.getSkin().getDrawable("list-selection");
+    /**
+     * Continues loading the queued assets for at most the configured time per frame, has to be called every frame.
+     * The gltf models are parsed on the rendering thread, because their meshes and textures are uploaded in the same
+     * step, so the time is limited to keep the menus responsive. Creates the scene assets once all game assets are
+     * loaded.
+     *
+     * @return True if all game assets are loaded
+     */
+    public boolean update() {
+        if (!loadingStarted || gameAssetsLoaded) {
+            return gameAssetsLoaded;
+        }
+
+        if (assetManager.update(STREAMING_MILLISECONDS_PER_FRAME)) {
+            createSceneAssets();
+            gameAssetsLoaded = true;
+        }
+        return gameAssetsLoaded;
+    }
+
+    /**
+     * Returns if the assets needed by the menus are loaded.
+     *
+     * @return True if the menus can be shown
+     */
+    public boolean isMenuAssetsLoaded() {
+        return loadingStarted && assetManager.isLoaded(MAIN_MENU_BACKGROUND_PATH, Texture.class);
+    }
+
+    /**
+     * Returns the progress of loading all queued assets.
+     *
+     * @return Progress between 0 and 1
+     */
+    public float getProgress() {
+        return assetManager.getProgress();
     }
 
-    public void createSceneAssets() {
-        // Create scene assets for all loaded models
-        for (var kenneyModel : kenneyModels) {
-            var sceneAsset = assetManager.get(KENNEY_BASE_PATH + kenneyModel, SceneAsset.class);
-            sceneAssetHashMap.put(kenneyModel, sceneAsset);
+    public @NotNull Texture getMainMenuBackgroundImage() {
+        if (!isMenuAssetsLoaded()) {
+            throw new IllegalStateException("Menu assets weren't loaded");
         }
-        for (var kayKitModel : kayKitModels) {
-            var sceneAsset = assetManager.get(KAY_KIT_BASE_PATH + kayKitModel, SceneAsset.class);
-            sceneAssetHashMap.put(kayKitModel, sceneAsset);
+        return assetManager.get(MAIN_MENU_BACKGROUND_PATH, Texture.class);
+    }
+
+    private void createSceneAssets() {
+        // Create scene assets for all referenced models
+        for (var modelName : modelManifest) {
+            sceneAssetHashMap.put(modelName, assetManager.get(modelPaths.get(modelName), SceneAsset.class));
         }
 
-        // Create scene assets for hostile units
-        sceneAssetHashMap.put(BOSS_UNIT_MODEL_PATH, assetManager.get(BOSS_UNIT_MODEL_PATH));
-        sceneAssetHashMap.put(INFANTRY_MODEL_PATH, assetManager.get(INFANTRY_MODEL_PATH));
-        sceneAssetHashMap.put(HARVESTER_MODEL_PATH, assetManager.get(HARVESTER_MODEL_PATH));
-        sceneAssetHashMap.put(SHAI_HULUD_MODEL_PATH, assetManager.get(SHAI_HULUD_MODEL_PATH));
+        createIconAtlas(getIconSize());
     }
 
     /**
@@ -161,34 +302,75 @@ public final class AssetLoader implements Disposable {
      */
     @Override
     public void dispose() {
+        // Also disposes the main menu background image
         assetManager.dispose();
-        mainMenuBackgroundImage.dispose();
+        if (iconAtlas != null) {
+            iconAtlas.dispose();
+        }
         VisUI.dispose();
     }
 
-    public Drawable getDrawable(@NonNull String drawableName) {
+    /**
+     * Returns the drawable with the specified name. The icons are taken from the icon atlas, which is rebuilt first if
+     * the screen size changed since it was built, so drawables of the old size must not be used afterwards.
+     *
+     * @param drawableName Name of the drawable
+     * @return Drawable with the name
+     * @throws IllegalArgumentException If there's no drawable with the name
+     */
+    public Drawable getDrawable(@NonNull String drawableName) throws IllegalArgumentException {
         return switch (drawableName) {
             case DRAWABLE_BACKGROUND_NAME -> background;
             case DRAWABLE_SELECTION_NAME -> selection;
-            case DRAWABLE_GUARD_TOWER_NAME -> getResizedDrawable(GUARD_TOWER_TEXTURE_PATH);
-            case DRAWABLE_BOMB_TOWER_NAME -> getResizedDrawable(BOMB_TOWER_TEXTURE_PATH);
-            case DRAWABLE_SOUND_TOWER_NAME -> getResizedDrawable(SOUND_TOWER_TEXTURE_PATH);
-            case DRAWABLE_SHAI_HULUD_NAME -> getResizedDrawable(SHAI_HULUD_TEXTURE_PATH);
+            case DRAWABLE_GUARD_TOWER_NAME, DRAWABLE_BOMB_TOWER_NAME, DRAWABLE_SOUND_TOWER_NAME,
+                    DRAWABLE_SHAI_HULUD_NAME -> getIconDrawable(drawableName);
             default -> throw new IllegalArgumentException("There's no drawable with the name " + drawableName);
         };
     }
 
-    private Drawable getResizedDrawable(@NonNull String texturePath) {
-        var pixmapOriginal = new Pixmap(Gdx.files.internal(texturePath));
-        int size = (int) Math.min(PixelsConverter.getX(TOWER_RESIZE_FACTOR), PixelsConverter.getY(TOWER_RESIZE_FACTOR));
-        var pixmapResized = new Pixmap(size, size, pixmapOriginal.getFormat());
-        pixmapResized.drawPixmap(pixmapOriginal,
-                0, 0, pixmapOriginal.getWidth(), pixmapOriginal.getHeight(),
-                0, 0, pixmapResized.getWidth(), pixmapResized.getHeight());
-        var drawable = new TextureRegionDrawable(new TextureRegion(new Texture(pixmapResized)));
-        pixmapOriginal.dispose();
-        pixmapResized.dispose();
-        return drawable;
+    private Drawable getIconDrawable(@NonNull String iconName) {
+        var iconSize = getIconSize();
+        if (iconAtlas == null || iconAtlasIconSize != iconSize) {
+            createIconAtlas(iconSize);
+        }
+        return iconDrawables.get(iconName);
+    }
+
+    private static int getIconSize() {
+        return (int) Math.min(PixelsConverter.getX(TOWER_RESIZE_FACTOR), PixelsConverter.getY(TOWER_RESIZE_FACTOR));
+    }
+
+    /**
+     * Resizes all icons to the specified size and packs them into a new icon atlas, which replaces the old one.
+     */
+    private void createIconAtlas(int iconSize) {
+        // The icons are arranged in a square, so the page only has to be big enough for the icons per row and column
+        var iconsPerRow = (int) Math.ceil(Math.sqrt(ICONS.length));
+        var pageSize = MathUtils.nextPowerOfTwo(iconsPerRow * (iconSize + 2 * ICON_ATLAS_PADDING));
+        var packer = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, ICON_ATLAS_PADDING, false);
+        for (var icon : ICONS) {
+            var pixmapOriginal = new Pixmap(Gdx.files.internal(icon[1]));
+            var pixmapResized = new Pixmap(iconSize, iconSize, Pixmap.Format.RGBA8888);
+            pixmapResized.drawPixmap(pixmapOriginal,
+                    0, 0, pixmapOriginal.getWidth(), pixmapOriginal.getHeight(),
+                    0, 0, pixmapResized.getWidth(), pixmapResized.getHeight());
+            packer.pack(icon[0], pixmapResized);
+            pixmapOriginal.dispose();
+            pixmapResized.dispose();
+        }
+
+        if (iconAtlas != null) {
+            iconAtlas.dispose();
+        }
+        iconAtlas = packer.generateTextureAtlas(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear, false);
+        // Only disposes pages without texture, the others are disposed with the atlas
+        packer.dispose();
+        iconAtlasIconSize = iconSize;
+
+        iconDrawables.clear();
+        for (var icon : ICONS) {
+            iconDrawables.put(icon[0], new TextureRegionDrawable(iconAtlas.findRegion(icon[0])));
+        }
     }
 
     public @NotNull GameModelTower getTowerGameModel(@NonNull TowerEnum towerEnum) {
@@ -196,15 +378,10 @@ public final class AssetLoader implements Disposable {
             throw new IllegalStateException(GAME_ASSETS_NOT_LOADED_MESSAGE);
         }
 
-        var towerPath = switch (towerEnum) {
-            case GUARD_TOWER -> GUARD_TOWER_PATH;
-            case BOMB_TOWER -> BOMB_TOWER_PATH;
-            case SOUND_TOWER -> SOUND_TOWER_PATH;
-        };
-
+        var towerPath = getTowerModelPath(towerEnum);
         return new GameModelTower(
-                new GameModelPart(sceneAssetHashMap.get(TOWER_BASE_PATH).scene),
-                new GameModelPart(sceneAssetHashMap.get(towerPath).scene)
+                new GameModelPart(sceneModelCache.obtain(TOWER_BASE_PATH)),
+                new GameModelPart(sceneModelCache.obtain(towerPath))
         );
     }
 
@@ -214,7 +391,7 @@ public final class AssetLoader implements Disposable {
         }
 
         return new GameModelSingle(
-                new GameModelPart(sceneAssetHashMap.get(PORTAL_PATH).scene, PORTAL_MODEL_SCALE, 0f,
+                new GameModelPart(sceneModelCache.obtain(PORTAL_PATH), PORTAL_MODEL_SCALE, 0f,
                         Vector3.fromVector2(portal.getPosition(), 0))
         );
     }
@@ -225,7 +402,7 @@ public final class AssetLoader implements Disposable {
         }
 
         return new GameModelSingle(
-                new GameModelPart(sceneAssetHashMap.get(SHAI_HULUD_MODEL_PATH).scene, SHAI_HULUD_MODEL_SCALE, 0f,
+                new GameModelPart(sceneModelCache.obtain(SHAI_HULUD_MODEL_PATH), SHAI_HULUD_MODEL_SCALE, 0f,
                         Vector3.ZERO)
         );
     }
@@ -236,7 +413,7 @@ public final class AssetLoader implements Disposable {
             throw new IllegalStateException(GAME_ASSETS_NOT_LOADED_MESSAGE);
         }
 
-        return new GameModelPart(sceneAssetHashMap.get(TOWER_DEBRIS_PATH).scene, scale, rotation, position);
+        return new GameModelPart(sceneModelCache.obtain(TOWER_DEBRIS_PATH), scale, rotation, position);
     }
 
     public @NotNull GameModelSingle getHostileUnitGameModel(@NonNull HostileUnitEnum hostileUnitEnum) {
@@ -244,12 +421,7 @@ public final class AssetLoader implements Disposable {
             throw new IllegalStateException(GAME_ASSETS_NOT_LOADED_MESSAGE);
         }
 
-        var hostileUnitModelPath = switch (hostileUnitEnum) {
-            case INFANTRY -> INFANTRY_MODEL_PATH;
-            case HARVESTER -> HARVESTER_MODEL_PATH;
-            case BOSS_UNIT -> BOSS_UNIT_MODEL_PATH;
-        };
-
+        var hostileUnitModelPath = getHostileUnitModelPath(hostileUnitEnum);
         var hostileUnitModelScale = switch (hostileUnitEnum) {
             case INFANTRY -> INFANTRY_MODEL_SCALE;
             case HARVESTER -> HARVESTER_MODEL_SCALE;
@@ -267,7 +439,7 @@ public final class AssetLoader implements Disposable {
         }
 
         return new GameModelSingle(
-                new GameModelPart(sceneAssetHashMap.get(hostileUnitModelPath).scene, hostileUnitModelScale, 0f,
+                new GameModelPart(sceneModelCache.obtain(hostileUnitModelPath), hostileUnitModelScale, 0f,
                         Vector3.ZERO, offsetRotation, new Vector3(0f, offsetY, 0f))
         );
     }
@@ -277,14 +449,74 @@ public final class AssetLoader implements Disposable {
             throw new IllegalStateException(GAME_ASSETS_NOT_LOADED_MESSAGE);
         }
 
-        var scenePath = switch (groundTileEnum) {
+        var scenePath = getGroundTileModelPath(groundTileEnum);
+        return new GameModelSingle(
+                new GameModelPart(sceneModelCache.obtain(scenePath), GROUND_MODEL_SCALE, 0f, Vector3.ZERO)
+        );
+    }
+
+    private static @NotNull String getTowerModelPath(@NonNull TowerEnum towerEnum) {
+        return switch (towerEnum) {
+            case GUARD_TOWER -> GUARD_TOWER_PATH;
+            case BOMB_TOWER -> BOMB_TOWER_PATH;
+            case SOUND_TOWER -> SOUND_TOWER_PATH;
+        };
+    }
+
+    private static @NotNull String getHostileUnitModelPath(@NonNull HostileUnitEnum hostileUnitEnum) {
+        return switch (hostileUnitEnum) {
+            case INFANTRY -> INFANTRY_MODEL_PATH;
+            case HARVESTER -> HARVESTER_MODEL_PATH;
+            case BOSS_UNIT -> BOSS_UNIT_MODEL_PATH;
+        };
+    }
+
+    private static @NotNull String getGroundTileModelPath(@NonNull GroundTileEnum groundTileEnum) {
+        return switch (groundTileEnum) {
             case GROUND_TILE -> GROUND_TILE_PATH;
             case PATH_STRAIGHT -> PATH_TILE_STRAIGHT_PATH;
             case PATH_CURVE -> PATH_TILE_CURVE_PATH;
         };
+    }
 
-        return new GameModelSingle(
-                new GameModelPart(sceneAssetHashMap.get(scenePath).scene, GROUND_MODEL_SCALE, 0f, Vector3.ZERO)
-        );
+    /**
+     * Returns the scene asset of the model with the specified name. Models, which aren't referenced by the game, are
+     * loaded on their first request, which blocks until the model is loaded.
+     *
+     * @param modelName Name of the model in the asset files or the path of a model outside of them
+     * @return Scene asset of the model
+     * @throws IllegalStateException    If the game assets weren't loaded yet
+     * @throws IllegalArgumentException If there's no model with the name
+     */
+    public @NotNull SceneAsset getSceneAsset(@NonNull String modelName)
+            throws IllegalStateException, IllegalArgumentException {
+        if (!gameAssetsLoaded) {
+            throw new IllegalStateException(GAME_ASSETS_NOT_LOADED_MESSAGE);
+        }
+
+        var sceneAsset = sceneAssetHashMap.get(modelName);
+        if (sceneAsset == null) {
+            var modelPath = modelPaths.get(modelName);
+            if (modelPath == null) {
+                throw new IllegalArgumentException("There's no model with the name " + modelName);
+            }
+            // The queue of the asset manager is empty, so only this model is loaded
+            assetManager.load(modelPath, SceneAsset.class);
+            sceneAsset = assetManager.finishLoadingAsset(modelPath);
+            sceneAssetHashMap.put(modelName, sceneAsset);
+        }
+        return sceneAsset;
+    }
+
+    /**
+     * Releases the scenes of the specified game model, so they can be reused for other game models. The game model
+     * must not be used anymore afterwards.
+     *
+     * @param gameModel Game model created by this asset loader
+     */
+    public void freeGameModel(@NonNull GameModelInterface gameModel) {
+        for (var scene : gameModel.getScenes()) {
+            sceneModelCache.free(scene);
+        }
     }
 }
@@ -22,6 +22,24 @@ public interface GameModelInterface {
      */
     void rePosition(@NonNull Vector3 newPosition);
 
+    /**
+     * Sets the position on the ground and the rotation of the model and updates the model. Unlike
+     * {@link #rePositionAndRotate(Vector3, float)} no vector is needed, so models moved every frame don't allocate.
+     *
+     * @param x        New x coordinate of the model
+     * @param z        New z coordinate of the model
+     * @param rotation New rotation of the model
+     */
+    void rePositionAndRotate(float x, float z, float rotation);
+
+    /**
+     * Sets the position on the ground of the model and updates the model.
+     *
+     * @param x New x coordinate of the model
+     * @param z New z coordinate of the model
+     */
+    void rePosition(float x, float z);
+
     /**
      * Updates the animationController of the model.
      *
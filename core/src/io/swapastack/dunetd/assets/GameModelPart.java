@@ -2,11 +2,12 @@ package io.swapastack.dunetd.assets;
 
 import io.swapastack.dunetd.vectors.Vector3;
 
+import org.jetbrains.annotations.NotNull;
+
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import net.mgsx.gltf.scene3d.scene.Scene;
-import net.mgsx.gltf.scene3d.scene.SceneModel;
 
 public final class GameModelPart {
 
@@ -17,59 +18,76 @@ public final class GameModelPart {
     @Getter
     @Setter
     private float rotation;
-    @Getter
-    @Setter
-    private Vector3 position;
+    private float positionX;
+    private float positionY;
+    private float positionZ;
     private final float offsetRotation;
     private final Vector3 offsetPosition;
 
-    public GameModelPart(@NonNull SceneModel sceneModel) {
-        scene = new Scene(sceneModel);
+    public GameModelPart(@NonNull Scene scene) {
+        this.scene = scene;
         scale = new Vector3(1f, 1f, 1f);
         rotation = 0f;
-        position = Vector3.ZERO;
+        setPosition(Vector3.ZERO);
         offsetRotation = 0f;
         offsetPosition = Vector3.ZERO;
 
         update();
     }
 
-    public GameModelPart(@NonNull SceneModel sceneModel, @NonNull Vector3 scale, float rotation,
+    public GameModelPart(@NonNull Scene scene, @NonNull Vector3 scale, float rotation,
                          @NonNull Vector3 position) {
-        scene = new Scene(sceneModel);
+        this.scene = scene;
         this.scale = scale;
         this.rotation = rotation;
-        this.position = position;
+        setPosition(position);
         offsetRotation = 0f;
         offsetPosition = Vector3.ZERO;
 
         update();
     }
 
-    public GameModelPart(@NonNull SceneModel sceneModel, @NonNull Vector3 scale, float rotation,
+    public GameModelPart(@NonNull Scene scene, @NonNull Vector3 scale, float rotation,
                          @NonNull Vector3 position, float offsetRotation, @NonNull Vector3 offsetPosition) {
-        scene = new Scene(sceneModel);
+        this.scene = scene;
         this.scale = scale;
         this.rotation = rotation;
-        this.position = position;
+        setPosition(position);
         this.offsetRotation = offsetRotation;
         this.offsetPosition = offsetPosition;
 
         update();
     }
 
+    public @NotNull Vector3 getPosition() {
+        return new Vector3(positionX, positionY, positionZ);
+    }
+
+    public void setPosition(@NonNull Vector3 position) {
+        setPosition(position.x(), position.y(), position.z());
+    }
+
+    /**
+     * Sets the position of this model without creating a vector.
+     *
+     * @param x X coordinate of the position
+     * @param y Y coordinate of the position
+     * @param z Z coordinate of the position
+     */
+    public void setPosition(float x, float y, float z) {
+        positionX = x;
+        positionY = y;
+        positionZ = z;
+    }
+
     /**
      * Updates the position, scale and rotation of this model.
      */
     public void update() {
-        var newPosition = Vector3.add(position, offsetPosition);
-        var newPositionLibGdx = new com.badlogic.gdx.math.Vector3(newPosition.x(), newPosition.y(), newPosition.z());
-        var scaleLibGdx = new com.badlogic.gdx.math.Vector3(scale.x(), scale.y(), scale.z());
-        var axis = new com.badlogic.gdx.math.Vector3(0f, 1f, 0f);
-
-        scene.modelInstance.transform.setToTranslation(newPositionLibGdx)
-                .scale(scaleLibGdx.x, scaleLibGdx.y, scaleLibGdx.z)
-                .rotate(axis, (rotation + offsetRotation) % 360f);
+        scene.modelInstance.transform.setToTranslation(positionX + offsetPosition.x(),
+                        positionY + offsetPosition.y(), positionZ + offsetPosition.z())
+                .scale(scale.x(), scale.y(), scale.z())
+                .rotate(0f, 1f, 0f, (rotation + offsetRotation) % 360f);
     }
 
     /**
@@ -37,6 +37,32 @@ public final class GameModelSingle implements GameModelInterface {
         gameModelPart.update();
     }
 
+    /**
+     * Sets the position on the ground and the rotation of the model and updates the model.
+     *
+     * @param x        New x coordinate of the model
+     * @param z        New z coordinate of the model
+     * @param rotation New rotation of the model
+     */
+    @Override
+    public void rePositionAndRotate(float x, float z, float rotation) {
+        gameModelPart.setPosition(x, 0f, z);
+        gameModelPart.setRotation(rotation);
+        gameModelPart.update();
+    }
+
+    /**
+     * Sets the position on the ground of the model and updates the model.
+     *
+     * @param x New x coordinate of the model
+     * @param z New z coordinate of the model
+     */
+    @Override
+    public void rePosition(float x, float z) {
+        gameModelPart.setPosition(x, 0f, z);
+        gameModelPart.update();
+    }
+
     /**
      * Updates the animationController of the model.
      *
@@ -46,7 +46,7 @@ public final class GameModelTower implements GameModelInterface {
 
         // Only rotate top part of the model
         if (topTowerPart != null) {
-            topTowerPart.setPosition(new Vector3(newPosition.x(), topPartYValue, newPosition.z()));
+            topTowerPart.setPosition(newPosition.x(), topPartYValue, newPosition.z());
             topTowerPart.setRotation(rotation);
             topTowerPart.update();
         }
@@ -63,7 +63,44 @@ public final class GameModelTower implements GameModelInterface {
         baseTowerPart.update();
 
         if (topTowerPart != null) {
-            topTowerPart.setPosition(new Vector3(newPosition.x(), topPartYValue, newPosition.z()));
+            topTowerPart.setPosition(newPosition.x(), topPartYValue, newPosition.z());
+            topTowerPart.update();
+        }
+    }
+
+    /**
+     * Sets the position on the ground and the rotation of the model and updates the model.
+     *
+     * @param x        New x coordinate of the model
+     * @param z        New z coordinate of the model
+     * @param rotation New rotation of the model
+     */
+    @Override
+    public void rePositionAndRotate(float x, float z, float rotation) {
+        baseTowerPart.setPosition(x, 0f, z);
+        baseTowerPart.update();
+
+        // Only rotate top part of the model
+        if (topTowerPart != null) {
+            topTowerPart.setPosition(x, topPartYValue, z);
+            topTowerPart.setRotation(rotation);
+            topTowerPart.update();
+        }
+    }
+
+    /**
+     * Sets the position on the ground of the model and updates the model.
+     *
+     * @param x New x coordinate of the model
+     * @param z New z coordinate of the model
+     */
+    @Override
+    public void rePosition(float x, float z) {
+        baseTowerPart.setPosition(x, 0f, z);
+        baseTowerPart.update();
+
+        if (topTowerPart != null) {
+            topTowerPart.setPosition(x, topPartYValue, z);
             topTowerPart.update();
         }
     }
@@ -118,13 +155,14 @@ public final class GameModelTower implements GameModelInterface {
      * Sets the topTowerPart to null and the baseTowerPart to the TowerDebrisGameModel from the AssetLoader.
      */
     public void setToDebris(@NonNull AssetLoader assetLoader) {
-        // Dispose tower models
+        // Release the scenes of the tower, the models are shared with other towers
+        var sceneModelCache = assetLoader.getSceneModelCache();
         if (topTowerPart != null) {
-            topTowerPart.getScene().modelInstance.model.dispose();
+            sceneModelCache.free(topTowerPart.getScene());
         }
         topTowerPart = null;
 
-        baseTowerPart.getScene().modelInstance.model.dispose();
+        sceneModelCache.free(baseTowerPart.getScene());
 
         // Get debris game model
         baseTowerPart = assetLoader.getTowerDebrisGameModelPart(
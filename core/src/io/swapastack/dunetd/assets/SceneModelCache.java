@@ -0,0 +1,110 @@
+package io.swapastack.dunetd.assets;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.NonNull;
+import net.mgsx.gltf.scene3d.scene.Scene;
+import net.mgsx.gltf.scene3d.scene.SceneAsset;
+
+/**
+ * Hands out scenes over the shared models of the loaded scene assets. A scene only has its own nodes and materials,
+ * the meshes and textures belong to the model, so creating a scene doesn't upload anything to the GPU. Freed scenes
+ * are reused for the next request of the same model.<br>
+ * The models are owned by the asset manager, users of the scenes must free them here instead of disposing their
+ * models.
+ */
+public final class SceneModelCache {
+
+    /**
+     * Returns the scene asset with the specified name, provided by the asset loader
+     */
+    private final Function<String, SceneAsset> sceneAssets;
+
+    /**
+     * Free scenes of each model, created on the first request of the model
+     */
+    private final HashMap<String, CachedModel> cachedModels;
+
+    /**
+     * Names of the models of all scenes, which are handed out and not freed yet
+     */
+    private final IdentityHashMap<Scene, String> obtainedScenes;
+
+    /**
+     * Creates a cache over the specified scene assets. A scene asset is only requested on the first request of its
+     * model, so it can be loaded after the cache was created.
+     *
+     * @param sceneAssets Returns the scene asset with the specified name or throws an
+     *                    {@link IllegalArgumentException} if there's none
+     */
+    public SceneModelCache(@NonNull Function<String, SceneAsset> sceneAssets) {
+        this.sceneAssets = sceneAssets;
+        cachedModels = new HashMap<>();
+        obtainedScenes = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns a scene of the specified model, either a freed one or a new one. The transform of a reused scene is
+     * reset and its animation is stopped and unpaused.
+     *
+     * @param modelName Name of the scene asset
+     * @return Scene of the model
+     * @throws IllegalArgumentException If there's no scene asset with the name
+     */
+    public @NotNull Scene obtain(@NonNull String modelName) throws IllegalArgumentException {
+        var cachedModel = cachedModels.get(modelName);
+        if (cachedModel == null) {
+            cachedModel = new CachedModel(sceneAssets.apply(modelName));
+            cachedModels.put(modelName, cachedModel);
+        }
+
+        var scene = cachedModel.freeScenes.poll();
+        if (scene == null) {
+            scene = new Scene(cachedModel.sceneAsset.scene);
+        } else {
+            scene.modelInstance.transform.idt();
+            if (scene.animationController != null) {
+                // Stops the animation of the previous user, the nodes return to their pose of the model
+                scene.animationController.setAnimation((String) null);
+                scene.animationController.paused = false;
+            }
+        }
+
+        obtainedScenes.put(scene, modelName);
+        return scene;
+    }
+
+    /**
+     * Releases the specified scene, so it can be reused. The scene must not be used anymore afterwards.
+     *
+     * @param scene Scene obtained from this cache
+     * @throws IllegalArgumentException If the scene wasn't obtained from this cache or was already freed
+     */
+    public void free(@NonNull Scene scene) throws IllegalArgumentException {
+        var modelName = obtainedScenes.remove(scene);
+        if (modelName == null) {
+            throw new IllegalArgumentException("The scene wasn't obtained from this cache or was already freed");
+        }
+
+        cachedModels.get(modelName).freeScenes.push(scene);
+    }
+
+    /**
+     * Scene asset with its freed scenes
+     */
+    private static final class CachedModel {
+
+        private final SceneAsset sceneAsset;
+        private final ArrayDeque<Scene> freeScenes;
+
+        private CachedModel(@NonNull SceneAsset sceneAsset) {
+            this.sceneAsset = sceneAsset;
+            freeScenes = new ArrayDeque<>();
+        }
+    }
+}
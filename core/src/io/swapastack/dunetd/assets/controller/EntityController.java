@@ -4,33 +4,17 @@ import io.swapastack.dunetd.assets.AssetLoader;
 import io.swapastack.dunetd.assets.GameModelInterface;
 import io.swapastack.dunetd.assets.GameModelTower;
 import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.entities.EntityListener;
 import io.swapastack.dunetd.entities.portals.Portal;
 import io.swapastack.dunetd.entities.towers.Tower;
 import io.swapastack.dunetd.entities.towers.TowerEnum;
-import io.swapastack.dunetd.game.GameModelData;
-import io.swapastack.dunetd.vectors.Vector3;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.UUID;
 
 import lombok.NonNull;
 import net.mgsx.gltf.scene3d.scene.SceneManager;
 
-public final class EntityController implements PropertyChangeListener {
-
-    // Event names
-    public static final String CREATE_EVENT_NAME = "create";
-
-    public static final String SHOW_EVENT_NAME = "show";
-
-    public static final String UPDATE_EVENT_NAME = "update";
-
-    public static final String TO_DEBRIS_EVENT_NAME = "to_debris";
-
-    public static final String DESTROY_EVENT_NAME = "destroy";
+public final class EntityController implements EntityListener {
 
     // Exception messages
     private static final String ENTITY_NOT_REGISTERED_MESSAGE = "Entity is not registered in entity controller";
@@ -39,7 +23,7 @@ public final class EntityController implements PropertyChangeListener {
 
     private final AssetLoader assetLoader;
 
-    private final HashMap<UUID, GameModelInterface> entityModelMap;
+    private final HashMap<Long, EntityModel> entityModelMap;
 
     public EntityController(@NonNull SceneManager sceneManager, @NonNull AssetLoader assetLoader) {
         this.sceneManager = sceneManager;
@@ -48,39 +32,10 @@ public final class EntityController implements PropertyChangeListener {
     }
 
     /**
-     * This method gets called when a bound property is changed.
-     *
-     * @param event A PropertyChangeEvent object describing the event source and the property that has changed.
-     * @throws IllegalArgumentException If the event has illegal properties
+     * Creates the game model of the entity.
      */
     @Override
-    public void propertyChange(@NonNull PropertyChangeEvent event) throws IllegalArgumentException {
-        if (event.getPropertyName() == null || event.getSource() == null
-                || !(event.getSource() instanceof Entity entity)) {
-            throw new IllegalArgumentException("Property name and source must be non null and source must be an " +
-                    "entity");
-        }
-
-        switch (event.getPropertyName()) {
-            // Event when entity is created
-            case CREATE_EVENT_NAME -> handleCreateEvent(event.getNewValue(), entity);
-            // Event when entity is displayed on the screen
-            case SHOW_EVENT_NAME -> handleShowEvent(entity);
-            // Event whenever entity is moved or rotated
-            case UPDATE_EVENT_NAME -> handleUpdateEvent(event.getNewValue(), entity);
-            // Event when entity (as tower) is set to debris
-            case TO_DEBRIS_EVENT_NAME -> handleToDebrisEvent(entity);
-            // Event when entity is destroyed
-            case DESTROY_EVENT_NAME -> handleDestroyEvent(entity);
-            default -> throw new IllegalArgumentException("Unexpected event name: " + event.getPropertyName());
-        }
-    }
-
-    private void handleCreateEvent(@NonNull Object newValue, @NonNull Entity entity) throws IllegalArgumentException {
-        if (!(newValue instanceof GameModelData entityModelData)) {
-            throw new IllegalArgumentException("newValue must be a GameModelData object");
-        }
-
+    public void onCreate(@NonNull Entity entity, float x, float y, float rotation) {
         // Set game models initial position and store both entity and game model in the hashMap
         GameModelInterface gameModel;
         if (entity instanceof Tower tower) {
@@ -91,54 +46,67 @@ public final class EntityController implements PropertyChangeListener {
             return;
         }
 
-        var gameModelPosition = Vector3.fromVector2(entityModelData.position(), 0);
-        gameModel.rePositionAndRotate(gameModelPosition, entityModelData.rotation());
-        entityModelMap.put(entity.getUuid(), gameModel);
+        gameModel.rePositionAndRotate(x, y, rotation);
+        entityModelMap.put(entity.getId(), new EntityModel(gameModel, x, y));
     }
 
-    private void handleShowEvent(@NonNull Entity entity) throws IllegalStateException {
-        if (!entityModelMap.containsKey(entity.getUuid())) {
-            throw new IllegalStateException(ENTITY_NOT_REGISTERED_MESSAGE);
-        }
-
+    /**
+     * Adds the scenes of the game model to the scene manager.
+     *
+     * @throws IllegalStateException If the entity is not registered
+     */
+    @Override
+    public void onShow(@NonNull Entity entity) throws IllegalStateException {
         // Add scene of game model to scene manager
-        var gameModel = entityModelMap.get(entity.getUuid());
+        var gameModel = getEntityModel(entity).gameModel;
         for (var scene : gameModel.getScenes()) {
             sceneManager.addScene(scene);
         }
     }
 
-    private void handleUpdateEvent(@NonNull Object newValue, @NonNull Entity entity)
-            throws IllegalStateException, IllegalArgumentException {
-        if (!entityModelMap.containsKey(entity.getUuid())) {
-            throw new IllegalStateException(ENTITY_NOT_REGISTERED_MESSAGE);
-        }
-        if (!(newValue instanceof GameModelData newGameModelData)) {
-            throw new IllegalArgumentException("newValue must be a GameModelData object");
-        }
+    /**
+     * Stores the rotation of the entity, the game model is only rotated by {@link #applyRotations()}. The simulation
+     * can execute several ticks per frame, so only the last rotation of a frame is displayed.
+     *
+     * @throws IllegalStateException If the entity is not registered
+     */
+    @Override
+    public void onRotate(@NonNull Entity entity, float rotation) throws IllegalStateException {
+        var entityModel = getEntityModel(entity);
+        entityModel.rotation = rotation;
+        entityModel.rotated = true;
+    }
 
-        // Update game models position, rotation and animation
-        var gameModel = entityModelMap.get(entity.getUuid());
-        var gameModelPosition = Vector3.fromVector2(newGameModelData.position(), 0);
-        if (newGameModelData.rotation() != -1f) {
-            gameModel.rePositionAndRotate(gameModelPosition, newGameModelData.rotation());
-        } else {
-            gameModel.rePosition(gameModelPosition);
+    /**
+     * Rotates the game models of all entities, which rotated since the last call. Has to be called once per frame
+     * before rendering.
+     */
+    public void applyRotations() {
+        for (var entityModel : entityModelMap.values()) {
+            if (entityModel.rotated) {
+                // The position of entities doesn't change
+                entityModel.gameModel.rePositionAndRotate(entityModel.x, entityModel.y, entityModel.rotation);
+                entityModel.rotated = false;
+            }
         }
-        entityModelMap.put(entity.getUuid(), gameModel);
     }
 
-    private void handleToDebrisEvent(@NonNull Entity entity)
-            throws IllegalStateException, IllegalArgumentException {
-        if (!entityModelMap.containsKey(entity.getUuid())) {
-            throw new IllegalStateException(ENTITY_NOT_REGISTERED_MESSAGE);
-        }
-        if (!(entity instanceof Tower tower)) {
+    /**
+     * Replaces the game model of the tower with a debris game model.
+     *
+     * @throws IllegalStateException    If the entity is not registered
+     * @throws IllegalArgumentException If the entity is not a tower
+     */
+    @Override
+    public void onToDebris(@NonNull Entity entity) throws IllegalStateException, IllegalArgumentException {
+        var entityModel = getEntityModel(entity);
+        if (!(entity instanceof Tower)) {
             throw new IllegalArgumentException("Entity must be a tower");
         }
 
-        // Remove game model and add new debris game model to scene manager
-        var gameModel = (GameModelTower) entityModelMap.get(tower.getUuid());
+        // Remove game model and add new debris game model to scene manager, a debris doesn't rotate anymore
+        var gameModel = (GameModelTower) entityModel.gameModel;
+        entityModel.rotated = false;
         for (var scene : gameModel.getScenes()) {
             sceneManager.removeScene(scene);
         }
@@ -148,24 +116,55 @@ public final class EntityController implements PropertyChangeListener {
         }
     }
 
-    private void handleDestroyEvent(@NonNull Entity entity) throws IllegalStateException {
-        if (!entityModelMap.containsKey(entity.getUuid())) {
-            throw new IllegalStateException(ENTITY_NOT_REGISTERED_MESSAGE);
-        }
-
+    /**
+     * Removes the game model from the scene manager and releases its scenes.
+     *
+     * @throws IllegalStateException If the entity is not registered
+     */
+    @Override
+    public void onDestroy(@NonNull Entity entity) throws IllegalStateException {
         // Remove scene of game model from scene manager and remove entity from hash map
-        var gameModel = entityModelMap.get(entity.getUuid());
-        var scenes = gameModel.getScenes();
-        for (var scene : scenes) {
+        var gameModel = getEntityModel(entity).gameModel;
+        for (var scene : gameModel.getScenes()) {
             sceneManager.removeScene(scene);
-            scene.modelInstance.model.dispose();
         }
-        entityModelMap.remove(entity.getUuid());
+        assetLoader.freeGameModel(gameModel);
+        entityModelMap.remove(entity.getId());
     }
 
+    private @NonNull EntityModel getEntityModel(@NonNull Entity entity) throws IllegalStateException {
+        var entityModel = entityModelMap.get(entity.getId());
+        if (entityModel == null) {
+            throw new IllegalStateException(ENTITY_NOT_REGISTERED_MESSAGE);
+        }
+        return entityModel;
+    }
+
+    /**
+     * Releases the scenes of all game models, the models themselves are owned by the asset loader.
+     */
     public void dispose() {
-        entityModelMap.values().stream()
-                .flatMap(gameModel -> Arrays.stream(gameModel.getScenes()))
-                .forEach(scene -> scene.modelInstance.model.dispose());
+        for (var entityModel : entityModelMap.values()) {
+            assetLoader.freeGameModel(entityModel.gameModel);
+        }
+        entityModelMap.clear();
+    }
+
+    /**
+     * Game model of an entity with its latest rotation, which wasn't applied to the game model yet
+     */
+    private static final class EntityModel {
+
+        private final GameModelInterface gameModel;
+        private final float x;
+        private final float y;
+        private float rotation;
+        private boolean rotated;
+
+        private EntityModel(@NonNull GameModelInterface gameModel, float x, float y) {
+            this.gameModel = gameModel;
+            this.x = x;
+            this.y = y;
+        }
     }
 }
@@ -2,29 +2,16 @@ package io.swapastack.dunetd.assets.controller;
 
 import io.swapastack.dunetd.assets.AssetLoader;
 import io.swapastack.dunetd.assets.GameModelSingle;
-import io.swapastack.dunetd.game.GameModelData;
 import io.swapastack.dunetd.hostileunits.HostileUnit;
 import io.swapastack.dunetd.hostileunits.HostileUnitEnum;
-import io.swapastack.dunetd.vectors.Vector3;
+import io.swapastack.dunetd.hostileunits.HostileUnitListener;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
 import java.util.HashMap;
-import java.util.UUID;
 
 import lombok.NonNull;
 import net.mgsx.gltf.scene3d.scene.SceneManager;
 
-public final class HostileUnitController implements PropertyChangeListener {
-
-    // Event names
-    public static final String CREATE_EVENT_NAME = "create";
-
-    public static final String SHOW_EVENT_NAME = "show";
-
-    public static final String UPDATE_EVENT_NAME = "update";
-
-    public static final String DESTROY_EVENT_NAME = "destroy";
+public final class HostileUnitController implements HostileUnitListener {
 
     // Exception messages
     private static final String HOSTILE_UNIT_NOT_REGISTERED_MESSAGE = "Hostile unit is not registered in hostile unit" +
@@ -36,7 +23,7 @@ public final class HostileUnitController implements PropertyChangeListener {
 
     private final AssetLoader assetLoader;
 
-    private final HashMap<UUID, GameModelSingle> hostileUnitModelMap;
+    private final HashMap<HostileUnit, HostileUnitModel> hostileUnitModelMap;
 
     public HostileUnitController(@NonNull SceneManager sceneManager, @NonNull AssetLoader assetLoader) {
         this.sceneManager = sceneManager;
@@ -45,94 +32,83 @@ public final class HostileUnitController implements PropertyChangeListener {
     }
 
     /**
-     * This method gets called when a bound property is changed.
-     *
-     * @param event A PropertyChangeEvent object describing the event source and the property that has changed.
-     * @throws IllegalArgumentException If the event has illegal properties
+     * Creates the game model of the hostile unit and starts its walk animation. The scene of the game model is reused
+     * from a destroyed hostile unit of the same type, if there is one.
      */
     @Override
-    public void propertyChange(@NonNull PropertyChangeEvent event) throws IllegalArgumentException {
-        if (event.getPropertyName() == null || event.getSource() == null
-                || !(event.getSource() instanceof HostileUnit hostileUnit)) {
-            throw new IllegalArgumentException("Property name and source must be non null and source must be a " +
-                    "hostile unit");
-        }
-
-        switch (event.getPropertyName()) {
-            // Event when hostile unit is created
-            case CREATE_EVENT_NAME -> handleCreateEvent(event.getNewValue(), hostileUnit);
-            // Event when hostile unit is spawned on the grid / displayed on the screen
-            case SHOW_EVENT_NAME -> handleShowEvent(hostileUnit);
-            // Event whenever hostile unit is moved
-            case UPDATE_EVENT_NAME -> handleUpdateEvent(event.getOldValue(), event.getNewValue(), hostileUnit);
-            // Event when hostile unit is killed or reached the end portal
-            case DESTROY_EVENT_NAME -> handleDestroyEvent(hostileUnit);
-            default -> throw new IllegalArgumentException("Unexpected event name: " + event.getPropertyName());
-        }
-    }
-
-    private void handleCreateEvent(@NonNull Object newValue, @NonNull HostileUnit hostileUnit)
-            throws IllegalArgumentException {
-        if (!(newValue instanceof GameModelData newHostileUnitData)) {
-            throw new IllegalArgumentException("newValue must be a GameModelData object");
-        }
-
+    public void onCreate(@NonNull HostileUnit hostileUnit, float x, float y, float rotation) {
         // Get animation name from hostile unit type
-        var animationName = switch (HostileUnitEnum.fromHostileUnit(hostileUnit)) {
+        var hostileUnitEnum = HostileUnitEnum.fromHostileUnit(hostileUnit);
+        var animationName = switch (hostileUnitEnum) {
             case INFANTRY -> AssetLoader.INFANTRY_WALK_ANIMATION;
             case HARVESTER -> AssetLoader.HARVESTER_WALK_ANIMATION;
             case BOSS_UNIT -> AssetLoader.BOSS_UNIT_WALK_ANIMATION;
         };
 
         // Set game models initial position and store both hostile unit and game model in the hashMap
-        var gameModel = assetLoader.getHostileUnitGameModel(HostileUnitEnum.fromHostileUnit(hostileUnit));
-        var newHostileUnitPosition = Vector3.fromVector2(newHostileUnitData.position(), 0);
-        gameModel.rePosition(newHostileUnitPosition);
+        var gameModel = assetLoader.getHostileUnitGameModel(hostileUnitEnum);
+        gameModel.rePosition(x, y);
         gameModel.setAnimation(animationName, -1);
-        hostileUnitModelMap.put(hostileUnit.getUuid(), gameModel);
+        hostileUnitModelMap.put(hostileUnit, new HostileUnitModel(gameModel));
     }
 
-    private void handleShowEvent(@NonNull HostileUnit hostileUnit) throws IllegalArgumentException {
-        if (!hostileUnitModelMap.containsKey(hostileUnit.getUuid())) {
-            throw new IllegalStateException(HOSTILE_UNIT_NOT_REGISTERED_MESSAGE);
-        }
-
+    /**
+     * Adds the scene of the game model to the scene manager.
+     *
+     * @throws IllegalStateException If the hostile unit is not registered
+     */
+    @Override
+    public void onShow(@NonNull HostileUnit hostileUnit) throws IllegalStateException {
         // Add scene of game model to scene manager
-        var gameModel = hostileUnitModelMap.get(hostileUnit.getUuid());
+        var gameModel = getHostileUnitModel(hostileUnit).gameModel;
         sceneManager.addScene(gameModel.getScene());
     }
 
-    private void handleUpdateEvent(@NonNull Object oldValue, @NonNull Object newValue,
-                                   @NonNull HostileUnit hostileUnit)
-            throws IllegalStateException, IllegalArgumentException {
-        if (!hostileUnitModelMap.containsKey(hostileUnit.getUuid())) {
-            throw new IllegalStateException(HOSTILE_UNIT_NOT_REGISTERED_MESSAGE);
-        }
-        if (!(newValue instanceof GameModelData newGameModelData)) {
-            throw new IllegalArgumentException("newValue must be a GameModelData object");
-        }
-        if (!(oldValue instanceof Float deltaTimeInMilliseconds)) {
-            throw new IllegalArgumentException("newValue must be a float");
-        }
-
-        // Update game models position, rotation and animation
-        var gameModel = hostileUnitModelMap.get(hostileUnit.getUuid());
-        var newHostileUnitPosition = Vector3.fromVector2(newGameModelData.position(), 0);
-        gameModel.rePositionAndRotate(newHostileUnitPosition, newGameModelData.rotation());
-        gameModel.updateAnimation(deltaTimeInMilliseconds / SECONDS_TO_MILLISECONDS_RATIO);
-        hostileUnitModelMap.put(hostileUnit.getUuid(), gameModel);
+    /**
+     * Stores the movement of the hostile unit, the game model is only moved by {@link #applyMoves()}. The simulation
+     * can execute several ticks per frame, so only the last position of a frame is displayed.
+     *
+     * @throws IllegalStateException If the hostile unit is not registered
+     */
+    @Override
+    public void onMove(@NonNull HostileUnit hostileUnit, float x, float y, float rotation,
+                       float deltaTimeInMilliseconds) throws IllegalStateException {
+        var hostileUnitModel = getHostileUnitModel(hostileUnit);
+        hostileUnitModel.x = x;
+        hostileUnitModel.y = y;
+        hostileUnitModel.rotation = rotation;
+        hostileUnitModel.animationTimeInMilliseconds += deltaTimeInMilliseconds;
+        hostileUnitModel.moved = true;
     }
 
-    private void handleDestroyEvent(@NonNull HostileUnit hostileUnit) {
-        if (!hostileUnitModelMap.containsKey(hostileUnit.getUuid())) {
-            throw new IllegalStateException(HOSTILE_UNIT_NOT_REGISTERED_MESSAGE);
+    /**
+     * Moves and rotates the game models of all hostile units, which moved since the last call, and updates their
+     * animations. Has to be called once per frame before rendering.
+     */
+    public void applyMoves() {
+        for (var hostileUnitModel : hostileUnitModelMap.values()) {
+            if (hostileUnitModel.moved) {
+                var gameModel = hostileUnitModel.gameModel;
+                gameModel.rePositionAndRotate(hostileUnitModel.x, hostileUnitModel.y, hostileUnitModel.rotation);
+                gameModel.updateAnimation(hostileUnitModel.animationTimeInMilliseconds / SECONDS_TO_MILLISECONDS_RATIO);
+                hostileUnitModel.animationTimeInMilliseconds = 0;
+                hostileUnitModel.moved = false;
+            }
         }
+    }
 
+    /**
+     * Removes the game model from the scene manager and releases its scene for the next hostile unit of the same type.
+     *
+     * @throws IllegalStateException If the hostile unit is not registered
+     */
+    @Override
+    public void onDestroy(@NonNull HostileUnit hostileUnit) throws IllegalStateException {
         // Remove scene of game model from scene manager and remove hostile unit from hash map
-        var gameModel = hostileUnitModelMap.get(hostileUnit.getUuid());
+        var gameModel = getHostileUnitModel(hostileUnit).gameModel;
         sceneManager.removeScene(gameModel.getScene());
-        gameModel.getScene().modelInstance.model.dispose();
-        hostileUnitModelMap.remove(hostileUnit.getUuid());
+        assetLoader.freeGameModel(gameModel);
+        hostileUnitModelMap.remove(hostileUnit);
     }
 
     /**
@@ -140,15 +116,46 @@ public final class HostileUnitController implements PropertyChangeListener {
      *
      * @param paused If true the animations will be paused, otherwise unpaused.
      */
-    public void pauseAnimations(boolean paused) {
-        for (var gameModel : hostileUnitModelMap.values()) {
-            gameModel.pauseAnimation(paused);
+    @Override
+    public void onPause(boolean paused) {
+        for (var hostileUnitModel : hostileUnitModelMap.values()) {
+            hostileUnitModel.gameModel.pauseAnimation(paused);
         }
     }
 
+    private @NonNull HostileUnitModel getHostileUnitModel(@NonNull HostileUnit hostileUnit)
+            throws IllegalStateException {
+        var hostileUnitModel = hostileUnitModelMap.get(hostileUnit);
+        if (hostileUnitModel == null) {
+            throw new IllegalStateException(HOSTILE_UNIT_NOT_REGISTERED_MESSAGE);
+        }
+        return hostileUnitModel;
+    }
+
+    /**
+     * Releases the scenes of all game models, the models themselves are owned by the asset loader.
+     */
     public void dispose() {
-        for (var gameModel : hostileUnitModelMap.values()) {
-            gameModel.getScene().modelInstance.model.dispose();
+        for (var hostileUnitModel : hostileUnitModelMap.values()) {
+            assetLoader.freeGameModel(hostileUnitModel.gameModel);
+        }
+        hostileUnitModelMap.clear();
+    }
+
+    /**
+     * Game model of a hostile unit with its latest movement, which wasn't applied to the game model yet
+     */
+    private static final class HostileUnitModel {
+
+        private final GameModelSingle gameModel;
+        private float x;
+        private float y;
+        private float rotation;
+        private float animationTimeInMilliseconds;
+        private boolean moved;
+
+        private HostileUnitModel(@NonNull GameModelSingle gameModel) {
+            this.gameModel = gameModel;
         }
     }
 }
@@ -2,26 +2,12 @@ package io.swapastack.dunetd.assets.controller;
 
 import io.swapastack.dunetd.assets.AssetLoader;
 import io.swapastack.dunetd.assets.GameModelSingle;
-import io.swapastack.dunetd.game.GameModelData;
-import io.swapastack.dunetd.shaihulud.ShaiHulud;
-import io.swapastack.dunetd.vectors.Vector3;
-
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
+import io.swapastack.dunetd.shaihulud.ShaiHuludListener;
 
 import lombok.NonNull;
 import net.mgsx.gltf.scene3d.scene.SceneManager;
 
-public final class ShaiHuludController implements PropertyChangeListener {
-
-    // Event names
-    public static final String CREATE_EVENT_NAME = "create";
-
-    public static final String SHOW_EVENT_NAME = "show";
-
-    public static final String UPDATE_EVENT_NAME = "update";
-
-    public static final String VANISH_EVENT_NAME = "vanish";
+public final class ShaiHuludController implements ShaiHuludListener {
 
     // Exception messages
     private static final String GAME_MODEL_MISSING_MESSAGE = "The game model has not been initialized";
@@ -32,82 +18,98 @@ public final class ShaiHuludController implements PropertyChangeListener {
 
     private GameModelSingle gameModel;
 
+    /**
+     * Latest movement of the shai hulud, which wasn't applied to the game model yet
+     */
+    private float x;
+    private float y;
+    private float rotation;
+    private boolean moved;
+
     public ShaiHuludController(@NonNull SceneManager sceneManager, @NonNull AssetLoader assetLoader) {
         this.sceneManager = sceneManager;
         this.assetLoader = assetLoader;
     }
 
     /**
-     * This method gets called when a bound property is changed.
-     *
-     * @param event A PropertyChangeEvent object describing the event source and the property that has changed.
-     * @throws IllegalArgumentException If the event has illegal properties
+     * Creates the game model of the shai hulud.
      */
     @Override
-    public void propertyChange(@NonNull PropertyChangeEvent event) throws IllegalArgumentException {
-        if (event.getPropertyName() == null || event.getSource() == null
-                || !(event.getSource() instanceof ShaiHulud)) {
-            throw new IllegalArgumentException("Property name and source must be non null and source must be a shai " +
-                    "hulud");
+    public void onCreate() {
+        if (gameModel != null) {
+            assetLoader.freeGameModel(gameModel);
         }
-
-        switch (event.getPropertyName()) {
-            // Event when shai hulud is created
-            case CREATE_EVENT_NAME -> handleCreateEvent();
-            // Event when shai hulud is displayed on the screen
-            case SHOW_EVENT_NAME -> handleShowEvent(event.getNewValue());
-            // Event whenever shai hulud is moved
-            case UPDATE_EVENT_NAME -> handleUpdateEvent(event.getNewValue());
-            // Event when shai hulud disappears from the screen
-            case VANISH_EVENT_NAME -> handleVanishEvent();
-            default -> throw new IllegalStateException("Unexpected event name: " + event.getPropertyName());
-        }
-    }
-
-    private void handleCreateEvent() {
         gameModel = assetLoader.getShaiHuludGameModel();
     }
 
-    @SuppressWarnings("DuplicatedCode")
-    private void handleShowEvent(@NonNull Object newValue) throws IllegalArgumentException, IllegalStateException {
-        if (!(newValue instanceof GameModelData shaiHuludModelData)) {
-            throw new IllegalArgumentException("newValue must be a GameModelData object");
-        }
-        if (gameModel == null) {
-            throw new IllegalStateException(GAME_MODEL_MISSING_MESSAGE);
-        }
+    /**
+     * Adds the scene of the game model to the scene manager and brings it in its initial position and rotation.
+     *
+     * @throws IllegalStateException If the game model has not been created
+     */
+    @Override
+    public void onShow(float x, float y, float rotation) throws IllegalStateException {
+        checkGameModel();
 
         // Add scene of game model to scene manager and bring shai hulud in its initial position and rotation
-        var newGameModelPosition = Vector3.fromVector2(shaiHuludModelData.position(), 0);
-        gameModel.rePositionAndRotate(newGameModelPosition, shaiHuludModelData.rotation());
+        gameModel.rePositionAndRotate(x, y, rotation);
         sceneManager.addScene(gameModel.getScene());
     }
 
-    @SuppressWarnings("DuplicatedCode")
-    private void handleUpdateEvent(@NonNull Object newValue)
-            throws IllegalArgumentException, IllegalStateException {
-        if (!(newValue instanceof GameModelData shaiHuludModelData)) {
-            throw new IllegalArgumentException("newValue must be a GameModelData object");
-        }
-        if (gameModel == null) {
-            throw new IllegalStateException(GAME_MODEL_MISSING_MESSAGE);
+    /**
+     * Stores the movement of the shai hulud, the game model is only moved by {@link #applyMove()}. The simulation can
+     * execute several ticks per frame, so only the last position of a frame is displayed.
+     *
+     * @throws IllegalStateException If the game model has not been created
+     */
+    @Override
+    public void onMove(float x, float y, float rotation) throws IllegalStateException {
+        checkGameModel();
+
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        moved = true;
+    }
+
+    /**
+     * Moves and rotates the game model, if the shai hulud moved since the last call. Has to be called once per frame
+     * before rendering.
+     */
+    public void applyMove() {
+        if (moved && gameModel != null) {
+            gameModel.rePositionAndRotate(x, y, rotation);
         }
+        moved = false;
+    }
 
-        // Update position and rotation of shai hulud
-        var newGameModelPosition = Vector3.fromVector2(shaiHuludModelData.position(), 0);
-        gameModel.rePositionAndRotate(newGameModelPosition, shaiHuludModelData.rotation());
+    /**
+     * Removes the scene of the game model from the scene manager to make the shai hulud invisible.
+     *
+     * @throws IllegalStateException If the game model has not been created
+     */
+    @Override
+    public void onVanish() throws IllegalStateException {
+        checkGameModel();
+
+        // Removes shai hulud from scene manager to make him invisible, his last movement isn't displayed anymore
+        sceneManager.removeScene(gameModel.getScene());
+        moved = false;
     }
 
-    private void handleVanishEvent() throws IllegalStateException {
+    private void checkGameModel() throws IllegalStateException {
         if (gameModel == null) {
             throw new IllegalStateException(GAME_MODEL_MISSING_MESSAGE);
         }
-
-        // Removes shai hulud from scene manager to make him invisible
-        sceneManager.removeScene(gameModel.getScene());
     }
 
+    /**
+     * Releases the scene of the game model, the model itself is owned by the asset loader.
+     */
     public void dispose() {
-        gameModel.getScene().modelInstance.model.dispose();
+        if (gameModel != null) {
+            assetLoader.freeGameModel(gameModel);
+            gameModel = null;
+        }
     }
 }
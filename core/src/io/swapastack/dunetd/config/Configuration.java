@@ -85,4 +85,20 @@ public final class Configuration {
         }
         throw new IllegalArgumentException("'" + propertyName + "' is not specified in the config file.");
     }
+
+    /**
+     * Overrides the value of a property in the configuration file. Most values are read into constants when a class
+     * is loaded, so properties have to be overridden before the classes using them are loaded, e.g. by headless
+     * runners before the first game is created.
+     *
+     * @param propertyName Name of property in configuration file
+     * @param value        New value of the property
+     * @throws IllegalArgumentException If the property is not specified in the configuration file
+     */
+    public void overrideProperty(@NonNull String propertyName, @NonNull String value) throws IllegalArgumentException {
+        if (!properties.containsKey(propertyName)) {
+            throw new IllegalArgumentException("'" + propertyName + "' is not specified in the config file.");
+        }
+        properties.setProperty(propertyName, value);
+    }
 }
@@ -1,12 +1,7 @@
 package io.swapastack.dunetd.entities;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
-import io.swapastack.dunetd.game.GameModelData;
 import io.swapastack.dunetd.vectors.Vector2;
 
-import java.beans.PropertyChangeSupport;
-import java.util.UUID;
-
 import org.jetbrains.annotations.Nullable;
 
 import lombok.EqualsAndHashCode;
@@ -23,9 +18,9 @@ import lombok.NonNull;
 public abstract class Entity {
 
     /**
-     * Property change support to update game model of this entity
+     * Listener to update game model of this entity
      */
-    private final PropertyChangeSupport support;
+    private final EntityListener listener;
 
     /**
      * Position of this entity
@@ -34,52 +29,86 @@ public abstract class Entity {
     private final Vector2 position;
 
     /**
-     * Unique identifier for storing this entity in a map
+     * Identifier for storing this entity in a map, unique within the game which created this entity
      */
     @Getter
-    private final UUID uuid;
+    private final long id;
 
     /**
-     * Creates a new entity with a specified position.
+     * Creates a new entity with a specified identifier and position.
      *
+     * @param id       identifier of this entity, unique within its game
      * @param position position of this entity
      */
-    protected Entity(@NonNull Vector2 position) {
-        this(position, null, 0f);
+    protected Entity(long id, @NonNull Vector2 position) {
+        this(id, position, null, 0f);
     }
 
     /**
-     * Creates a new entity with a specified position.
+     * Creates a new entity with a specified identifier and position.
      *
-     * @param position         position of this entity
-     * @param entityController Controller for entities
-     * @param startRotation    Start rotation for game model of this entity
+     * @param id             identifier of this entity, unique within its game
+     * @param position       position of this entity
+     * @param entityListener Listener for entities
+     * @param startRotation  Start rotation for game model of this entity
      */
-    protected Entity(@NonNull Vector2 position, @Nullable EntityController entityController, float startRotation) {
-        uuid = UUID.randomUUID();
+    protected Entity(long id, @NonNull Vector2 position, @Nullable EntityListener entityListener,
+                     float startRotation) {
+        this.id = id;
         this.position = position;
 
-        if (entityController != null) {
-            support = new PropertyChangeSupport(this);
+        // Notify listener about the creation
+        listener = entityListener;
+        if (listener != null) {
+            listener.onCreate(this, position.x(), position.y(), startRotation);
+        }
+    }
+
+    /**
+     * Returns if a listener is notified about changes of this entity. Can be used to avoid calculating event values
+     * nobody receives.
+     *
+     * @return True if a listener was added to this entity
+     */
+    protected final boolean hasListener() {
+        return listener != null;
+    }
 
-            // Add entity controller as observer and call create event
-            support.addPropertyChangeListener(entityController);
-            var gameModelData = new GameModelData(startRotation, position);
-            support.firePropertyChange(EntityController.CREATE_EVENT_NAME, null, gameModelData);
-        } else {
-            support = null;
+    /**
+     * Notifies the listener, that this entity is displayed on the screen.
+     */
+    protected final void notifyShow() {
+        if (listener != null) {
+            listener.onShow(this);
         }
     }
 
     /**
-     * Calls {@link PropertyChangeSupport#firePropertyChange(String, Object, Object)}.
+     * Notifies the listener, that this entity was rotated.
      *
-     * @param eventName Name of event
-     * @param newValue  New value
+     * @param rotation New rotation of the game model
+     */
+    protected final void notifyRotate(float rotation) {
+        if (listener != null) {
+            listener.onRotate(this, rotation);
+        }
+    }
+
+    /**
+     * Notifies the listener, that this entity was turned into a debris.
+     */
+    protected final void notifyToDebris() {
+        if (listener != null) {
+            listener.onToDebris(this);
+        }
+    }
+
+    /**
+     * Notifies the listener, that this entity was destroyed.
      */
-    protected void firePropertyChange(@NonNull String eventName, @Nullable Object newValue) {
-        if (support != null) {
-            support.firePropertyChange(eventName, null, newValue);
+    protected final void notifyDestroy() {
+        if (listener != null) {
+            listener.onDestroy(this);
         }
     }
 }
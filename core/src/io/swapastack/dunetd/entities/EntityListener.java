@@ -0,0 +1,48 @@
+package io.swapastack.dunetd.entities;
+
+import lombok.NonNull;
+
+/**
+ * Listener which is notified about changes of entities, used to update their game models.
+ */
+public interface EntityListener {
+
+    /**
+     * Called when an entity is created.
+     *
+     * @param entity   Created entity
+     * @param x        X coordinate of the entity
+     * @param y        Y coordinate of the entity
+     * @param rotation Start rotation of the game model
+     */
+    void onCreate(@NonNull Entity entity, float x, float y, float rotation);
+
+    /**
+     * Called when an entity is displayed on the screen.
+     *
+     * @param entity Displayed entity
+     */
+    void onShow(@NonNull Entity entity);
+
+    /**
+     * Called whenever an entity is rotated.
+     *
+     * @param entity   Rotated entity
+     * @param rotation New rotation of the game model
+     */
+    void onRotate(@NonNull Entity entity, float rotation);
+
+    /**
+     * Called when an entity (as tower) is turned into a debris.
+     *
+     * @param entity Entity which is a debris now
+     */
+    void onToDebris(@NonNull Entity entity);
+
+    /**
+     * Called when an entity is destroyed.
+     *
+     * @param entity Destroyed entity
+     */
+    void onDestroy(@NonNull Entity entity);
+}
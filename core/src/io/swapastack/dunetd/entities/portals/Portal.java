@@ -1,7 +1,7 @@
 package io.swapastack.dunetd.entities.portals;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
 import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.entities.EntityListener;
 import io.swapastack.dunetd.vectors.Vector2;
 
 import org.jetbrains.annotations.Nullable;
@@ -22,15 +22,16 @@ public final class Portal extends Entity {
     private final PortalType type;
 
     /**
-     * Creates a new entity with a specified position.
+     * Creates a new portal with a specified identifier and position.
      *
-     * @param position         Position of this portal
-     * @param type             Type of this portal
-     * @param entityController Controller for entities
+     * @param id             Identifier of this portal, unique within its game
+     * @param position       Position of this portal
+     * @param type           Type of this portal
+     * @param entityListener Listener for entities
      */
-    public Portal(@NonNull Vector2 position, PortalType type, @Nullable EntityController entityController) {
-        super(position, entityController, 0f);
+    public Portal(long id, @NonNull Vector2 position, PortalType type, @Nullable EntityListener entityListener) {
+        super(id, position, entityListener, 0f);
         this.type = type;
-        firePropertyChange(EntityController.SHOW_EVENT_NAME, null);
+        notifyShow();
     }
 }
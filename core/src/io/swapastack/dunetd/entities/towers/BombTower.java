@@ -1,10 +1,13 @@
 package io.swapastack.dunetd.entities.towers;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
 import io.swapastack.dunetd.config.Configuration;
+import io.swapastack.dunetd.entities.EntityListener;
 import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
 import io.swapastack.dunetd.vectors.Vector2;
 
+import java.util.ArrayList;
+
 import org.jetbrains.annotations.Nullable;
 
 import lombok.NonNull;
@@ -46,14 +49,21 @@ public final class BombTower extends DamageTower {
             .getFloatProperty("BOMB_TOWER_AREA_DAMAGE_RANGE");
 
     /**
-     * Creates a new bomb tower with a specified position.
+     * Reused list of hostile units in area damage range, to avoid creating garbage on every attack
+     */
+    private final ArrayList<HostileUnit> hostileUnitsInAreaDamageRange;
+
+    /**
+     * Creates a new bomb tower with a specified identifier and position.
      *
-     * @param position         Position of this bomb tower
-     * @param entityController Controller for towers
+     * @param id             Identifier of this bomb tower, unique within its game
+     * @param position       Position of this bomb tower
+     * @param entityListener Listener for towers
      */
-    public BombTower(@NonNull Vector2 position, @Nullable EntityController entityController) {
-        super(position, BOMB_TOWER_RANGE, BOMB_TOWER_BUILD_COST, BOMB_TOWER_DAMAGE,
-                BOMB_TOWER_RELOAD_TIME_IN_MILLISECONDS, entityController);
+    public BombTower(long id, @NonNull Vector2 position, @Nullable EntityListener entityListener) {
+        super(id, position, BOMB_TOWER_RANGE, BOMB_TOWER_BUILD_COST, BOMB_TOWER_DAMAGE,
+                BOMB_TOWER_RELOAD_TIME_IN_MILLISECONDS, entityListener);
+        hostileUnitsInAreaDamageRange = new ArrayList<>();
     }
 
     /**
@@ -61,12 +71,12 @@ public final class BombTower extends DamageTower {
      * range around its position and applies its damage to every hostile unit found in this area.
      *
      * @param killOrder    If this bomb tower should also shoot the target
-     * @param hostileUnits Hostile units available to target
+     * @param hostileUnits Index of the hostile units available to target
      * @return True if attack was successful (tower attacked at least one hostile unit)
      */
     @Override
-    protected boolean target(boolean killOrder, @NonNull HostileUnit... hostileUnits) {
-        var hostileUnitsInRange = getHostileUnitsInRange(hostileUnits);
+    protected boolean target(boolean killOrder, @NonNull HostileUnitSpatialIndex hostileUnits) {
+        var hostileUnitsInRange = getHostileUnitsInRange();
 
         // TODO: use guard case
         // If there's at least one hostile unit, search for more in the area damage range around the one in normal range
@@ -77,12 +87,12 @@ public final class BombTower extends DamageTower {
 
             if (killOrder) {
                 // Get hostile units in area damage range around found hostile unit
-                var hostileUnitsInAreaDamageRange = getHostileUnitsInRange(hostileUnitInRange.getPosition(),
-                        AREA_DAMAGE_RANGE, hostileUnits);
+                getHostileUnitsInRange(hostileUnitInRange.getX(), hostileUnitInRange.getY(), AREA_DAMAGE_RANGE,
+                        hostileUnits, hostileUnitsInAreaDamageRange);
 
                 // Deal damage to each hostile unit
-                for (var hostileUnit : hostileUnitsInAreaDamageRange) {
-                    hostileUnit.dealDamage(getDamage());
+                for (int i = 0; i < hostileUnitsInAreaDamageRange.size(); i++) {
+                    hostileUnitsInAreaDamageRange.get(i).dealDamage(getDamage());
                 }
 
                 return true;
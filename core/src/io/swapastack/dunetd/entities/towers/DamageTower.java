@@ -2,7 +2,7 @@ package io.swapastack.dunetd.entities.towers;
 
 import com.badlogic.gdx.math.MathUtils;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
+import io.swapastack.dunetd.entities.EntityListener;
 import io.swapastack.dunetd.vectors.Vector2;
 
 import org.jetbrains.annotations.Nullable;
@@ -29,18 +29,19 @@ public abstract class DamageTower extends Tower {
     private final int damage;
 
     /**
-     * Creates a new damage tower with a specified position, range, build cost, damage and reload time.
+     * Creates a new damage tower with a specified identifier, position, range, build cost, damage and reload time.
      *
+     * @param id                       Identifier of this damage tower, unique within its game
      * @param position                 position of this guard tower
      * @param range                    Range of this damage tower, in which it attacks hostile units
      * @param buildCost                Costs to build this damage tower
      * @param damage                   Damage of this damage tower
      * @param reloadTimeInMilliseconds Time in milliseconds needed to reload
-     * @param entityController         Controller for towers
+     * @param entityListener           Listener for towers
      */
-    protected DamageTower(@NonNull Vector2 position, float range, int buildCost, int damage,
-                          int reloadTimeInMilliseconds, @Nullable EntityController entityController) {
-        super(position, range, buildCost, reloadTimeInMilliseconds, entityController,
+    protected DamageTower(long id, @NonNull Vector2 position, float range, int buildCost, int damage,
+                          int reloadTimeInMilliseconds, @Nullable EntityListener entityListener) {
+        super(id, position, range, buildCost, reloadTimeInMilliseconds, entityListener,
                 MathUtils.random(0, THREE_HUNDRED_SIXTY_DEGREES));
         this.damage = damage;
     }
@@ -1,8 +1,8 @@
 package io.swapastack.dunetd.entities.towers;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
 import io.swapastack.dunetd.config.Configuration;
-import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.entities.EntityListener;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
 import io.swapastack.dunetd.vectors.Vector2;
 
 import org.jetbrains.annotations.Nullable;
@@ -38,26 +38,27 @@ public final class GuardTower extends DamageTower {
             .getIntProperty("GUARD_TOWER_RELOAD_TIME_IN_MILLISECONDS");
 
     /**
-     * Creates a new guard tower with a specified position.
+     * Creates a new guard tower with a specified identifier and position.
      *
-     * @param position         of this guard tower
-     * @param entityController Controller for towers
+     * @param id             Identifier of this guard tower, unique within its game
+     * @param position       of this guard tower
+     * @param entityListener Listener for towers
      */
-    public GuardTower(@NonNull Vector2 position, @Nullable EntityController entityController) {
-        super(position, GUARD_TOWER_RANGE, GUARD_TOWER_BUILD_COST, GUARD_TOWER_DAMAGE,
-                GUARD_TOWER_RELOAD_TIME_IN_MILLISECONDS, entityController);
+    public GuardTower(long id, @NonNull Vector2 position, @Nullable EntityListener entityListener) {
+        super(id, position, GUARD_TOWER_RANGE, GUARD_TOWER_BUILD_COST, GUARD_TOWER_DAMAGE,
+                GUARD_TOWER_RELOAD_TIME_IN_MILLISECONDS, entityListener);
     }
 
     /**
      * Searches for one hostile unit in range of this guard tower and applies its damage to it.
      *
-     * @param hostileUnits Hostile units available to target
+     * @param hostileUnits Index of the hostile units available to target
      * @param killOrder    If this guard tower should also shoot the target
      * @return True if attack was successful (tower attacked at least one hostile unit)
      */
     @Override
-    protected boolean target(boolean killOrder, @NonNull HostileUnit... hostileUnits) {
-        var hostileUnitsInRange = getHostileUnitsInRange(hostileUnits);
+    protected boolean target(boolean killOrder, @NonNull HostileUnitSpatialIndex hostileUnits) {
+        var hostileUnitsInRange = getHostileUnitsInRange();
 
         // TODO: use guard case
         // If there's at least one hostile unit, target the first
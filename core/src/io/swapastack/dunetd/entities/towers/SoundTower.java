@@ -1,8 +1,8 @@
 package io.swapastack.dunetd.entities.towers;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
 import io.swapastack.dunetd.config.Configuration;
-import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.entities.EntityListener;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
 import io.swapastack.dunetd.vectors.Vector2;
 
 import org.jetbrains.annotations.Nullable;
@@ -46,26 +46,27 @@ public final class SoundTower extends Tower {
             .getIntProperty("SOUND_TOWER_SLOWING_EFFECT_DURATION_IN_MILLISECONDS");
 
     /**
-     * Creates a new sound tower with a specified position.
+     * Creates a new sound tower with a specified identifier and position.
      *
-     * @param position         Position of this sound tower
-     * @param entityController Controller for towers
+     * @param id             Identifier of this sound tower, unique within its game
+     * @param position       Position of this sound tower
+     * @param entityListener Listener for towers
      */
-    public SoundTower(@NonNull Vector2 position, @Nullable EntityController entityController) {
-        super(position, SOUND_TOWER_RANGE, SOUND_TOWER_BUILD_COST, SOUND_TOWER_RELOAD_TIME_IN_MILLISECONDS,
-                entityController, 0f);
+    public SoundTower(long id, @NonNull Vector2 position, @Nullable EntityListener entityListener) {
+        super(id, position, SOUND_TOWER_RANGE, SOUND_TOWER_BUILD_COST, SOUND_TOWER_RELOAD_TIME_IN_MILLISECONDS,
+                entityListener, 0f);
     }
 
     /**
      * Searches for every hostile unit in range of this sound tower and applies a slowing effect to each one.
      *
-     * @param hostileUnits Hostile units available to target
+     * @param hostileUnits Index of the hostile units available to target
      * @param killOrder    If this sound tower should also slow down the target
      * @return True if attack was successful (tower attacked at least one hostile unit)
      */
     @Override
-    protected boolean target(boolean killOrder, @NonNull HostileUnit... hostileUnits) {
-        var hostileUnitsInRange = getHostileUnitsInRange(hostileUnits);
+    protected boolean target(boolean killOrder, @NonNull HostileUnitSpatialIndex hostileUnits) {
+        var hostileUnitsInRange = getHostileUnitsInRange();
 
         // If there are no hostile units in range the attack wasn't successful
         if (hostileUnitsInRange.isEmpty() || !killOrder) {
@@ -73,8 +74,8 @@ public final class SoundTower extends Tower {
         }
 
         // Slow down every hostile unit in range
-        for (var hostileUnit : hostileUnitsInRange) {
-            hostileUnit.slowDown(SLOWING_EFFECT_MULTIPLIER, SLOWING_EFFECT_DURATION_IN_MILLISECONDS);
+        for (int i = 0; i < hostileUnitsInRange.size(); i++) {
+            hostileUnitsInRange.get(i).slowDown(SLOWING_EFFECT_MULTIPLIER, SLOWING_EFFECT_DURATION_IN_MILLISECONDS);
         }
 
         return true;
@@ -1,9 +1,9 @@
 package io.swapastack.dunetd.entities.towers;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
 import io.swapastack.dunetd.entities.Entity;
-import io.swapastack.dunetd.game.GameModelData;
+import io.swapastack.dunetd.entities.EntityListener;
 import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
 import io.swapastack.dunetd.math.DuneTDMath;
 import io.swapastack.dunetd.vectors.Vector2;
 
@@ -62,18 +62,32 @@ public abstract class Tower extends Entity {
     private boolean isDebris;
 
     /**
-     * Creates a new tower with a specified position, range, build cost and reload time.
+     * Hostile units in range of this tower found by {@link #selectTargets(HostileUnitSpatialIndex)}, reused to avoid
+     * creating garbage on every attack
+     */
+    @EqualsAndHashCode.Exclude
+    private final ArrayList<HostileUnit> hostileUnitsInRange;
+
+    /**
+     * Buffer of the queries of this tower, so towers can select their targets in parallel
+     */
+    @EqualsAndHashCode.Exclude
+    private final HostileUnitSpatialIndex.QueryBuffer queryBuffer;
+
+    /**
+     * Creates a new tower with a specified identifier, position, range, build cost and reload time.
      *
+     * @param id                       Identifier of this tower, unique within its game
      * @param position                 Position of this tower
      * @param range                    Range of the tower, in which it attacks hostile units
      * @param buildCost                Costs to build this tower
      * @param reloadTimeInMilliseconds Time in milliseconds needed to reload
-     * @param entityController         Controller for towers
+     * @param entityListener           Listener for towers
      * @param startRotation            Start rotation of game model
      */
-    protected Tower(@NonNull Vector2 position, float range, int buildCost, int reloadTimeInMilliseconds,
-                    @Nullable EntityController entityController, float startRotation) {
-        super(position, entityController, startRotation);
+    protected Tower(long id, @NonNull Vector2 position, float range, int buildCost, int reloadTimeInMilliseconds,
+                    @Nullable EntityListener entityListener, float startRotation) {
+        super(id, position, entityListener, startRotation);
 
         this.range = range;
         rangeSquared = range * range;
@@ -81,23 +95,55 @@ public abstract class Tower extends Entity {
         this.reloadTimeInMilliseconds = reloadTimeInMilliseconds;
         currentReloadTimeInMilliseconds = 0;
         isDebris = false;
+        hostileUnitsInRange = new ArrayList<>();
+        queryBuffer = new HostileUnitSpatialIndex.QueryBuffer();
     }
 
     /**
      * Adds game model of this tower to the scene manager.
      */
     public void show() {
-        firePropertyChange(EntityController.SHOW_EVENT_NAME, null);
+        notifyShow();
     }
 
     /**
      * Updates the logic of this tower (waiting for reload, attacking when reload finished, doing nothing when this
      * tower is a debris).
      *
-     * @param hostileUnits            Hostile units available on the grid
      * @param deltaTimeInMilliseconds The time in milliseconds since the last update
+     * @param hostileUnits            Index of the hostile units available on the grid
+     */
+    public final void update(float deltaTimeInMilliseconds, @NonNull HostileUnitSpatialIndex hostileUnits) {
+        selectTargets(hostileUnits);
+        attack(deltaTimeInMilliseconds, hostileUnits);
+    }
+
+    /**
+     * First phase of the update: searches for the hostile units in range of this tower. Only reads the index and the
+     * hostile units, so the targets of different towers can be selected in parallel.
+     *
+     * @param hostileUnits Index of the hostile units available on the grid
      */
-    public final void update(float deltaTimeInMilliseconds, @NonNull HostileUnit... hostileUnits) {
+    public final void selectTargets(@NonNull HostileUnitSpatialIndex hostileUnits) {
+        if (isDebris) {
+            hostileUnitsInRange.clear();
+            return;
+        }
+
+        var position = getPosition();
+        hostileUnits.query(position.x(), position.y(), rangeSquared, hostileUnitsInRange, queryBuffer);
+    }
+
+    /**
+     * Second phase of the update: waits for the reload and attacks the selected targets, which are still alive. Has
+     * to be called after {@link #selectTargets(HostileUnitSpatialIndex)} without moving the hostile units in between.
+     * Hostile units killed by towers which attacked before are skipped, so attacking in the same order as updating
+     * gives the same result.
+     *
+     * @param deltaTimeInMilliseconds The time in milliseconds since the last update
+     * @param hostileUnits            Index of the hostile units available on the grid
+     */
+    public final void attack(float deltaTimeInMilliseconds, @NonNull HostileUnitSpatialIndex hostileUnits) {
         if (isDebris) {
             return;
         }
@@ -118,52 +164,50 @@ public abstract class Tower extends Entity {
      * and allowed by {@code killOrder}.
      *
      * @param killOrder    If this tower should also shoot the target
-     * @param hostileUnits Hostile units available to target
+     * @param hostileUnits Index of the hostile units available to target
      * @return True if attack was successful (tower attacked at least one hostile unit)
      */
-    protected abstract boolean target(boolean killOrder, @NonNull HostileUnit... hostileUnits);
+    protected abstract boolean target(boolean killOrder, @NonNull HostileUnitSpatialIndex hostileUnits);
 
     /**
-     * Checks if there are hostile units in {@code hostileUnits}, which are in range of this tower and returns them.
+     * Returns the living hostile units in range of this tower, which were selected as targets. The returned list is
+     * reused by this tower and only valid until the next call.
      *
-     * @param hostileUnits Hostile units on the grid
      * @return Hostile units, which are in range of the tower
      */
     @NotNull
-    protected final ArrayList<HostileUnit> getHostileUnitsInRange(@NonNull HostileUnit... hostileUnits) {
-        return getHostileUnitsInRange(getPosition(), rangeSquared, hostileUnits);
+    protected final ArrayList<HostileUnit> getHostileUnitsInRange() {
+        // Positions don't change between selecting and attacking, but hostile units can be killed by other towers
+        var livingCount = 0;
+        for (int i = 0; i < hostileUnitsInRange.size(); i++) {
+            var hostileUnit = hostileUnitsInRange.get(i);
+            if (!hostileUnit.isDead()) {
+                hostileUnitsInRange.set(livingCount++, hostileUnit);
+            }
+        }
+        for (int i = hostileUnitsInRange.size() - 1; i >= livingCount; i--) {
+            hostileUnitsInRange.remove(i);
+        }
+        return hostileUnitsInRange;
     }
 
     /**
-     * Checks if there are hostile units in <code>hostileUnits</code>, which are in range of the specified position and
-     * returns them.
+     * Searches for living hostile units in <code>hostileUnits</code>, which are in range of the specified position
+     * and stores them in <code>result</code>.
      *
-     * @param hostileUnits Hostile units on the grid
-     * @param position     Position to search around
+     * @param x            X coordinate of the position to search around
+     * @param y            Y coordinate of the position to search around
      * @param rangeSquared Range around the position squared, where hostile units can be found
-     * @return Hostile units, which are in range of the position
+     * @param hostileUnits Index of the hostile units on the grid
+     * @param result       List to store the hostile units in range, is cleared before
+     * @return <code>result</code> containing the hostile units, which are in range of the position
      */
     @NotNull
-    protected static ArrayList<HostileUnit> getHostileUnitsInRange(@NonNull Vector2 position, float rangeSquared,
-                                                                   @NonNull HostileUnit... hostileUnits) {
-        var hostileUnitsInRange = new ArrayList<HostileUnit>();
-
-        // Check if hostile unit is in range, if so add it to list
-        for (var hostileUnit : hostileUnits) {
-            if (hostileUnit.isDead()) {
-                continue;
-            }
-
-            // Calculate distance squared
-            var hostileUnitPosition = hostileUnit.getPosition();
-            var distanceSquared = position.getDistanceSquared(hostileUnitPosition);
-
-            if (distanceSquared <= rangeSquared) {
-                hostileUnitsInRange.add(hostileUnit);
-            }
-        }
-
-        return hostileUnitsInRange;
+    protected static ArrayList<HostileUnit> getHostileUnitsInRange(float x, float y, float rangeSquared,
+                                                                   @NonNull HostileUnitSpatialIndex hostileUnits,
+                                                                   @NonNull ArrayList<HostileUnit> result) {
+        hostileUnits.query(x, y, rangeSquared, result);
+        return result;
     }
 
     /**
@@ -172,9 +216,14 @@ public abstract class Tower extends Entity {
      * @param hostileUnit Hostile unit to rotate to
      */
     protected final void rotateToHostileUnit(@NonNull HostileUnit hostileUnit) {
-        float rotation = DuneTDMath.getAngle(hostileUnit.getPosition(), getPosition());
-        var gameModelData = new GameModelData(rotation, getPosition());
-        firePropertyChange(EntityController.UPDATE_EVENT_NAME, gameModelData);
+        // Without a game model there's nothing to rotate
+        if (!hasListener()) {
+            return;
+        }
+
+        var position = getPosition();
+        float rotation = DuneTDMath.getAngle(hostileUnit.getX(), hostileUnit.getY(), position.x(), position.y());
+        notifyRotate(rotation);
     }
 
     /**
@@ -182,13 +231,13 @@ public abstract class Tower extends Entity {
      */
     public final void setToDebris() {
         isDebris = true;
-        firePropertyChange(EntityController.TO_DEBRIS_EVENT_NAME, true);
+        notifyToDebris();
     }
 
     /**
      * Removes game model of this tower from scene manager.
      */
     public void destroy() {
-        firePropertyChange(EntityController.DESTROY_EVENT_NAME, null);
+        notifyDestroy();
     }
 }
@@ -1,6 +1,6 @@
 package io.swapastack.dunetd.entities.towers;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
+import io.swapastack.dunetd.entities.EntityListener;
 import io.swapastack.dunetd.vectors.Vector2;
 
 import org.jetbrains.annotations.NotNull;
@@ -42,16 +42,17 @@ public enum TowerEnum {
     /**
      * Creates a tower from tower enum.
      *
-     * @param position         Position of the power
-     * @param entityController Controller for towers
+     * @param id             Identifier of the tower, unique within its game
+     * @param position       Position of the power
+     * @param entityListener Listener for towers
      * @return The tower object created from the tower enum
      */
     @NotNull
-    public Tower toTower(@NonNull Vector2 position, @Nullable EntityController entityController) {
+    public Tower toTower(long id, @NonNull Vector2 position, @Nullable EntityListener entityListener) {
         return switch (this) {
-            case GUARD_TOWER -> new GuardTower(position, entityController);
-            case BOMB_TOWER -> new BombTower(position, entityController);
-            case SOUND_TOWER -> new SoundTower(position, entityController);
+            case GUARD_TOWER -> new GuardTower(id, position, entityListener);
+            case BOMB_TOWER -> new BombTower(id, position, entityListener);
+            case SOUND_TOWER -> new SoundTower(id, position, entityListener);
         };
     }
 }
@@ -0,0 +1,287 @@
+package io.swapastack.dunetd.entities.towers;
+
+import io.swapastack.dunetd.config.Configuration;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import lombok.NonNull;
+import lombok.Setter;
+
+/**
+ * Registry of the towers on the grid, so towers don't have to be searched on the grid. Active towers are grouped by
+ * their {@link TowerEnum} and ordered by their position on the grid (column by column), towers turned into debris
+ * are kept separately until they are removed.
+ */
+public final class TowerRegistry {
+
+    /**
+     * Cached values of {@link TowerEnum}, because {@link TowerEnum#values()} creates a new array on every call
+     */
+    private static final TowerEnum[] TOWER_ENUMS = TowerEnum.values();
+
+    /**
+     * Minimum number of active towers from which the targets are selected in parallel, below that the overhead of
+     * the fork join pool outweighs the gain
+     */
+    private static final int TOWER_PARALLEL_TARGET_SELECTION_MIN_TOWERS = Configuration.getInstance()
+            .getIntProperty("TOWER_PARALLEL_TARGET_SELECTION_MIN_TOWERS");
+
+    /**
+     * Maximum number of towers, whose targets are selected by one task of the fork join pool
+     */
+    private static final int TOWERS_PER_TARGET_SELECTION_TASK = 16;
+
+    /**
+     * Active towers grouped by their type
+     */
+    private final EnumMap<TowerEnum, ArrayList<Tower>> activeTowers;
+
+    /**
+     * Towers which were turned into debris
+     */
+    private final ArrayList<Tower> debris;
+
+    /**
+     * Height of the grid, used to order towers by their position
+     */
+    private final int gridHeight;
+
+    /**
+     * Active towers in the order they are updated, rebuilt on the next update after the active towers changed
+     */
+    private Tower[] towersInUpdateOrder;
+
+    /**
+     * Number of towers in {@link #towersInUpdateOrder}
+     */
+    private int towerCount;
+
+    /**
+     * True if the active towers changed since {@link #towersInUpdateOrder} was built
+     */
+    private boolean updateOrderChanged;
+
+    /**
+     * Tasks selecting the targets of all towers in parallel, built together with {@link #towersInUpdateOrder} and
+     * reused every update, so selecting the targets in parallel doesn't allocate
+     */
+    private TargetSelectionTask targetSelectionTask;
+
+    /**
+     * Index of the hostile units, which is passed to the towers by the target selection tasks during an update
+     */
+    private HostileUnitSpatialIndex targetSelectionHostileUnits;
+
+    /**
+     * False if the targets are always selected sequentially, regardless of the number of active towers
+     */
+    @Setter
+    private boolean parallelTargetSelection;
+
+    /**
+     * Creates an empty tower registry for a grid with the specified height.
+     *
+     * @param gridHeight Height of the grid
+     */
+    public TowerRegistry(int gridHeight) {
+        this.gridHeight = gridHeight;
+        activeTowers = new EnumMap<>(TowerEnum.class);
+        for (var towerEnum : TOWER_ENUMS) {
+            activeTowers.put(towerEnum, new ArrayList<>());
+        }
+        debris = new ArrayList<>();
+        towersInUpdateOrder = new Tower[0];
+        towerCount = 0;
+        targetSelectionTask = new TargetSelectionTask(0, 0);
+        updateOrderChanged = false;
+        parallelTargetSelection = true;
+    }
+
+    /**
+     * Adds the specified tower to the active towers of its type.
+     *
+     * @param tower Tower to add
+     */
+    public void add(@NonNull Tower tower) {
+        if (tower.isDebris()) {
+            throw new IllegalArgumentException("A debris cannot be added as active tower");
+        }
+
+        var towers = activeTowers.get(TowerEnum.fromTower(tower));
+
+        // Keep the towers ordered by position, so they are updated in the same order as on the grid
+        var gridIndex = getGridIndex(tower);
+        var insertionIndex = towers.size();
+        while (insertionIndex > 0 && getGridIndex(towers.get(insertionIndex - 1)) > gridIndex) {
+            insertionIndex--;
+        }
+        towers.add(insertionIndex, tower);
+        updateOrderChanged = true;
+    }
+
+    /**
+     * Removes the specified tower from the registry, regardless if it's active or a debris.
+     *
+     * @param tower Tower to remove
+     * @return True if the tower was registered
+     */
+    public boolean remove(@NonNull Tower tower) {
+        if (tower.isDebris()) {
+            return debris.remove(tower);
+        }
+        var removed = activeTowers.get(TowerEnum.fromTower(tower)).remove(tower);
+        updateOrderChanged |= removed;
+        return removed;
+    }
+
+    /**
+     * Turns the specified tower into a debris and moves it from the active towers to the debris.
+     *
+     * @param tower Active tower to turn into a debris
+     */
+    public void setToDebris(@NonNull Tower tower) {
+        if (tower.isDebris() || !activeTowers.get(TowerEnum.fromTower(tower)).remove(tower)) {
+            throw new IllegalArgumentException("Only registered active towers can be turned into a debris");
+        }
+
+        tower.setToDebris();
+        debris.add(tower);
+        updateOrderChanged = true;
+    }
+
+    /**
+     * Updates all active towers, type by type. First all towers select their targets, which only reads the hostile
+     * units and is done in parallel if there are enough towers. Then the towers attack one after another in the same
+     * order, so the result doesn't depend on the number of threads.
+     *
+     * @param deltaTimeInMilliseconds The time in milliseconds since the last update
+     * @param hostileUnits            Index of the hostile units on the grid
+     */
+    public void updateTowers(float deltaTimeInMilliseconds, @NonNull HostileUnitSpatialIndex hostileUnits) {
+        if (updateOrderChanged) {
+            updateTowersInUpdateOrder();
+        }
+
+        if (parallelTargetSelection && towerCount >= TOWER_PARALLEL_TARGET_SELECTION_MIN_TOWERS) {
+            targetSelectionHostileUnits = hostileUnits;
+            targetSelectionTask.reinitialize();
+            ForkJoinPool.commonPool().invoke(targetSelectionTask);
+            targetSelectionHostileUnits = null;
+        } else {
+            for (int i = 0; i < towerCount; i++) {
+                towersInUpdateOrder[i].selectTargets(hostileUnits);
+            }
+        }
+
+        for (int i = 0; i < towerCount; i++) {
+            towersInUpdateOrder[i].attack(deltaTimeInMilliseconds, hostileUnits);
+        }
+    }
+
+    /**
+     * Returns the active towers of the specified type ordered by their position.
+     *
+     * @param towerEnum Type of the towers
+     * @return Unmodifiable list of active towers
+     */
+    public List<Tower> getActiveTowers(@NonNull TowerEnum towerEnum) {
+        return Collections.unmodifiableList(activeTowers.get(towerEnum));
+    }
+
+    /**
+     * Returns the towers which were turned into debris.
+     *
+     * @return Unmodifiable list of debris
+     */
+    public List<Tower> getDebris() {
+        return Collections.unmodifiableList(debris);
+    }
+
+    /**
+     * Removes all debris from the registry.
+     */
+    public void clearDebris() {
+        debris.clear();
+    }
+
+    /**
+     * Returns the number of active towers.
+     *
+     * @return Number of active towers
+     */
+    public int getNumberOfActiveTowers() {
+        var count = 0;
+        for (var towerEnum : TOWER_ENUMS) {
+            count += activeTowers.get(towerEnum).size();
+        }
+        return count;
+    }
+
+    private void updateTowersInUpdateOrder() {
+        var numberOfActiveTowers = getNumberOfActiveTowers();
+        if (towersInUpdateOrder.length < numberOfActiveTowers) {
+            towersInUpdateOrder = new Tower[numberOfActiveTowers];
+        }
+
+        towerCount = 0;
+        for (var towerEnum : TOWER_ENUMS) {
+            for (var tower : activeTowers.get(towerEnum)) {
+                towersInUpdateOrder[towerCount++] = tower;
+            }
+        }
+        // Don't keep removed towers alive
+        Arrays.fill(towersInUpdateOrder, towerCount, towersInUpdateOrder.length, null);
+        targetSelectionTask = new TargetSelectionTask(0, towerCount);
+        updateOrderChanged = false;
+    }
+
+    private int getGridIndex(@NonNull Tower tower) {
+        return (int) tower.getPosition().x() * gridHeight + (int) tower.getPosition().y();
+    }
+
+    /**
+     * Selects the targets of a range of the towers in update order. Ranges with more than
+     * {@link #TOWERS_PER_TARGET_SELECTION_TASK} towers are split in two halves, whose tasks are created once with
+     * their parent and reset before every run.
+     */
+    private final class TargetSelectionTask extends RecursiveAction {
+
+        private final int start;
+        private final int end;
+        private final TargetSelectionTask firstHalf;
+        private final TargetSelectionTask secondHalf;
+
+        private TargetSelectionTask(int start, int end) {
+            this.start = start;
+            this.end = end;
+            if (end - start > TOWERS_PER_TARGET_SELECTION_TASK) {
+                var middle = (start + end) >>> 1;
+                firstHalf = new TargetSelectionTask(start, middle);
+                secondHalf = new TargetSelectionTask(middle, end);
+            } else {
+                firstHalf = null;
+                secondHalf = null;
+            }
+        }
+
+        @Override
+        protected void compute() {
+            if (firstHalf == null) {
+                for (int i = start; i < end; i++) {
+                    towersInUpdateOrder[i].selectTargets(targetSelectionHostileUnits);
+                }
+            } else {
+                firstHalf.reinitialize();
+                secondHalf.reinitialize();
+                invokeAll(firstHalf, secondHalf);
+            }
+        }
+    }
+}
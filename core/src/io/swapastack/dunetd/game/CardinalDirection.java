@@ -21,6 +21,11 @@ public enum CardinalDirection {
     SOUTH(180, new Vector2(0, -1)),
     WEST(270, new Vector2(-1, 0));
 
+    /**
+     * Cached values, because {@link #values()} creates a new array on every call
+     */
+    private static final CardinalDirection[] VALUES = values();
+
     @Getter
     private final float degrees;
 
@@ -45,4 +50,21 @@ public enum CardinalDirection {
                 .findFirst()
                 .orElseThrow(() -> new IllegalStateException("Passed direction didn't match any cardinal direction"));
     }
+
+    /**
+     * Creates cardinal direction from the coordinates of a direction vector, without creating a vector.
+     *
+     * @param directionX X coordinate of normalized direction vector
+     * @param directionY Y coordinate of normalized direction vector
+     * @return Cardinal direction according to specified direction vector
+     * @throws IllegalStateException If the direction vector doesn't match any of the cardinal directions vectors
+     */
+    public static CardinalDirection fromDirection(float directionX, float directionY) throws IllegalStateException {
+        for (var cardinalDirection : VALUES) {
+            if (cardinalDirection.direction.x() == directionX && cardinalDirection.direction.y() == directionY) {
+                return cardinalDirection;
+            }
+        }
+        throw new IllegalStateException("Passed direction didn't match any cardinal direction");
+    }
 }
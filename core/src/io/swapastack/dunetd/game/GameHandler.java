@@ -1,24 +1,28 @@
 package io.swapastack.dunetd.game;
 
-import io.swapastack.dunetd.assets.controller.EntityController;
-import io.swapastack.dunetd.assets.controller.HostileUnitController;
-import io.swapastack.dunetd.assets.controller.ShaiHuludController;
 import io.swapastack.dunetd.config.Configuration;
 import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.entities.EntityListener;
 import io.swapastack.dunetd.entities.portals.Portal;
 import io.swapastack.dunetd.entities.portals.PortalType;
 import io.swapastack.dunetd.entities.towers.Tower;
 import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.entities.towers.TowerRegistry;
 import io.swapastack.dunetd.hostileunits.HostileUnit;
 import io.swapastack.dunetd.hostileunits.HostileUnitEnum;
+import io.swapastack.dunetd.hostileunits.HostileUnitListener;
+import io.swapastack.dunetd.hostileunits.HostileUnitPool;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
+import io.swapastack.dunetd.hostileunits.HostileUnitStore;
 import io.swapastack.dunetd.math.DuneTDMath;
+import io.swapastack.dunetd.pathfinding.IncrementalPathFinder;
 import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.pathfinding.PathBlockingMap;
 import io.swapastack.dunetd.shaihulud.ShaiHulud;
+import io.swapastack.dunetd.shaihulud.ShaiHuludListener;
 import io.swapastack.dunetd.vectors.Vector2;
 
-import java.util.ArrayList;
-import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -66,9 +70,9 @@ public final class GameHandler {
     private static final int INFANTRY_MAX_COUNT = Configuration.getInstance().getIntProperty("INFANTRY_MAX_COUNT");
     private static final int HARVESTER_MAX_COUNT = Configuration.getInstance().getIntProperty("HARVESTER_MAX_COUNT");
 
-    // Controller for entities and hostile units
-    private final EntityController entityController;
-    private final HostileUnitController hostileUnitController;
+    // Listener for entities and hostile units
+    private final EntityListener entityListener;
+    private final HostileUnitListener hostileUnitListener;
 
     // Player information
     @Getter
@@ -85,11 +89,27 @@ public final class GameHandler {
     private final int gridWidth;
     @Getter
     private final int gridHeight;
+    @Getter
+    private final TowerRegistry towerRegistry;
+    /**
+     * Identifier of the next entity placed on the grid, counted per game so a game gets the same identifiers in every
+     * run which creates its entities in the same order
+     */
+    private long nextEntityId;
 
     // Hostile units and wave
+    /**
+     * Hostile units on the grid in the order they were released
+     */
     @Getter
-    private final ArrayList<HostileUnit> hostileUnitsOnGrid;
-    private Queue<HostileUnit> hostileUnitsQueue;
+    private final HostileUnitStore hostileUnitStore;
+    private WaveSchedule waveSchedule;
+    private final HostileUnitPool hostileUnitPool;
+    /**
+     * Returns removed hostile units to the pool, created once so removing hostile units doesn't allocate every tick
+     */
+    private final Consumer<HostileUnit> freeHostileUnit;
+    private final HostileUnitSpatialIndex hostileUnitSpatialIndex;
     private int infantryWaveBudget;
     private int harvesterWaveBudget;
     private int bossUnitWaveBudget;
@@ -112,6 +132,17 @@ public final class GameHandler {
     private boolean gamePaused;
     @Getter
     private Path path;
+    /**
+     * Incremented every time the path is replaced, so the path has only to be redrawn if the version changed
+     */
+    @Getter
+    private int pathVersion;
+    private final IncrementalPathFinder pathFinder;
+    private final PathBlockingMap pathBlockingMap;
+    /**
+     * Factor by which the simulation engine speeds up or slows down the game, reset after every wave
+     */
+    @Getter
     private TimeFactor timeFactor;
 
     // ShaiHulud
@@ -140,9 +171,9 @@ public final class GameHandler {
      * @param gridWidth  Width of the grid
      * @param gridHeight Height of the grid
      */
-    public GameHandler(int gridWidth, int gridHeight, @Nullable EntityController entityController,
-                       @Nullable HostileUnitController hostileUnitController,
-                       @Nullable ShaiHuludController shaiHuludController) {
+    public GameHandler(int gridWidth, int gridHeight, @Nullable EntityListener entityListener,
+                       @Nullable HostileUnitListener hostileUnitListener,
+                       @Nullable ShaiHuludListener shaiHuludListener) {
         // Check if gridWidth and gridHeight have valid values
         if (gridWidth < 2 || gridWidth > MAX_GRID_WIDTH) {
             throw new IllegalArgumentException("The grid must have a width between 2 and " + MAX_GRID_WIDTH);
@@ -160,24 +191,36 @@ public final class GameHandler {
         this.gridWidth = gridWidth;
         this.gridHeight = gridHeight;
         grid = new Entity[gridWidth][gridHeight];
+        towerRegistry = new TowerRegistry(gridHeight);
 
-        this.entityController = entityController;
-        this.hostileUnitController = hostileUnitController;
+        this.entityListener = entityListener;
+        this.hostileUnitListener = hostileUnitListener;
 
         // Placing portals on the grid and adding game models to portals and adding them to the scene manager
-        startPortal = new Portal(Vector2.ZERO, PortalType.START, entityController);
+        startPortal = new Portal(nextEntityId++, Vector2.ZERO, PortalType.START, entityListener);
         placeEntityOnGrid(startPortal);
-        endPortal = new Portal(new Vector2(gridWidth - 1, gridHeight - 1), PortalType.END, entityController);
+        endPortal = new Portal(nextEntityId++, new Vector2(gridWidth - 1, gridHeight - 1), PortalType.END,
+                entityListener);
         placeEntityOnGrid(endPortal);
 
         // Find first path and check if it's valid
-        path = Path.calculatePath(grid, startPortal.getPosition(), endPortal.getPosition());
+        pathFinder = new IncrementalPathFinder(gridWidth, gridHeight, startPortal.getPosition(),
+                endPortal.getPosition());
+        path = pathFinder.calculatePath();
         if (path.getLength() < 1) {
             throw new IllegalArgumentException("The path must have a length of at least one");
         }
+        pathBlockingMap = new PathBlockingMap(gridWidth, gridHeight, startPortal.getPosition(),
+                endPortal.getPosition());
+        pathBlockingMap.update(grid);
 
         // Prepare first wave
-        hostileUnitsOnGrid = new ArrayList<>();
+        // Boss units have no maximum count, the store grows if there are more hostile units
+        hostileUnitStore = new HostileUnitStore(INFANTRY_MAX_COUNT + HARVESTER_MAX_COUNT + 1);
+        hostileUnitSpatialIndex = new HostileUnitSpatialIndex(gridWidth, gridHeight);
+        hostileUnitPool = new HostileUnitPool(hostileUnitListener);
+        freeHostileUnit = hostileUnitPool::free;
+        waveSchedule = new WaveSchedule();
         // Set initial game state
         infantryWaveBudget = INFANTRY_INITIAL_WAVE_BUDGET;
         harvesterWaveBudget = HARVESTER_INITIAL_WAVE_BUDGET;
@@ -190,7 +233,7 @@ public final class GameHandler {
         gamePaused = false;
         timeFactor = TimeFactor.NORMAL;
 
-        shaiHulud = new ShaiHulud(grid, shaiHuludController);
+        shaiHulud = new ShaiHulud(grid, towerRegistry, shaiHuludListener);
         statistics = new Statistics();
     }
 
@@ -204,12 +247,10 @@ public final class GameHandler {
             return;
         }
 
-        // speed up or slow down time
-        var factoredDeltaTimeInMilliseconds = deltaTimeInMilliseconds * timeFactor.getFactor();
-
+        // The time factor is applied by the simulation engine, which executes more ticks instead of longer ones
         switch (gamePhase) {
-            case BUILD_PHASE -> executeBuildPhase(factoredDeltaTimeInMilliseconds);
-            case WAVE_PHASE -> executeWavePhase(factoredDeltaTimeInMilliseconds);
+            case BUILD_PHASE -> executeBuildPhase(deltaTimeInMilliseconds);
+            case WAVE_PHASE -> executeWavePhase(deltaTimeInMilliseconds);
             default -> { /* Do nothing because game is finished */ }
         }
     }
@@ -225,9 +266,9 @@ public final class GameHandler {
         // End of build phase, create new wave
         if (remainingBuildPhaseDurationInMilliseconds <= 0) {
             gamePhase = GamePhase.WAVE_PHASE;
+            hostileUnitReleaseDelayInMilliseconds *= HOSTILE_UNIT_RELEASE_DELAY_MULTIPLIER;
             createNewWave();
             remainingHostileUnitReleaseDelayInMilliseconds = 0;
-            hostileUnitReleaseDelayInMilliseconds *= HOSTILE_UNIT_RELEASE_DELAY_MULTIPLIER;
         }
     }
 
@@ -240,8 +281,11 @@ public final class GameHandler {
         // Release new hostile units on the grid through the start portal
         releaseHostileUnits(deltaTimeInMilliseconds);
 
+        // Hostile units only move after the towers attacked, so the index stays valid until then
+        hostileUnitSpatialIndex.rebuild(hostileUnitStore);
+
         // Update shai hulud (moving, killing hostile units, setting towers to debris)
-        shaiHulud.update(hostileUnitsOnGrid, deltaTimeInMilliseconds, statistics);
+        shaiHulud.update(hostileUnitSpatialIndex, deltaTimeInMilliseconds, statistics);
 
         // Let towers attack the hostile units
         updateTowers(deltaTimeInMilliseconds);
@@ -254,7 +298,7 @@ public final class GameHandler {
         if (playerHealth <= 0) {
             gamePhase = GamePhase.GAME_LOST_PHASE;
             pauseGame(true);
-        } else if (hostileUnitsQueue.isEmpty() && hostileUnitsOnGrid.isEmpty()) {
+        } else if (!waveSchedule.hasNext() && hostileUnitStore.getSize() == 0) {
             removeDebris();
             timeFactor = TimeFactor.NORMAL;
 
@@ -290,13 +334,15 @@ public final class GameHandler {
      * @return True if the tower could be placed, otherwise false
      */
     public boolean buildTower(@NonNull TowerEnum towerEnum, int x, int y) {
-        // If the game is not in the build phase or the position is occupied, the tower cannot be built
-        if (gamePhase != GamePhase.BUILD_PHASE || !DuneTDMath.isPositionAvailable(grid, x, y)) {
+        // If the game is not in the build phase, the position is occupied or the tower would block the path, the
+        // tower cannot be built
+        if (gamePhase != GamePhase.BUILD_PHASE || !DuneTDMath.isPositionAvailable(grid, x, y)
+                || pathBlockingMap.wouldBlockPath(x, y)) {
             return false;
         }
 
         // Create new tower according to the players selection
-        var tower = towerEnum.toTower(new Vector2(x, y), entityController);
+        var tower = towerEnum.toTower(nextEntityId++, new Vector2(x, y), entityListener);
 
         // Place newly created tower
         return buildTower(tower, x, y);
@@ -311,16 +357,17 @@ public final class GameHandler {
      * @return true if the tower could be placed, otherwise false
      */
     private boolean buildTower(@NonNull Tower tower, int x, int y) {
-        // If the game is not in the build phase, the position is occupied or the player has not enough spice, the
-        // tower cannot be built
+        // If the game is not in the build phase, the position is occupied, the tower would block the path or the
+        // player has not enough spice, the tower cannot be built
         if (gamePhase != GamePhase.BUILD_PHASE || !DuneTDMath.isPositionAvailable(grid, x, y)
-                || playerSpice < tower.getBuildCost()) {
+                || pathBlockingMap.wouldBlockPath(x, y) || playerSpice < tower.getBuildCost()) {
             tower.destroy();
             return false;
         }
 
         // Set tower at new position
         grid[x][y] = tower;
+        pathFinder.setBlocked(x, y, true);
 
         boolean isPositionOnPath = false;
         for (var wayPoint : path.getWaypoints()) {
@@ -330,21 +377,12 @@ public final class GameHandler {
             }
         }
 
-        // If position is on the path, check if there's another path
+        // If position is on the path, replace it with the path around the tower, there is one because the tower
+        // doesn't block the path
         if (isPositionOnPath) {
-            var newPath = Path.calculatePath(grid, startPortal.getPosition(), endPortal.getPosition());
-
-            // If there's no other path, abort building of tower
-            if (newPath.isBlocked()) {
-                // Remove path blocking entity
-                grid[x][y] = null;
-                tower.destroy();
-                return false;
-            }
-
-            // Replace old path with new path
-            path = newPath;
+            setPath(pathFinder.calculatePath());
         }
+        pathBlockingMap.update(grid);
 
         // Start the countdown of the build phase if the first tower was built
         if (!gameStarted) {
@@ -353,6 +391,7 @@ public final class GameHandler {
 
         playerSpice -= tower.getBuildCost();
 
+        towerRegistry.add(tower);
         tower.show();
 
         statistics.builtTower(TowerEnum.fromTower(tower));
@@ -388,14 +427,17 @@ public final class GameHandler {
         if (entity instanceof Tower tower) {
             tower.destroy();
             grid[x][y] = null;
+            pathFinder.setBlocked(x, y, false);
+            pathBlockingMap.update(grid);
+            towerRegistry.remove(tower);
 
             // Get refund
             playerSpice += TOWER_TEAR_DOWN_REFUND * tower.getBuildCost();
 
             // Calculate new path, only if new path is shorter replace old path
-            var newPath = Path.calculatePath(grid, startPortal.getPosition(), endPortal.getPosition());
+            var newPath = pathFinder.calculatePath();
             if (newPath.getLength() < path.getLength()) {
-                path = newPath;
+                setPath(newPath);
             }
 
             return true;
@@ -406,69 +448,62 @@ public final class GameHandler {
     }
 
     /**
-     * Fills the hostileUnitsQueue with hostile units from a new wave. Each type of hostile unit has its own budget and
-     * max count which cannot be exceeded.
+     * Creates the wave schedule of a new wave. Each type of hostile unit has its own budget and max count which cannot
+     * be exceeded.
      */
     private void createNewWave() {
-        hostileUnitsQueue = new LinkedBlockingQueue<>();
-        var spawnPoint = startPortal.getPosition();
+        waveSchedule = new WaveSchedule();
 
-        // Add infantry to wave queue
-        int remainingBudget = getHostileUnitsFromBudget(HostileUnitEnum.INFANTRY, infantryWaveBudget,
-                INFANTRY_PURCHASE_PRICE, spawnPoint, INFANTRY_MAX_COUNT);
+        // Add infantry to wave schedule
+        int remainingBudget = addHostileUnitsFromBudget(HostileUnitEnum.INFANTRY, infantryWaveBudget,
+                INFANTRY_PURCHASE_PRICE, INFANTRY_MAX_COUNT);
         var remainingHarvesterWaveBudget = harvesterWaveBudget + remainingBudget;
 
-        // Add harvesters to wave queue
-        remainingBudget = getHostileUnitsFromBudget(HostileUnitEnum.HARVESTER, remainingHarvesterWaveBudget,
-                HARVESTER_PURCHASE_PRICE, spawnPoint, HARVESTER_MAX_COUNT);
+        // Add harvesters to wave schedule
+        remainingBudget = addHostileUnitsFromBudget(HostileUnitEnum.HARVESTER, remainingHarvesterWaveBudget,
+                HARVESTER_PURCHASE_PRICE, HARVESTER_MAX_COUNT);
         var remainingBossUnitWaveBudget = bossUnitWaveBudget + remainingBudget;
 
-        // Add boss units to wave queue
-        getHostileUnitsFromBudget(HostileUnitEnum.BOSS_UNIT, remainingBossUnitWaveBudget, BOSS_UNIT_PURCHASE_PRICE,
-                spawnPoint, Integer.MAX_VALUE);
+        // Add boss units to wave schedule
+        addHostileUnitsFromBudget(HostileUnitEnum.BOSS_UNIT, remainingBossUnitWaveBudget, BOSS_UNIT_PURCHASE_PRICE,
+                Integer.MAX_VALUE);
 
-        waveHostileUnitCount = hostileUnitsQueue.size();
+        waveHostileUnitCount = waveSchedule.getHostileUnitCount();
     }
 
     /**
-     * Adds hostile units of the specified type to the hostile units queue, limited by the specified budget and max
-     * count variables.
+     * Adds hostile units of the specified type to the wave schedule, limited by the specified budget and max count
+     * variables.
      *
      * @param hostileUnitEnum Type of hostile units added
      * @param budget          Budget for hostile units
      * @param purchasePrice   Price to 'buy' hostile units
-     * @param spawnPoint      Spawn point of each hostile unit (start portal)
-     * @param maxCount        Maximum amount of hostile units of specified type added to the queue
+     * @param maxCount        Maximum amount of hostile units of specified type added to the wave schedule
      * @return Budget remaining after purchasing hostile units
      */
-    private int getHostileUnitsFromBudget(@NonNull HostileUnitEnum hostileUnitEnum, int budget, int purchasePrice,
-                                          @NonNull Vector2 spawnPoint, int maxCount) {
-        int remainingBudget = budget;
-        int count = 0;
-        while (remainingBudget >= purchasePrice && count < maxCount) {
-            var hostileUnit = hostileUnitEnum.toHostileUnit(spawnPoint, hostileUnitController);
-            remainingBudget -= purchasePrice;
-            hostileUnitsQueue.add(hostileUnit);
-            count++;
-        }
-        return remainingBudget;
+    private int addHostileUnitsFromBudget(@NonNull HostileUnitEnum hostileUnitEnum, int budget, int purchasePrice,
+                                          int maxCount) {
+        var count = budget < purchasePrice ? 0 : Math.min(budget / purchasePrice, maxCount);
+        waveSchedule.add(hostileUnitEnum, count, hostileUnitReleaseDelayInMilliseconds);
+        return budget - count * purchasePrice;
     }
 
     /**
-     * Releases hostile units on the grid, if available in <code>hostileUnitsQueue</code>.
+     * Releases hostile units on the grid through the start portal, if there are any left in the wave schedule. The
+     * hostile units are only created when they are released.
      *
      * @param deltaTimeInMilliseconds The time in milliseconds since the last update
      */
     private void releaseHostileUnits(float deltaTimeInMilliseconds) {
         if (remainingHostileUnitReleaseDelayInMilliseconds > 0) {
             remainingHostileUnitReleaseDelayInMilliseconds -= deltaTimeInMilliseconds;
-        } else if (!hostileUnitsQueue.isEmpty()) {
-            // Get hostile unit from queue and put in on the grid
-            var hostileUnit = hostileUnitsQueue.poll();
+        } else if (waveSchedule.hasNext()) {
+            // Create next hostile unit of the wave and put in on the grid
+            var hostileUnit = hostileUnitPool.obtain(waveSchedule.next(), startPortal.getPosition());
             hostileUnit.show();
-            hostileUnitsOnGrid.add(hostileUnit);
+            hostileUnitStore.attach(hostileUnit);
             // Reset delay
-            remainingHostileUnitReleaseDelayInMilliseconds = hostileUnitReleaseDelayInMilliseconds;
+            remainingHostileUnitReleaseDelayInMilliseconds = waveSchedule.getReleaseDelayInMilliseconds();
         }
     }
 
@@ -479,27 +514,33 @@ public final class GameHandler {
      * @param deltaTimeInMilliseconds The time in milliseconds since the last update
      */
     private void updateHostileUnits(float deltaTimeInMilliseconds) {
-        for (int i = hostileUnitsOnGrid.size() - 1; i >= 0; i--) {
-            var hostileUnit = hostileUnitsOnGrid.get(i);
+        var endPortalX = endPortal.getPosition().x();
+        var endPortalY = endPortal.getPosition().y();
+
+        for (int slot = 0; slot < hostileUnitStore.getSize(); slot++) {
+            var hostileUnit = hostileUnitStore.getHostileUnit(slot);
 
             // Remove hostile unit if dead
-            if (hostileUnit.isDead()) {
+            if (hostileUnitStore.isDead(slot)) {
                 playerSpice += hostileUnit.getSpiceReward();
-                hostileUnitsOnGrid.remove(hostileUnit);
-                statistics.killedHostileUnitByTower(HostileUnitEnum.fromHostileUnit(hostileUnit));
+                statistics.killedHostileUnitByTower(hostileUnitStore.getType(slot));
+                hostileUnitStore.markForRemoval(slot);
 
                 // Remove hostile unit if at end portal
-            } else if (hostileUnit.getPosition().equals(endPortal.getPosition())) {
-                playerHealth -= hostileUnit.getHealth();
+            } else if (hostileUnitStore.getX(slot) == endPortalX && hostileUnitStore.getY(slot) == endPortalY) {
+                playerHealth -= hostileUnitStore.getHealth(slot);
+                statistics.hostileUnitReachedEndPortal(hostileUnitStore.getType(slot));
                 hostileUnit.kill();
-                hostileUnitsOnGrid.remove(hostileUnit);
-                statistics.hostileUnitReachedEndPortal(HostileUnitEnum.fromHostileUnit(hostileUnit));
+                hostileUnitStore.markForRemoval(slot);
 
                 // Otherwise, move hostile unit
             } else {
                 hostileUnit.move(path, deltaTimeInMilliseconds);
             }
         }
+
+        // Remove all dead hostile units at once, so each removal doesn't shift the remaining hostile units
+        hostileUnitStore.removeMarked(freeHostileUnit);
     }
 
     /**
@@ -508,34 +549,52 @@ public final class GameHandler {
      * @param deltaTimeInMilliseconds The time in milliseconds since the last update
      */
     private void updateTowers(float deltaTimeInMilliseconds) {
-        for (var entities : grid) {
-            for (var entity : entities) {
-                if (entity instanceof Tower tower && !tower.isDebris()) {
-                    tower.update(deltaTimeInMilliseconds, hostileUnitsOnGrid.toArray(HostileUnit[]::new));
-                }
-            }
-        }
+        towerRegistry.updateTowers(deltaTimeInMilliseconds, hostileUnitSpatialIndex);
     }
 
     /**
      * Removes all debris from the grid.
      */
     private void removeDebris() {
-        for (int x = 0; x < grid.length; x++) {
-            for (int y = 0; y < grid[x].length; y++) {
-                if (grid[x][y] instanceof Tower tower && tower.isDebris()) {
-                    tower.destroy();
-                    grid[x][y] = null;
-                }
-            }
+        var debris = towerRegistry.getDebris();
+        for (int i = 0; i < debris.size(); i++) {
+            var tower = debris.get(i);
+            tower.destroy();
+            var x = (int) tower.getPosition().x();
+            var y = (int) tower.getPosition().y();
+            grid[x][y] = null;
+            pathFinder.setBlocked(x, y, false);
         }
+        towerRegistry.clearDebris();
+        pathBlockingMap.update(grid);
         // Calculate new path, only if new path is shorter replace old path
-        var newPath = Path.calculatePath(grid, startPortal.getPosition(), endPortal.getPosition());
+        var newPath = pathFinder.calculatePath();
         if (newPath.getLength() < path.getLength()) {
-            path = newPath;
+            setPath(newPath);
         }
     }
 
+    /**
+     * Replaces the path and increments the path version.
+     *
+     * @param newPath New path of the hostile units
+     */
+    private void setPath(@NonNull Path newPath) {
+        path = newPath;
+        pathVersion++;
+    }
+
+    /**
+     * Returns if building a tower at the specified position would block the path between the portals.
+     *
+     * @param x X coordinate on grid
+     * @param y Y coordinate on grid
+     * @return True if a tower at the position would block the path
+     */
+    public boolean wouldBlockPath(int x, int y) {
+        return pathBlockingMap.wouldBlockPath(x, y);
+    }
+
     /**
      * Returns the number of hostile units remaining in current wave. (Sum of hostile units on grid and hostile units
      * in queue).
@@ -543,7 +602,7 @@ public final class GameHandler {
      * @return Number of hostile units remaining in current wave
      */
     public int getNumberOfRemainingHostileUnits() {
-        return hostileUnitsOnGrid.size() + hostileUnitsQueue.size();
+        return hostileUnitStore.getSize() + waveSchedule.getRemainingHostileUnitCount();
     }
 
     /**
@@ -571,8 +630,8 @@ public final class GameHandler {
      */
     public void pauseGame(boolean pause) {
         gamePaused = pause;
-        if (hostileUnitController != null) {
-            hostileUnitController.pauseAnimations(gamePaused);
+        if (hostileUnitListener != null) {
+            hostileUnitListener.onPause(gamePaused);
         }
     }
 
@@ -9,10 +9,13 @@ public enum TimeFactor {
     NORMAL(1f),
     DOUBLE(2f),
     TRIPLE(3f),
-    QUADRUPLE(4f);
+    QUADRUPLE(4f),
+    SIXTEENFOLD(16f),
+    SIXTY_FOURFOLD(64f);
 
     /**
-     * Factor to multiply with delta time in the render methods to speed up or slow down time
+     * Factor to multiply with delta time in the render methods to speed up or slow down time. The simulation engine
+     * executes more or less fixed ticks per frame, the duration of a tick doesn't change.
      */
     @Getter
     private final float factor;
@@ -28,12 +31,16 @@ public enum TimeFactor {
             case HALF -> NORMAL;
             case NORMAL -> DOUBLE;
             case DOUBLE -> TRIPLE;
-            default -> QUADRUPLE;
+            case TRIPLE -> QUADRUPLE;
+            case QUADRUPLE -> SIXTEENFOLD;
+            default -> SIXTY_FOURFOLD;
         };
     }
 
     public TimeFactor slowDown() {
         return switch (this) {
+            case SIXTY_FOURFOLD -> SIXTEENFOLD;
+            case SIXTEENFOLD -> QUADRUPLE;
             case QUADRUPLE -> TRIPLE;
             case TRIPLE -> DOUBLE;
             case DOUBLE -> NORMAL;
@@ -0,0 +1,132 @@
+package io.swapastack.dunetd.game;
+
+import io.swapastack.dunetd.hostileunits.HostileUnitEnum;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Schedule of the hostile units of a wave. A wave consists of entries, each with a hostile unit type, a count and
+ * the delay between two releases. The hostile units are only created when they are released, so the size of a
+ * schedule doesn't depend on the number of hostile units in the wave.
+ */
+public final class WaveSchedule {
+
+    private HostileUnitEnum[] hostileUnitEnums;
+    private int[] counts;
+    private int[] releaseDelaysInMilliseconds;
+
+    /**
+     * Number of entries in this schedule
+     */
+    private int entryCount;
+
+    /**
+     * Entry from which the next hostile unit is released
+     */
+    private int currentEntry;
+
+    /**
+     * Number of hostile units already released from the current entry
+     */
+    private int releasedFromCurrentEntry;
+
+    /**
+     * Number of hostile units in this schedule
+     */
+    @Getter
+    private int hostileUnitCount;
+
+    /**
+     * Number of hostile units which are not released yet
+     */
+    @Getter
+    private int remainingHostileUnitCount;
+
+    /**
+     * Delay in milliseconds before the hostile unit after the last released one is released
+     */
+    @Getter
+    private int releaseDelayInMilliseconds;
+
+    /**
+     * Creates an empty schedule.
+     */
+    public WaveSchedule() {
+        hostileUnitEnums = new HostileUnitEnum[HostileUnitEnum.values().length];
+        counts = new int[hostileUnitEnums.length];
+        releaseDelaysInMilliseconds = new int[hostileUnitEnums.length];
+        entryCount = 0;
+        currentEntry = 0;
+        releasedFromCurrentEntry = 0;
+        hostileUnitCount = 0;
+        remainingHostileUnitCount = 0;
+        releaseDelayInMilliseconds = 0;
+    }
+
+    /**
+     * Appends an entry to this schedule. Entries without hostile units are ignored.
+     *
+     * @param hostileUnitEnum            Type of the hostile units
+     * @param count                      Number of hostile units
+     * @param releaseDelayInMilliseconds Delay in milliseconds between the releases of two hostile units
+     * @throws IllegalArgumentException If the count or the delay is less than zero
+     */
+    public void add(@NonNull HostileUnitEnum hostileUnitEnum, int count, int releaseDelayInMilliseconds)
+            throws IllegalArgumentException {
+        if (count < 0 || releaseDelayInMilliseconds < 0) {
+            throw new IllegalArgumentException("The count and release delay must be greater than or equal to zero");
+        }
+        if (count == 0) {
+            return;
+        }
+
+        if (entryCount == counts.length) {
+            hostileUnitEnums = Arrays.copyOf(hostileUnitEnums, entryCount * 2);
+            counts = Arrays.copyOf(counts, entryCount * 2);
+            releaseDelaysInMilliseconds = Arrays.copyOf(releaseDelaysInMilliseconds, entryCount * 2);
+        }
+
+        hostileUnitEnums[entryCount] = hostileUnitEnum;
+        counts[entryCount] = count;
+        releaseDelaysInMilliseconds[entryCount] = releaseDelayInMilliseconds;
+        entryCount++;
+        hostileUnitCount += count;
+        remainingHostileUnitCount += count;
+    }
+
+    /**
+     * Returns if there are hostile units which are not released yet.
+     *
+     * @return True if there are hostile units left to release
+     */
+    public boolean hasNext() {
+        return remainingHostileUnitCount > 0;
+    }
+
+    /**
+     * Releases the next hostile unit of this schedule and updates the release delay.
+     *
+     * @return Type of the released hostile unit
+     * @throws IllegalStateException If all hostile units were already released
+     */
+    public @NotNull HostileUnitEnum next() throws IllegalStateException {
+        if (!hasNext()) {
+            throw new IllegalStateException("All hostile units of the wave were already released");
+        }
+
+        if (releasedFromCurrentEntry == counts[currentEntry]) {
+            currentEntry++;
+            releasedFromCurrentEntry = 0;
+        }
+
+        releasedFromCurrentEntry++;
+        remainingHostileUnitCount--;
+        releaseDelayInMilliseconds = releaseDelaysInMilliseconds[currentEntry];
+        return hostileUnitEnums[currentEntry];
+    }
+}
@@ -1,6 +1,5 @@
 package io.swapastack.dunetd.hostileunits;
 
-import io.swapastack.dunetd.assets.controller.HostileUnitController;
 import io.swapastack.dunetd.config.Configuration;
 import io.swapastack.dunetd.vectors.Vector2;
 
@@ -45,11 +44,23 @@ public final class BossUnit extends HostileUnit {
     /**
      * Creates a new boss unit with a specified position.
      *
-     * @param position              Position of this boss unit
-     * @param hostileUnitController Controller for hostile units
+     * @param position            Position of this boss unit
+     * @param hostileUnitListener Listener for hostile units
      */
-    public BossUnit(@NonNull Vector2 position, @Nullable HostileUnitController hostileUnitController) {
-        super(position, BOSS_UNIT_SPEED, BOSS_UNIT_INITIAL_HEALTH, hostileUnitController);
+    public BossUnit(@NonNull Vector2 position, @Nullable HostileUnitListener hostileUnitListener) {
+        super(position, BOSS_UNIT_SPEED, BOSS_UNIT_INITIAL_HEALTH, hostileUnitListener);
+    }
+
+    /**
+     * Creates a new boss unit with a specified position in the specified store.
+     *
+     * @param position            Position of this boss unit
+     * @param hostileUnitListener Listener for hostile units
+     * @param hostileUnitStore    Store to add this boss unit to or null if it has its own store
+     */
+    public BossUnit(@NonNull Vector2 position, @Nullable HostileUnitListener hostileUnitListener,
+                    @Nullable HostileUnitStore hostileUnitStore) {
+        super(position, BOSS_UNIT_SPEED, BOSS_UNIT_INITIAL_HEALTH, hostileUnitListener, hostileUnitStore);
     }
 
     /**
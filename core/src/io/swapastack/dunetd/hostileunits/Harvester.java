@@ -2,7 +2,6 @@ package io.swapastack.dunetd.hostileunits;
 
 import com.badlogic.gdx.math.MathUtils;
 
-import io.swapastack.dunetd.assets.controller.HostileUnitController;
 import io.swapastack.dunetd.config.Configuration;
 import io.swapastack.dunetd.vectors.Vector2;
 
@@ -53,11 +52,23 @@ public final class Harvester extends HostileUnit {
     /**
      * Creates a new harvester with a specified position.
      *
-     * @param position              Position of this harvester
-     * @param hostileUnitController Controller for hostile units
+     * @param position            Position of this harvester
+     * @param hostileUnitListener Listener for hostile units
      */
-    public Harvester(@NonNull Vector2 position, @Nullable HostileUnitController hostileUnitController) {
-        super(position, HARVESTER_SPEED, HARVESTER_INITIAL_HEALTH, hostileUnitController);
+    public Harvester(@NonNull Vector2 position, @Nullable HostileUnitListener hostileUnitListener) {
+        super(position, HARVESTER_SPEED, HARVESTER_INITIAL_HEALTH, hostileUnitListener);
+    }
+
+    /**
+     * Creates a new harvester with a specified position in the specified store.
+     *
+     * @param position            Position of this harvester
+     * @param hostileUnitListener Listener for hostile units
+     * @param hostileUnitStore    Store to add this harvester to or null if it has its own store
+     */
+    public Harvester(@NonNull Vector2 position, @Nullable HostileUnitListener hostileUnitListener,
+                     @Nullable HostileUnitStore hostileUnitStore) {
+        super(position, HARVESTER_SPEED, HARVESTER_INITIAL_HEALTH, hostileUnitListener, hostileUnitStore);
     }
 
     /**
@@ -1,17 +1,12 @@
 package io.swapastack.dunetd.hostileunits;
 
-import io.swapastack.dunetd.assets.controller.HostileUnitController;
 import io.swapastack.dunetd.game.CardinalDirection;
-import io.swapastack.dunetd.game.GameModelData;
 import io.swapastack.dunetd.pathfinding.Path;
 import io.swapastack.dunetd.vectors.Vector2;
 
-import java.beans.PropertyChangeSupport;
-import java.util.UUID;
-
 import org.jetbrains.annotations.Nullable;
 
-import lombok.EqualsAndHashCode;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -21,92 +16,171 @@ import lombok.NonNull;
  * - an infantry: weak but fast ground unit <br>
  * - a harvester: slow air unit, which has a resistance against the sound towers slowing effect <br>
  * - a boss unit: strong but slow ground unit. <br>
- * A hostile unit consists of a position, speed, health, slowing effect variables and a cardinal direction.
+ * A hostile unit consists of a position, speed, health, slowing effect variables and a cardinal direction. The state
+ * is kept in a {@link HostileUnitStore}, a hostile unit object is only a handle to its slot in the store.
  */
-@EqualsAndHashCode
 public abstract class HostileUnit {
 
     /**
-     * Position of this hostile unit
+     * Store which keeps the state of this hostile unit
      */
-    @Getter
-    private Vector2 position;
+    @Getter(AccessLevel.PACKAGE)
+    private HostileUnitStore store;
 
     /**
-     * Distance that this hostile unit can cover in one second
+     * Slot of this hostile unit in the store
      */
-    @Getter
-    private final float speed;
+    @Getter(AccessLevel.PACKAGE)
+    private int slot;
 
     /**
-     * Health of this hostile unit (if <= 0, the hostile unit is dead)
+     * Store with a single slot, which keeps the state of this hostile unit while it's not part of a shared store,
+     * created on demand
      */
-    @Getter
-    private int health;
+    private HostileUnitStore privateStore;
 
     /**
-     * Current speed of hostile unit (can be influenced by a sound tower)
+     * Listener to update game model of this hostile unit
      */
-    @Getter
-    private float currentSpeed;
+    private final HostileUnitListener listener;
 
     /**
-     * Duration how long the slowing effect will last
+     * Health of this hostile unit when it's created, used to reset it
      */
-    private int slowingEffectDurationInMilliseconds;
+    private final int initialHealth;
 
     /**
-     * Unique identifier for storing this hostile unit in a map
+     * Creates a new hostile unit with a specified position, speed and health.
+     *
+     * @param position            Position of this hostile unit
+     * @param speed               Distance that this hostile unit can cover in one second
+     * @param health              Health of this hostile unit (if <= 0, the hostile unit is dead)
+     * @param hostileUnitListener Listener for hostile units
      */
-    @Getter
-    private final UUID uuid;
+    protected HostileUnit(@NonNull Vector2 position, float speed, int health,
+                          @Nullable HostileUnitListener hostileUnitListener) {
+        this(position, speed, health, hostileUnitListener, null);
+    }
 
     /**
-     * Cardinal direction of this hostile unit
+     * Creates a new hostile unit with a specified position, speed and health in the specified store.
+     *
+     * @param position            Position of this hostile unit
+     * @param speed               Distance that this hostile unit can cover in one second
+     * @param health              Health of this hostile unit (if <= 0, the hostile unit is dead)
+     * @param hostileUnitListener Listener for hostile units
+     * @param hostileUnitStore    Store to add this hostile unit to or null if this hostile unit has its own store
      */
-    private CardinalDirection cardinalDirection;
+    protected HostileUnit(@NonNull Vector2 position, float speed, int health,
+                          @Nullable HostileUnitListener hostileUnitListener,
+                          @Nullable HostileUnitStore hostileUnitStore) {
+        store = hostileUnitStore == null ? getPrivateStore() : hostileUnitStore;
+        slot = store.add(this, position.x(), position.y(), speed, health);
+        initialHealth = health;
+
+        // Notify listener about the creation
+        listener = hostileUnitListener;
+        if (listener != null) {
+            listener.onCreate(this, position.x(), position.y(), getCardinalDirection().getDegrees());
+        }
+    }
 
     /**
-     * Property change support to update game model of this hostile unit
+     * Resets this hostile unit to its initial state at the specified position, so it can be reused. The hostile unit
+     * must not be part of a shared store.
+     *
+     * @param position New position of this hostile unit
      */
-    private final PropertyChangeSupport support;
+    final void reset(@NonNull Vector2 position) {
+        store.reset(slot, position.x(), position.y(), getSpeed(), initialHealth);
+
+        // Notify listener about the creation
+        if (listener != null) {
+            listener.onCreate(this, position.x(), position.y(), getCardinalDirection().getDegrees());
+        }
+    }
 
     /**
-     * Creates a new hostile unit with a specified position, speed and health.
+     * Returns the store with a single slot, which keeps the state of this hostile unit while it's not part of a shared
+     * store.
      *
-     * @param position              Position of this hostile unit
-     * @param speed                 Distance that this hostile unit can cover in one second
-     * @param health                Health of this hostile unit (if <= 0, the hostile unit is dead)
-     * @param hostileUnitController Controller for hostile units
+     * @return Private store of this hostile unit
      */
-    protected HostileUnit(@NonNull Vector2 position, float speed, int health,
-                          @Nullable HostileUnitController hostileUnitController) {
-        uuid = UUID.randomUUID();
-        this.position = position;
-        this.speed = speed;
-        this.health = health;
-        currentSpeed = speed;
-        slowingEffectDurationInMilliseconds = 0;
-        cardinalDirection = CardinalDirection.NORTH;
-
-        if (hostileUnitController != null) {
-            support = new PropertyChangeSupport(this);
-
-            // Add hostile unit controller as observer and call create event
-            support.addPropertyChangeListener(hostileUnitController);
-            support.firePropertyChange(HostileUnitController.CREATE_EVENT_NAME, null,
-                    new GameModelData(cardinalDirection.getDegrees(), position));
-        } else {
-            support = null;
+    final HostileUnitStore getPrivateStore() {
+        if (privateStore == null) {
+            privateStore = new HostileUnitStore(1);
         }
+        return privateStore;
+    }
+
+    /**
+     * Updates the slot of this hostile unit, called by the store when the hostile unit moved between slots or stores.
+     */
+    final void moveTo(@NonNull HostileUnitStore hostileUnitStore, int newSlot) {
+        store = hostileUnitStore;
+        slot = newSlot;
+    }
+
+    /**
+     * Returns the position of this hostile unit.
+     *
+     * @return Position of this hostile unit
+     */
+    public final Vector2 getPosition() {
+        return new Vector2(store.getX(slot), store.getY(slot));
+    }
+
+    /**
+     * @return X coordinate of the position of this hostile unit
+     */
+    public final float getX() {
+        return store.getX(slot);
+    }
+
+    /**
+     * @return Y coordinate of the position of this hostile unit
+     */
+    public final float getY() {
+        return store.getY(slot);
+    }
+
+    /**
+     * Returns the distance that this hostile unit can cover in one second.
+     *
+     * @return Speed of this hostile unit
+     */
+    public final float getSpeed() {
+        return store.getSpeed(slot);
+    }
+
+    /**
+     * Returns the current speed of this hostile unit (can be influenced by a sound tower).
+     *
+     * @return Current speed of this hostile unit
+     */
+    public final float getCurrentSpeed() {
+        return store.getCurrentSpeed(slot);
+    }
+
+    /**
+     * Returns the health of this hostile unit (if <= 0, the hostile unit is dead).
+     *
+     * @return Health of this hostile unit
+     */
+    public final int getHealth() {
+        return store.getHealth(slot);
+    }
+
+    private CardinalDirection getCardinalDirection() {
+        return store.getCardinalDirection(slot);
     }
 
     /**
      * Adds game model of this hostile unit to the scene manager.
      */
     public final void show() {
-        if (support != null) {
-            support.firePropertyChange(HostileUnitController.SHOW_EVENT_NAME, null, null);
+        if (listener != null) {
+            listener.onShow(this);
         }
     }
 
@@ -119,55 +193,15 @@ public abstract class HostileUnit {
      * @throws IllegalStateException If the hostile unit is not on the path
      */
     public final void move(@NonNull Path path, float deltaTimeInMilliseconds) throws IllegalStateException {
-        // If hostile unit is already slowed down, decrease duration, otherwise reset speed to maximum
-        if (slowingEffectDurationInMilliseconds > 0) {
-            slowingEffectDurationInMilliseconds -= deltaTimeInMilliseconds;
-        } else {
-            slowingEffectDurationInMilliseconds = 0;
-            currentSpeed = speed;
+        // If hostile unit was already at the end of the path, there's nothing to update
+        if (!store.move(slot, path, deltaTimeInMilliseconds)) {
+            return;
         }
 
-        var positionTmp = position;
-
-        // Distance which the hostile unit can go in this iteration
-        var maxMoveDistance = currentSpeed * deltaTimeInMilliseconds;
-
-        // Move hostile unit as long as moveDistance > 0
-        do {
-            var nextWaypointOptional = path.getNextWaypoint(positionTmp);
-
-            // If next waypoint is null, the position of the hostile unit is not on the path
-            if (nextWaypointOptional.isEmpty()) {
-                throw new IllegalStateException("Hostile unit must be on the path");
-            }
-            var nextWaypoint = nextWaypointOptional.orElseThrow();
-
-            // If hostile unit reached the end of the path stop moving
-            if (nextWaypoint.equals(positionTmp)) {
-                position = positionTmp;
-                return;
-            }
-
-            var distanceToNextWaypoint = positionTmp.getDistance(nextWaypoint);
-
-            // Get normalized direction vector to set orientation of game model
-            var direction = Vector2.subtract(nextWaypoint, positionTmp).normalize();
-            cardinalDirection = CardinalDirection.fromDirection(direction);
-
-            // Move either to next waypoint or as long as possible
-            var moveDistance = Math.min(maxMoveDistance, distanceToNextWaypoint);
-            var moveVector = Vector2.multiply(direction, moveDistance);
-            positionTmp = Vector2.add(positionTmp, moveVector);
-            maxMoveDistance -= moveDistance;
-        } while (maxMoveDistance > 0f);
-
-        // Set position
-        position = positionTmp;
-
         // Update game model if existing
-        if (support != null) {
-            support.firePropertyChange(HostileUnitController.UPDATE_EVENT_NAME, deltaTimeInMilliseconds,
-                    new GameModelData(cardinalDirection.getDegrees(), positionTmp));
+        if (listener != null) {
+            listener.onMove(this, store.getX(slot), store.getY(slot), getCardinalDirection().getDegrees(),
+                    deltaTimeInMilliseconds);
         }
     }
 
@@ -182,13 +216,7 @@ public abstract class HostileUnit {
             throw new IllegalArgumentException("Damage must be greater than or equal to zero");
         }
 
-        if (isDead()) {
-            return;
-        }
-
-        health -= damage;
-
-        if (health <= 0) {
+        if (store.dealDamage(slot, damage)) {
             kill();
         }
     }
@@ -201,18 +229,17 @@ public abstract class HostileUnit {
      * @param appliedSlowingEffectDurationInMilliseconds Duration of slowing effect in milliseconds.
      */
     public final void slowDown(float slowingEffectMultiplier, int appliedSlowingEffectDurationInMilliseconds) {
-        currentSpeed = speed * getSlowingEffect(slowingEffectMultiplier);
-        slowingEffectDurationInMilliseconds = appliedSlowingEffectDurationInMilliseconds;
+        store.slowDown(slot, getSlowingEffect(slowingEffectMultiplier), appliedSlowingEffectDurationInMilliseconds);
     }
 
     /**
      * Sets <code>health</code> of this hostile unit to zero and removes its game model.
      */
     public final void kill() {
-        health = 0;
+        store.kill(slot);
         // Remove HostileUnit from grid
-        if (support != null) {
-            support.firePropertyChange(HostileUnitController.DESTROY_EVENT_NAME, null, null);
+        if (listener != null) {
+            listener.onDestroy(this);
         }
     }
 
@@ -222,7 +249,7 @@ public abstract class HostileUnit {
      * @return True if hostile unit is dead, false otherwise.
      */
     public final boolean isDead() {
-        return health <= 0;
+        return store.isDead(slot);
     }
 
     /**
@@ -1,6 +1,5 @@
 package io.swapastack.dunetd.hostileunits;
 
-import io.swapastack.dunetd.assets.controller.HostileUnitController;
 import io.swapastack.dunetd.vectors.Vector2;
 
 import org.jetbrains.annotations.NotNull;
@@ -37,17 +36,31 @@ public enum HostileUnitEnum {
     /**
      * Creates a hostile unit from hostile unit enum.
      *
-     * @param spawnPoint            Spawn point of hostile unit
-     * @param hostileUnitController Controller for hostile units
+     * @param spawnPoint          Spawn point of hostile unit
+     * @param hostileUnitListener Listener for hostile units
      * @return The hostile unit object created from the hostile unit enum
      */
     @NotNull
     public HostileUnit toHostileUnit(@NonNull Vector2 spawnPoint,
-                                     @Nullable HostileUnitController hostileUnitController) {
+                                     @Nullable HostileUnitListener hostileUnitListener) {
+        return toHostileUnit(spawnPoint, hostileUnitListener, null);
+    }
+
+    /**
+     * Creates a hostile unit from hostile unit enum in the specified store.
+     *
+     * @param spawnPoint          Spawn point of hostile unit
+     * @param hostileUnitListener Listener for hostile units
+     * @param hostileUnitStore    Store to add the hostile unit to or null if it has its own store
+     * @return The hostile unit object created from the hostile unit enum
+     */
+    @NotNull
+    public HostileUnit toHostileUnit(@NonNull Vector2 spawnPoint, @Nullable HostileUnitListener hostileUnitListener,
+                                     @Nullable HostileUnitStore hostileUnitStore) {
         return switch (this) {
-            case INFANTRY -> new Infantry(spawnPoint, hostileUnitController);
-            case BOSS_UNIT -> new BossUnit(spawnPoint, hostileUnitController);
-            case HARVESTER -> new Harvester(spawnPoint, hostileUnitController);
+            case INFANTRY -> new Infantry(spawnPoint, hostileUnitListener, hostileUnitStore);
+            case BOSS_UNIT -> new BossUnit(spawnPoint, hostileUnitListener, hostileUnitStore);
+            case HARVESTER -> new Harvester(spawnPoint, hostileUnitListener, hostileUnitStore);
         };
     }
 }
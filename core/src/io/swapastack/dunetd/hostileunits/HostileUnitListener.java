@@ -0,0 +1,52 @@
+package io.swapastack.dunetd.hostileunits;
+
+import lombok.NonNull;
+
+/**
+ * Listener which is notified about changes of hostile units, used to update their game models. The events carry
+ * primitive values only, so notifying the listener doesn't allocate.
+ */
+public interface HostileUnitListener {
+
+    /**
+     * Called when a hostile unit is created.
+     *
+     * @param hostileUnit Created hostile unit
+     * @param x           X coordinate of the hostile unit
+     * @param y           Y coordinate of the hostile unit
+     * @param rotation    Start rotation of the game model
+     */
+    void onCreate(@NonNull HostileUnit hostileUnit, float x, float y, float rotation);
+
+    /**
+     * Called when a hostile unit is spawned on the grid / displayed on the screen.
+     *
+     * @param hostileUnit Displayed hostile unit
+     */
+    void onShow(@NonNull HostileUnit hostileUnit);
+
+    /**
+     * Called whenever a hostile unit is moved.
+     *
+     * @param hostileUnit             Moved hostile unit
+     * @param x                       New x coordinate of the hostile unit
+     * @param y                       New y coordinate of the hostile unit
+     * @param rotation                New rotation of the game model
+     * @param deltaTimeInMilliseconds The time in milliseconds since the last move
+     */
+    void onMove(@NonNull HostileUnit hostileUnit, float x, float y, float rotation, float deltaTimeInMilliseconds);
+
+    /**
+     * Called when a hostile unit is killed or reached the end portal.
+     *
+     * @param hostileUnit Destroyed hostile unit
+     */
+    void onDestroy(@NonNull HostileUnit hostileUnit);
+
+    /**
+     * Called when the game is paused or resumed, so the animations of all hostile units can be paused as well.
+     *
+     * @param paused True if the game was paused, false if it was resumed
+     */
+    void onPause(boolean paused);
+}
@@ -0,0 +1,80 @@
+package io.swapastack.dunetd.hostileunits;
+
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import lombok.NonNull;
+
+/**
+ * Pool of hostile units for each hostile unit type. Hostile units which died or reached the end portal are freed and
+ * reused for the following spawns, so new waves don't have to create new hostile units.
+ */
+public final class HostileUnitPool {
+
+    /**
+     * Listener which is passed to new hostile units
+     */
+    private final HostileUnitListener listener;
+
+    /**
+     * Freed hostile units for each hostile unit type
+     */
+    private final EnumMap<HostileUnitEnum, ArrayDeque<HostileUnit>> freeHostileUnits;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param hostileUnitListener Listener for the hostile units created by this pool
+     */
+    public HostileUnitPool(@Nullable HostileUnitListener hostileUnitListener) {
+        listener = hostileUnitListener;
+        freeHostileUnits = new EnumMap<>(HostileUnitEnum.class);
+        for (var hostileUnitEnum : HostileUnitEnum.values()) {
+            freeHostileUnits.put(hostileUnitEnum, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Returns a hostile unit of the specified type at the specified position. A freed hostile unit is reset and reused
+     * if there's one, otherwise a new one is created.
+     *
+     * @param hostileUnitEnum Type of the hostile unit
+     * @param spawnPoint      Spawn point of the hostile unit
+     * @return Hostile unit in its initial state
+     */
+    public @NotNull HostileUnit obtain(@NonNull HostileUnitEnum hostileUnitEnum, @NonNull Vector2 spawnPoint) {
+        var hostileUnit = freeHostileUnits.get(hostileUnitEnum).poll();
+        if (hostileUnit == null) {
+            return hostileUnitEnum.toHostileUnit(spawnPoint, listener);
+        }
+
+        hostileUnit.reset(spawnPoint);
+        return hostileUnit;
+    }
+
+    /**
+     * Returns the specified hostile unit to the pool. The hostile unit must not be part of a shared store anymore and
+     * must not be used until it's obtained again.
+     *
+     * @param hostileUnit Hostile unit to return to the pool
+     * @throws IllegalStateException If the hostile unit is not an infantry, a harvester or a boss unit
+     */
+    public void free(@NonNull HostileUnit hostileUnit) throws IllegalStateException {
+        freeHostileUnits.get(HostileUnitEnum.fromHostileUnit(hostileUnit)).push(hostileUnit);
+    }
+
+    /**
+     * Returns the number of freed hostile units of the specified type, which can be reused.
+     *
+     * @param hostileUnitEnum Type of the hostile units
+     * @return Number of freed hostile units
+     */
+    public int getFreeCount(@NonNull HostileUnitEnum hostileUnitEnum) {
+        return freeHostileUnits.get(hostileUnitEnum).size();
+    }
+}
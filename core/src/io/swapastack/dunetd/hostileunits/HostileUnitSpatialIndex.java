@@ -0,0 +1,265 @@
+package io.swapastack.dunetd.hostileunits;
+
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Uniform grid over the hostile units on the game grid, used to find hostile units around a position without checking
+ * every hostile unit. Every cell of the index covers one grid tile. The index is a snapshot: it has to be rebuilt
+ * after hostile units were added, removed or moved.
+ */
+public final class HostileUnitSpatialIndex {
+
+    /**
+     * Number of cells in x direction
+     */
+    @Getter
+    private final int width;
+
+    /**
+     * Number of cells in y direction
+     */
+    @Getter
+    private final int height;
+
+    /**
+     * Index of the first hostile unit in each cell or -1 if the cell is empty
+     */
+    private final int[] cellHeads;
+
+    /**
+     * Index of the next hostile unit in the same cell or -1 if it's the last one, the hostile units of each cell are
+     * linked in ascending order
+     */
+    private int[] nextInCell;
+
+    /**
+     * Cell of each hostile unit
+     */
+    private int[] unitCells;
+
+    /**
+     * Hostile units in the order of the list the index was built from
+     */
+    private HostileUnit[] hostileUnits;
+
+    /**
+     * Positions of the hostile units when the index was built
+     */
+    private float[] unitXs;
+    private float[] unitYs;
+
+    /**
+     * Number of hostile units in the index
+     */
+    @Getter
+    private int size;
+
+    /**
+     * Buffer of the queries without an own buffer
+     */
+    private final QueryBuffer queryBuffer;
+
+    /**
+     * Creates an empty index for a grid with the specified dimensions.
+     *
+     * @param width  Width of the grid
+     * @param height Height of the grid
+     */
+    public HostileUnitSpatialIndex(int width, int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("The index must have a width and height of at least one");
+        }
+
+        this.width = width;
+        this.height = height;
+        cellHeads = new int[width * height];
+        Arrays.fill(cellHeads, -1);
+        nextInCell = new int[0];
+        unitCells = new int[0];
+        hostileUnits = new HostileUnit[0];
+        unitXs = new float[0];
+        unitYs = new float[0];
+        queryBuffer = new QueryBuffer();
+        size = 0;
+    }
+
+    /**
+     * Rebuilds the index with the specified hostile units. The order of <code>hostileUnits</code> is kept, queries
+     * return hostile units in this order.
+     *
+     * @param hostileUnits Hostile units on the grid
+     */
+    public void rebuild(@NonNull List<HostileUnit> hostileUnits) {
+        resize(hostileUnits.size());
+        for (int i = 0; i < size; i++) {
+            var hostileUnit = hostileUnits.get(i);
+            this.hostileUnits[i] = hostileUnit;
+            unitXs[i] = hostileUnit.getX();
+            unitYs[i] = hostileUnit.getY();
+        }
+        linkCells();
+    }
+
+    /**
+     * Rebuilds the index with the hostile units of the specified store. The order of the store is kept, queries
+     * return hostile units in this order.
+     *
+     * @param hostileUnitStore Store of the hostile units on the grid
+     */
+    public void rebuild(@NonNull HostileUnitStore hostileUnitStore) {
+        resize(hostileUnitStore.getSize());
+        for (int slot = 0; slot < size; slot++) {
+            hostileUnits[slot] = hostileUnitStore.getHostileUnit(slot);
+            unitXs[slot] = hostileUnitStore.getX(slot);
+            unitYs[slot] = hostileUnitStore.getY(slot);
+        }
+        linkCells();
+    }
+
+    private void resize(int newSize) {
+        // Only clear cells which were used before, so rebuilding only depends on the number of hostile units
+        for (int i = 0; i < size; i++) {
+            cellHeads[unitCells[i]] = -1;
+        }
+
+        ensureCapacity(newSize);
+
+        // Drop references of hostile units which are no longer in the index
+        if (newSize < size) {
+            Arrays.fill(hostileUnits, newSize, size, null);
+        }
+        size = newSize;
+    }
+
+    private void linkCells() {
+        // Insert hostile units in reverse order, so each cell is linked in ascending order
+        for (int i = size - 1; i >= 0; i--) {
+            var cell = getCellX(unitXs[i]) * height + getCellY(unitYs[i]);
+            unitCells[i] = cell;
+            nextInCell[i] = cellHeads[cell];
+            cellHeads[cell] = i;
+        }
+    }
+
+    /**
+     * Searches for living hostile units, which are in range of the specified position and adds them to
+     * <code>result</code> in the order of the list the index was built from.
+     *
+     * @param x            X coordinate of the position to search around
+     * @param y            Y coordinate of the position to search around
+     * @param rangeSquared Range around the position squared, where hostile units can be found
+     * @param result       List to which the found hostile units are added, is cleared before
+     * @return Number of found hostile units
+     */
+    public int query(float x, float y, float rangeSquared, @NonNull List<HostileUnit> result) {
+        return query(x, y, rangeSquared, result, queryBuffer);
+    }
+
+    /**
+     * Searches for living hostile units, which are in range of the specified position and adds them to
+     * <code>result</code> in the order of the list the index was built from. Queries with different buffers can be
+     * executed in parallel, as long as the index isn't rebuilt and no hostile unit is damaged in the meantime.
+     *
+     * @param x            X coordinate of the position to search around
+     * @param y            Y coordinate of the position to search around
+     * @param rangeSquared Range around the position squared, where hostile units can be found
+     * @param result       List to which the found hostile units are added, is cleared before
+     * @param buffer       Buffer for the indices of the found hostile units, owned by the caller
+     * @return Number of found hostile units
+     */
+    public int query(float x, float y, float rangeSquared, @NonNull List<HostileUnit> result,
+                     @NonNull QueryBuffer buffer) {
+        result.clear();
+        if (size == 0 || rangeSquared < 0) {
+            return 0;
+        }
+
+        // Only check cells which overlap with the bounding box of the range
+        var range = (float) Math.sqrt(rangeSquared);
+        var minCellX = getCellX(x - range);
+        var maxCellX = getCellX(x + range);
+        var minCellY = getCellY(y - range);
+        var maxCellY = getCellY(y + range);
+
+        // With only a few hostile units on the grid checking all of them is cheaper than visiting the cells
+        var count = 0;
+        if (size <= (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1)) {
+            for (int index = 0; index < size; index++) {
+                if (isInRange(index, x, y, rangeSquared)) {
+                    result.add(hostileUnits[index]);
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        if (buffer.indices.length < size) {
+            buffer.indices = new int[hostileUnits.length];
+        }
+        var queryResult = buffer.indices;
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                for (int index = cellHeads[cellX * height + cellY]; index != -1; index = nextInCell[index]) {
+                    if (isInRange(index, x, y, rangeSquared)) {
+                        queryResult[count++] = index;
+                    }
+                }
+            }
+        }
+
+        // Restore the order of the hostile units, so the first found hostile unit is the one released first
+        Arrays.sort(queryResult, 0, count);
+        for (int i = 0; i < count; i++) {
+            result.add(hostileUnits[queryResult[i]]);
+        }
+        return count;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (hostileUnits.length >= capacity) {
+            return;
+        }
+
+        var newCapacity = Math.max(capacity, hostileUnits.length * 2);
+        hostileUnits = Arrays.copyOf(hostileUnits, newCapacity);
+        unitXs = new float[newCapacity];
+        unitYs = new float[newCapacity];
+        nextInCell = new int[newCapacity];
+        unitCells = new int[newCapacity];
+    }
+
+    private boolean isInRange(int index, float x, float y, float rangeSquared) {
+        // Hostile units can die between rebuilds, so the health isn't part of the snapshot
+        if (hostileUnits[index].isDead()) {
+            return false;
+        }
+
+        var deltaX = unitXs[index] - x;
+        var deltaY = unitYs[index] - y;
+        return deltaX * deltaX + deltaY * deltaY <= rangeSquared;
+    }
+
+    private int getCellX(float x) {
+        return Math.min(Math.max((int) Math.floor(x), 0), width - 1);
+    }
+
+    private int getCellY(float y) {
+        return Math.min(Math.max((int) Math.floor(y), 0), height - 1);
+    }
+
+    /**
+     * Reusable buffer for the indices found by a query, grows with the number of hostile units in the index
+     */
+    public static final class QueryBuffer {
+
+        private int[] indices;
+
+        public QueryBuffer() {
+            indices = new int[0];
+        }
+    }
+}
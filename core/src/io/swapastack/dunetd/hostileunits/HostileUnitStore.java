@@ -0,0 +1,446 @@
+package io.swapastack.dunetd.hostileunits;
+
+import io.swapastack.dunetd.game.CardinalDirection;
+import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Structure of arrays storing the state of hostile units. Each hostile unit occupies one slot, its {@link HostileUnit}
+ * object is only a handle to that slot. Hostile units, which are moved together (e.g. all hostile units on the grid),
+ * share one store, so iterating over them reads primitive arrays and moving them doesn't allocate. A hostile unit
+ * which isn't part of a shared store has its own store with a single slot.<br>
+ * The slots are ordered by the time the hostile units were added to the store.
+ */
+public final class HostileUnitStore {
+
+    /**
+     * Type of hostile units which are neither infantries, harvesters nor boss units
+     */
+    private static final byte UNKNOWN_TYPE = -1;
+
+    /**
+     * Cached values of {@link HostileUnitEnum} and {@link CardinalDirection}, because <code>values()</code> creates a
+     * new array on every call
+     */
+    private static final HostileUnitEnum[] HOSTILE_UNIT_ENUMS = HostileUnitEnum.values();
+    private static final CardinalDirection[] CARDINAL_DIRECTIONS = CardinalDirection.values();
+
+    /**
+     * Number of hostile units in this store
+     */
+    @Getter
+    private int size;
+
+    private HostileUnit[] hostileUnits;
+    private float[] xs;
+    private float[] ys;
+    private float[] speeds;
+    private float[] currentSpeeds;
+    private int[] healths;
+    private int[] slowingEffectDurationsInMilliseconds;
+    private byte[] cardinalDirections;
+    private byte[] types;
+
+    /**
+     * Path to which the waypoint index of a slot refers, if it's not the path the hostile unit moves on, the index is
+     * searched again
+     */
+    private Path[] cursorPaths;
+
+    /**
+     * Index of the waypoint on the cursor path, the hostile unit is moving to
+     */
+    private int[] nextWaypointIndices;
+
+    /**
+     * Slots which are removed with the next call of {@link #removeMarked(Consumer)}
+     */
+    private boolean[] removalMarks;
+    private int removalMarkCount;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param initialCapacity Number of hostile units the store can hold before it has to grow
+     */
+    public HostileUnitStore(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity must be at least one");
+        }
+
+        hostileUnits = new HostileUnit[initialCapacity];
+        xs = new float[initialCapacity];
+        ys = new float[initialCapacity];
+        speeds = new float[initialCapacity];
+        currentSpeeds = new float[initialCapacity];
+        healths = new int[initialCapacity];
+        slowingEffectDurationsInMilliseconds = new int[initialCapacity];
+        cardinalDirections = new byte[initialCapacity];
+        types = new byte[initialCapacity];
+        cursorPaths = new Path[initialCapacity];
+        nextWaypointIndices = new int[initialCapacity];
+        removalMarks = new boolean[initialCapacity];
+        removalMarkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds a new hostile unit to the end of this store.
+     *
+     * @return Slot of the hostile unit
+     */
+    int add(@NonNull HostileUnit hostileUnit, float x, float y, float speed, int health) {
+        ensureCapacity(size + 1);
+
+        var slot = size;
+        hostileUnits[slot] = hostileUnit;
+        types[slot] = getType(hostileUnit);
+        reset(slot, x, y, speed, health);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Resets the state of the hostile unit in the specified slot, so it can be reused.
+     */
+    void reset(int slot, float x, float y, float speed, int health) {
+        xs[slot] = x;
+        ys[slot] = y;
+        speeds[slot] = speed;
+        currentSpeeds[slot] = speed;
+        healths[slot] = health;
+        slowingEffectDurationsInMilliseconds[slot] = 0;
+        cardinalDirections[slot] = (byte) CardinalDirection.NORTH.ordinal();
+        cursorPaths[slot] = null;
+        nextWaypointIndices[slot] = 0;
+    }
+
+    /**
+     * Moves the specified hostile unit from its current store to the end of this store.
+     *
+     * @param hostileUnit Hostile unit to move into this store
+     */
+    public void attach(@NonNull HostileUnit hostileUnit) {
+        var previousStore = hostileUnit.getStore();
+        if (previousStore == this) {
+            throw new IllegalArgumentException("The hostile unit is already part of this store");
+        }
+
+        ensureCapacity(size + 1);
+        copySlot(previousStore, hostileUnit.getSlot(), this, size);
+        previousStore.removeSlot(hostileUnit.getSlot());
+        hostileUnit.moveTo(this, size);
+        size++;
+    }
+
+    /**
+     * Removes the specified hostile unit from this store and moves the following hostile units to the front. The
+     * hostile unit keeps its state in a store of its own. To remove several hostile units at once, mark them with
+     * {@link #markForRemoval(int)} and remove them with {@link #removeMarked(Consumer)} instead.
+     *
+     * @param hostileUnit Hostile unit to remove
+     */
+    public void detach(@NonNull HostileUnit hostileUnit) {
+        if (hostileUnit.getStore() != this) {
+            throw new IllegalArgumentException("The hostile unit is not part of this store");
+        }
+        if (hostileUnit.getPrivateStore() == this) {
+            throw new IllegalArgumentException("The hostile unit can't be detached from its private store");
+        }
+
+        var slot = hostileUnit.getSlot();
+        moveToPrivateStore(slot);
+        removeSlot(slot);
+    }
+
+    /**
+     * Marks the hostile unit in the specified slot for removal. The slot stays valid until
+     * {@link #removeMarked(Consumer)} is called, so hostile units can be marked while iterating over this store.
+     *
+     * @param slot Slot of the hostile unit to remove
+     */
+    public void markForRemoval(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " is out of bounds of the store");
+        }
+        if (hostileUnits[slot].getPrivateStore() == this) {
+            throw new IllegalArgumentException("The hostile unit can't be removed from its private store");
+        }
+
+        if (!removalMarks[slot]) {
+            removalMarks[slot] = true;
+            removalMarkCount++;
+        }
+    }
+
+    /**
+     * Returns if the hostile unit in the specified slot is marked for removal.
+     *
+     * @param slot Slot of the hostile unit
+     * @return True if the hostile unit is marked for removal
+     */
+    public boolean isMarkedForRemoval(int slot) {
+        return removalMarks[slot];
+    }
+
+    /**
+     * Removes all hostile units, which are marked for removal, in a single pass and keeps the order of the remaining
+     * ones. The removed hostile units keep their state in their own store.
+     *
+     * @param removedHostileUnitConsumer Called with every removed hostile unit, must not modify this store
+     */
+    public void removeMarked(@Nullable Consumer<HostileUnit> removedHostileUnitConsumer) {
+        if (removalMarkCount == 0) {
+            return;
+        }
+
+        var newSize = 0;
+        for (int slot = 0; slot < size; slot++) {
+            var hostileUnit = hostileUnits[slot];
+            if (removalMarks[slot]) {
+                removalMarks[slot] = false;
+                moveToPrivateStore(slot);
+                if (removedHostileUnitConsumer != null) {
+                    removedHostileUnitConsumer.accept(hostileUnit);
+                }
+            } else {
+                if (newSize != slot) {
+                    copySlot(this, slot, this, newSize);
+                    hostileUnit.moveTo(this, newSize);
+                }
+                newSize++;
+            }
+        }
+
+        // Drop references of removed hostile units
+        Arrays.fill(hostileUnits, newSize, size, null);
+        Arrays.fill(cursorPaths, newSize, size, null);
+        size = newSize;
+        removalMarkCount = 0;
+    }
+
+    /**
+     * Copies the hostile unit in the specified slot to its private store, without removing it from this store.
+     */
+    private void moveToPrivateStore(int slot) {
+        var hostileUnit = hostileUnits[slot];
+        var privateStore = hostileUnit.getPrivateStore();
+        copySlot(this, slot, privateStore, 0);
+        privateStore.removalMarks[0] = false;
+        privateStore.size = 1;
+        hostileUnit.moveTo(privateStore, 0);
+    }
+
+    /**
+     * Removes the slot and moves the following slots one slot to the front, so the order is kept.
+     */
+    private void removeSlot(int slot) {
+        for (int i = slot + 1; i < size; i++) {
+            copySlot(this, i, this, i - 1);
+            hostileUnits[i - 1].moveTo(this, i - 1);
+        }
+        size--;
+        hostileUnits[size] = null;
+        cursorPaths[size] = null;
+        removalMarks[size] = false;
+    }
+
+    private static void copySlot(@NonNull HostileUnitStore from, int fromSlot, @NonNull HostileUnitStore to,
+                                 int toSlot) {
+        to.hostileUnits[toSlot] = from.hostileUnits[fromSlot];
+        to.xs[toSlot] = from.xs[fromSlot];
+        to.ys[toSlot] = from.ys[fromSlot];
+        to.speeds[toSlot] = from.speeds[fromSlot];
+        to.currentSpeeds[toSlot] = from.currentSpeeds[fromSlot];
+        to.healths[toSlot] = from.healths[fromSlot];
+        to.slowingEffectDurationsInMilliseconds[toSlot] = from.slowingEffectDurationsInMilliseconds[fromSlot];
+        to.cardinalDirections[toSlot] = from.cardinalDirections[fromSlot];
+        to.types[toSlot] = from.types[fromSlot];
+        to.cursorPaths[toSlot] = from.cursorPaths[fromSlot];
+        to.nextWaypointIndices[toSlot] = from.nextWaypointIndices[fromSlot];
+        to.removalMarks[toSlot] = from.removalMarks[fromSlot];
+    }
+
+    /**
+     * Moves the hostile unit in the specified slot along the path and updates its slowing effect.
+     *
+     * @param slot                    Slot of the hostile unit
+     * @param path                    Path on which the hostile unit is moving
+     * @param deltaTimeInMilliseconds The time in milliseconds since the last update
+     * @return True if the hostile unit moved, false if it was already at the end of the path
+     * @throws IllegalStateException If the hostile unit is not on the path
+     */
+    boolean move(int slot, @NonNull Path path, float deltaTimeInMilliseconds) throws IllegalStateException {
+        // If hostile unit is already slowed down, decrease duration, otherwise reset speed to maximum
+        if (slowingEffectDurationsInMilliseconds[slot] > 0) {
+            slowingEffectDurationsInMilliseconds[slot] -= deltaTimeInMilliseconds;
+        } else {
+            slowingEffectDurationsInMilliseconds[slot] = 0;
+            currentSpeeds[slot] = speeds[slot];
+        }
+
+        // Find the place on the path only if the path changed, afterwards follow the waypoints by index
+        if (path != cursorPaths[slot]) {
+            var nextWaypointIndex = path.getNextWaypointIndex(new Vector2(xs[slot], ys[slot]));
+            if (nextWaypointIndex == -1) {
+                throw new IllegalStateException("Hostile unit must be on the path");
+            }
+            nextWaypointIndices[slot] = nextWaypointIndex;
+            cursorPaths[slot] = path;
+        }
+
+        var x = xs[slot];
+        var y = ys[slot];
+        var moved = false;
+
+        // Distance which the hostile unit can go in this iteration
+        var maxMoveDistance = currentSpeeds[slot] * deltaTimeInMilliseconds;
+
+        // Move hostile unit as long as moveDistance > 0
+        do {
+            var nextWaypoint = path.getWaypoint(nextWaypointIndices[slot]);
+
+            // If hostile unit reached the end of the path stop moving
+            if (nextWaypoint.x() == x && nextWaypoint.y() == y) {
+                break;
+            }
+            moved = true;
+
+            var deltaX = nextWaypoint.x() - x;
+            var deltaY = nextWaypoint.y() - y;
+            var distanceToNextWaypoint = (float) Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+
+            // Get normalized direction to set orientation of game model
+            var directionX = deltaX / distanceToNextWaypoint;
+            var directionY = deltaY / distanceToNextWaypoint;
+            cardinalDirections[slot] = (byte) CardinalDirection.fromDirection(directionX, directionY).ordinal();
+
+            // Move either to next waypoint or as long as possible
+            if (maxMoveDistance >= distanceToNextWaypoint) {
+                // Snap to the waypoint, so float errors don't add up, and head to the next one if there's one
+                x = nextWaypoint.x();
+                y = nextWaypoint.y();
+                nextWaypointIndices[slot] = Math.min(nextWaypointIndices[slot] + 1, path.getWaypoints().length - 1);
+                maxMoveDistance -= distanceToNextWaypoint;
+            } else {
+                x += directionX * maxMoveDistance;
+                y += directionY * maxMoveDistance;
+                maxMoveDistance = 0f;
+            }
+        } while (maxMoveDistance > 0f);
+
+        xs[slot] = x;
+        ys[slot] = y;
+        return moved;
+    }
+
+    /**
+     * Decreases the health of the hostile unit in the specified slot, but not below zero.
+     *
+     * @return True if the hostile unit died because of the damage
+     */
+    boolean dealDamage(int slot, int damage) {
+        if (healths[slot] <= 0) {
+            return false;
+        }
+        healths[slot] -= damage;
+        return healths[slot] <= 0;
+    }
+
+    void slowDown(int slot, float slowingEffect, int slowingEffectDurationInMilliseconds) {
+        currentSpeeds[slot] = speeds[slot] * slowingEffect;
+        slowingEffectDurationsInMilliseconds[slot] = slowingEffectDurationInMilliseconds;
+    }
+
+    void kill(int slot) {
+        healths[slot] = 0;
+    }
+
+    /**
+     * Returns the hostile unit in the specified slot.
+     *
+     * @param slot Slot of the hostile unit
+     * @return Handle of the hostile unit
+     */
+    public HostileUnit getHostileUnit(int slot) {
+        return hostileUnits[slot];
+    }
+
+    public float getX(int slot) {
+        return xs[slot];
+    }
+
+    public float getY(int slot) {
+        return ys[slot];
+    }
+
+    public float getSpeed(int slot) {
+        return speeds[slot];
+    }
+
+    public float getCurrentSpeed(int slot) {
+        return currentSpeeds[slot];
+    }
+
+    public int getHealth(int slot) {
+        return healths[slot];
+    }
+
+    public boolean isDead(int slot) {
+        return healths[slot] <= 0;
+    }
+
+    public CardinalDirection getCardinalDirection(int slot) {
+        return CARDINAL_DIRECTIONS[cardinalDirections[slot]];
+    }
+
+    /**
+     * Returns the type of the hostile unit in the specified slot.
+     *
+     * @param slot Slot of the hostile unit
+     * @return Type of the hostile unit or null if it's neither an infantry, a harvester nor a boss unit
+     */
+    public @Nullable HostileUnitEnum getType(int slot) {
+        var type = types[slot];
+        return type == UNKNOWN_TYPE ? null : HOSTILE_UNIT_ENUMS[type];
+    }
+
+    private static byte getType(@NonNull HostileUnit hostileUnit) {
+        if (hostileUnit instanceof Infantry) {
+            return (byte) HostileUnitEnum.INFANTRY.ordinal();
+        } else if (hostileUnit instanceof Harvester) {
+            return (byte) HostileUnitEnum.HARVESTER.ordinal();
+        } else if (hostileUnit instanceof BossUnit) {
+            return (byte) HostileUnitEnum.BOSS_UNIT.ordinal();
+        }
+        return UNKNOWN_TYPE;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (hostileUnits.length >= capacity) {
+            return;
+        }
+
+        var newCapacity = Math.max(capacity, hostileUnits.length * 2);
+        hostileUnits = Arrays.copyOf(hostileUnits, newCapacity);
+        xs = Arrays.copyOf(xs, newCapacity);
+        ys = Arrays.copyOf(ys, newCapacity);
+        speeds = Arrays.copyOf(speeds, newCapacity);
+        currentSpeeds = Arrays.copyOf(currentSpeeds, newCapacity);
+        healths = Arrays.copyOf(healths, newCapacity);
+        slowingEffectDurationsInMilliseconds = Arrays.copyOf(slowingEffectDurationsInMilliseconds, newCapacity);
+        cardinalDirections = Arrays.copyOf(cardinalDirections, newCapacity);
+        types = Arrays.copyOf(types, newCapacity);
+        cursorPaths = Arrays.copyOf(cursorPaths, newCapacity);
+        nextWaypointIndices = Arrays.copyOf(nextWaypointIndices, newCapacity);
+        removalMarks = Arrays.copyOf(removalMarks, newCapacity);
+    }
+}
@@ -1,6 +1,5 @@
 package io.swapastack.dunetd.hostileunits;
 
-import io.swapastack.dunetd.assets.controller.HostileUnitController;
 import io.swapastack.dunetd.config.Configuration;
 import io.swapastack.dunetd.vectors.Vector2;
 
@@ -45,11 +44,23 @@ public final class Infantry extends HostileUnit {
     /**
      * Creates a new infantry with a specified position.
      *
-     * @param position              Position of this infantry
-     * @param hostileUnitController Controller for hostile units
+     * @param position            Position of this infantry
+     * @param hostileUnitListener Listener for hostile units
      */
-    public Infantry(@NonNull Vector2 position, @Nullable HostileUnitController hostileUnitController) {
-        super(position, INFANTRY_SPEED, INFANTRY_INITIAL_HEALTH, hostileUnitController);
+    public Infantry(@NonNull Vector2 position, @Nullable HostileUnitListener hostileUnitListener) {
+        super(position, INFANTRY_SPEED, INFANTRY_INITIAL_HEALTH, hostileUnitListener);
+    }
+
+    /**
+     * Creates a new infantry with a specified position in the specified store.
+     *
+     * @param position            Position of this infantry
+     * @param hostileUnitListener Listener for hostile units
+     * @param hostileUnitStore    Store to add this infantry to or null if it has its own store
+     */
+    public Infantry(@NonNull Vector2 position, @Nullable HostileUnitListener hostileUnitListener,
+                    @Nullable HostileUnitStore hostileUnitStore) {
+        super(position, INFANTRY_SPEED, INFANTRY_INITIAL_HEALTH, hostileUnitListener, hostileUnitStore);
     }
 
     /**
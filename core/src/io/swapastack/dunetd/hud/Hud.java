@@ -15,6 +15,7 @@ import io.swapastack.dunetd.assets.AssetLoader;
 import io.swapastack.dunetd.config.Configuration;
 import io.swapastack.dunetd.game.GameHandler;
 import io.swapastack.dunetd.game.GamePhase;
+import io.swapastack.dunetd.replay.InputRecorder;
 import io.swapastack.dunetd.screens.gamescreen.EscapeMenu;
 import io.swapastack.dunetd.screens.gamescreen.GameEndWindow;
 import io.swapastack.dunetd.screens.gamescreen.GameScreen;
@@ -51,6 +52,11 @@ public final class Hud implements Disposable {
 
     private final GameHandler gameHandler;
 
+    /**
+     * All inputs which change the game are executed by the recorder, so the game can be replayed
+     */
+    private final InputRecorder inputRecorder;
+
     private final ShapeRenderer shapeRenderer;
 
     private final SpriteBatch spriteBatch;
@@ -88,9 +94,11 @@ public final class Hud implements Disposable {
 
     private String logText = "";
 
-    public Hud(@NonNull GameScreen screen, @NonNull GameHandler gameHandler, @NonNull Stage mainStage) {
+    public Hud(@NonNull GameScreen screen, @NonNull GameHandler gameHandler, @NonNull InputRecorder inputRecorder,
+               @NonNull Stage mainStage) {
         this.screen = screen;
         this.gameHandler = gameHandler;
+        this.inputRecorder = inputRecorder;
         selectedTilePosition = Vector2.ZERO;
         spriteBatch = new SpriteBatch();
         this.mainStage = mainStage;
@@ -217,18 +225,18 @@ public final class Hud implements Disposable {
             case Input.Buttons.LEFT -> {
                 var selectedTower = toolBar.getSelectedTower();
                 if (selectedTower != null) {
-                    gameHandler.buildTower(selectedTower, selectedX, selectedY);
+                    inputRecorder.buildTower(selectedTower, selectedX, selectedY);
                 } else if (toolBar.isShaiHuludSelected() && gameHandler.getGamePhase() == GamePhase.WAVE_PHASE) {
-                    shaiHulud.setThumper(selectedTilePosition);
+                    inputRecorder.setThumper(selectedX, selectedY);
                 }
             }
             // Tear down tower
             case Input.Buttons.RIGHT -> {
                 if (toolBar.isShaiHuludSelected()) {
-                    shaiHulud.cancelAttack();
+                    inputRecorder.cancelShaiHuludAttack();
                     toolBar.selectShaiHulud();
                 } else {
-                    gameHandler.tearDownTower(selectedX, selectedY);
+                    inputRecorder.tearDownTower(selectedX, selectedY);
                 }
             }
             default -> { /* Do nothing when nothing is pressed */ }
@@ -246,10 +254,11 @@ public final class Hud implements Disposable {
     private void handleKeyDownEvent(int keycode) {
         if (!escapeMenuVisible) {
             switch (keycode) {
-                case Input.Keys.SPACE -> gameHandler.pauseGame(!gameHandler.isGamePaused());
-                case Input.Keys.L -> gameHandler.skipBuildPhase();
-                case Input.Keys.UP -> gameHandler.speedUpTime();
-                case Input.Keys.DOWN -> gameHandler.slowDownTime();
+                case Input.Keys.SPACE -> inputRecorder.pauseGame(!gameHandler.isGamePaused());
+                case Input.Keys.L -> inputRecorder.skipBuildPhase();
+                case Input.Keys.K -> screen.skipToEndOfWave();
+                case Input.Keys.UP -> inputRecorder.speedUpTime();
+                case Input.Keys.DOWN -> inputRecorder.slowDownTime();
                 default -> { /* Do nothing when nothing is pressed */ }
             }
         }
@@ -361,7 +370,7 @@ public final class Hud implements Disposable {
 
         escapeMenuVisible ^= true;
         screen.setFreezeInput(escapeMenuVisible);
-        gameHandler.pauseGame(escapeMenuVisible);
+        inputRecorder.pauseGame(escapeMenuVisible);
         escapeMenu.setVisible(escapeMenuVisible);
         toolBar.setFrozenInput(escapeMenuVisible);
     }
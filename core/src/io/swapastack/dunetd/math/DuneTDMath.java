@@ -24,27 +24,41 @@ public final class DuneTDMath {
      * @return Angle between 0 and 360 degrees
      */
     public static float getAngle(@NonNull Vector2 from, @NonNull Vector2 to) {
+        return getAngle(from.x(), from.y(), to.x(), to.y());
+    }
+
+    /**
+     * Calculates angle between two vectors specified by their coordinates, without creating intermediate vectors.
+     *
+     * @param fromX X coordinate of from vector
+     * @param fromY Y coordinate of from vector
+     * @param toX   X coordinate of to vector
+     * @param toY   Y coordinate of to vector
+     * @return Angle between 0 and 360 degrees
+     */
+    public static float getAngle(float fromX, float fromY, float toX, float toY) {
         // Subtracting vectors to get direction vector
-        var direction = Vector2.subtract(to, from);
+        var directionX = toX - fromX;
+        var directionY = toY - fromY;
 
         // If both vectors are the same, angle is 0
-        if (direction.isZero()) {
+        if (directionX == 0 && directionY == 0) {
             return 0f;
         }
 
         // Prevent division by zero
-        if (direction.x() == 0f) {
-            return direction.y() >= 0 ? 0f : 180f;
+        if (directionX == 0f) {
+            return directionY >= 0 ? 0f : 180f;
         }
 
         // Calculate degree range: [-90, 90]
-        var degree = (float) Math.atan(direction.y() / direction.x()) * MathUtils.radiansToDegrees;
+        var degree = (float) Math.atan(directionY / directionX) * MathUtils.radiansToDegrees;
 
         // Adjust degree to range [0, 360]
-        if (direction.x() < 0) {
+        if (directionX < 0) {
             return (270 - degree) % 360;
         }
-        // direction.x > 0
+        // directionX > 0
         return 90 - degree;
     }
 
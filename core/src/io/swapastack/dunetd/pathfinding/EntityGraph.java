@@ -3,35 +3,63 @@ package io.swapastack.dunetd.pathfinding;
 import com.badlogic.gdx.ai.pfa.Connection;
 import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
 
 import io.swapastack.dunetd.entities.Entity;
 import io.swapastack.dunetd.entities.towers.Tower;
 import io.swapastack.dunetd.vectors.Vector2;
 
+import java.util.Arrays;
+
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import lombok.NonNull;
 
 /**
- * A graph for the {@link IndexedAStarPathFinder}.
+ * A graph of the tiles on the grid, which also implements the {@link IndexedGraph} of gdx-ai. The node of the
+ * tile at x, y has the index <code>x * height + y</code> and the connections are stored in flat arrays (compressed
+ * sparse rows), so looking up nodes and iterating over connections doesn't need hashing or connection objects.
  * Inspired by <a href="https://happycoding.io/tutorials/libgdx/pathfinding">https://happycoding.io/tutorials/libgdx/pathfinding</a>
  */
 public final class EntityGraph implements IndexedGraph<EntityNode> {
 
     /**
-     * Array with all nodes for the graph (all tiles on the grid)
+     * Offsets of the neighbours of a tile
+     */
+    private static final int[] NEIGHBOUR_X_OFFSETS = {1, 0, -1, 0};
+    private static final int[] NEIGHBOUR_Y_OFFSETS = {0, 1, 0, -1};
+
+    /**
+     * Grid the graph was created from, used to create nodes on demand
+     */
+    private final Entity[][] grid;
+
+    private final int width;
+
+    private final int height;
+
+    /**
+     * Nodes which were already requested, created on demand
      */
-    private final Array<EntityNode> entityNodes;
+    private final EntityNode[] entityNodes;
 
     /**
-     * Map with all connections from each node, used for path finding algorithm
+     * The connections of node i are stored from <code>connectionOffsets[i]</code> (inclusive) to
+     * <code>connectionOffsets[i + 1]</code> (exclusive) in <code>connectionTargets</code>
      */
-    private final ObjectMap<EntityNode, Array<Connection<EntityNode>>> connectionsMap;
+    private final int[] connectionOffsets;
+
+    /**
+     * Indices of the nodes to which the connections lead
+     */
+    private final int[] connectionTargets;
+
+    // Search state of findPath, reused between searches
+    private final int[] distances;
+    private final int[] parents;
+    private final boolean[] closed;
+    private final long[] heap;
 
     /**
      * Create new entity graph by using an entity grid to create nodes and connections.
@@ -44,144 +72,212 @@ public final class EntityGraph implements IndexedGraph<EntityNode> {
             throw new IllegalArgumentException("grid must consist of at least one entity");
         }
 
-        int gridWidth = grid.length;
-        int gridHeight = grid[0].length;
-        int gridSize = gridWidth * gridHeight;
-        entityNodes = new Array<>(gridSize);
-        connectionsMap = new ObjectMap<>();
+        this.grid = grid;
+        width = grid.length;
+        height = grid[0].length;
+        var nodeCount = width * height;
+        entityNodes = new EntityNode[nodeCount];
 
-        int nodeIndex = 0;
-
-        // Create temporary grid to store entity nodes
-        var nodeGrid = new EntityNode[gridWidth][gridHeight];
-
-        // Create nodes and connection between nodes
-        for (int x = 0; x < gridWidth; x++) {
-            for (int y = 0; y < gridHeight; y++) {
-                nodeIndex = createNodeAndConnectionForTile(grid, gridWidth, gridHeight, nodeIndex, nodeGrid, x, y);
+        // Count connections of each node first, then fill them in
+        connectionOffsets = new int[nodeCount + 1];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                var index = x * height + y;
+                connectionOffsets[index + 1] = connectionOffsets[index] + countConnections(x, y);
             }
         }
-    }
-
-    private int createNodeAndConnectionForTile(@NonNull Entity[][] grid, int gridWidth, int gridHeight, int nodeIndex,
-                                               EntityNode[][] nodeGrid, int x, int y) {
-        var currentNode = nodeGrid[x][y];
-        var newNodeIndex = nodeIndex;
-
-        // Add entity node at position x y, if not already created
-        if (currentNode == null) {
-            currentNode = new EntityNode(grid[x][y], x, y, nodeIndex);
-            newNodeIndex++;
-            nodeGrid[x][y] = currentNode;
-            entityNodes.add(currentNode);
+        connectionTargets = new int[connectionOffsets[nodeCount]];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                addConnections(x, y);
+            }
         }
 
-        // Add horizontal connection
-        if (x < gridWidth - 1) {
-            newNodeIndex = addConnection(grid, nodeGrid, currentNode, x + 1, y, newNodeIndex);
+        distances = new int[nodeCount];
+        parents = new int[nodeCount];
+        closed = new boolean[nodeCount];
+        // Every node is pushed at most once per incoming connection, plus the start node
+        heap = new long[connectionTargets.length + 1];
+    }
+
+    private int countConnections(int x, int y) {
+        var count = 0;
+        for (int i = 0; i < NEIGHBOUR_X_OFFSETS.length; i++) {
+            if (isConnected(x, y, x + NEIGHBOUR_X_OFFSETS[i], y + NEIGHBOUR_Y_OFFSETS[i])) {
+                count++;
+            }
         }
+        return count;
+    }
 
-        // Add vertical connection
-        if (y < gridHeight - 1) {
-            newNodeIndex = addConnection(grid, nodeGrid, currentNode, x, y + 1, newNodeIndex);
+    private void addConnections(int x, int y) {
+        var connectionIndex = connectionOffsets[x * height + y];
+        for (int i = 0; i < NEIGHBOUR_X_OFFSETS.length; i++) {
+            var neighbourX = x + NEIGHBOUR_X_OFFSETS[i];
+            var neighbourY = y + NEIGHBOUR_Y_OFFSETS[i];
+            if (isConnected(x, y, neighbourX, neighbourY)) {
+                connectionTargets[connectionIndex] = neighbourX * height + neighbourY;
+                connectionIndex++;
+            }
         }
+    }
 
-        return newNodeIndex;
+    /**
+     * Checks if there's a connection between the two specified tiles. There's no connection if at least one of the
+     * tiles is outside the grid or contains a tower.
+     */
+    private boolean isConnected(int fromX, int fromY, int toX, int toY) {
+        return isInside(toX, toY) && !(grid[fromX][fromY] instanceof Tower) && !(grid[toX][toY] instanceof Tower);
     }
 
     /**
-     * Adds a bidirectional connection between the <code>currentNode</code> and the node with the specified position.
-     * Also creates new node with the index <code>nodeIndex</code> if there's no node with the specified position.
+     * Searches for a path from <code>startPosition</code> to <code>endPosition</code> with A*, using the manhattan
+     * distance as heuristic.
      *
-     * @param grid        Grid with entities
-     * @param nodeGrid    Grid with entity nodes
-     * @param currentNode Node from which the connection starts
-     * @param nextX       X coordinate of node to which the connection goes
-     * @param nextY       Y coordinate of node to which the connection goes
-     * @param nodeIndex   Next free index of nodes
-     * @return Updated index value, was incremented by one if new node didn't exist, otherwise it's equal to
-     * <code>nodeIndex</code> argument
+     * @param startPosition Start position of path
+     * @param endPosition   End position of path
+     * @return Best possible path from <code>startPosition</code> to <code>endPosition</code>, may not be successful
+     * and returns a path with no waypoints because there was no path
      */
-    private int addConnection(@NonNull Entity[][] grid, @NonNull EntityNode[][] nodeGrid,
-                              @NonNull EntityNode currentNode, int nextX, int nextY, int nodeIndex) {
-        int newNodeIndex = nodeIndex;
-
-        // If node not already exists create one
-        if (nodeGrid[nextX][nextY] == null) {
-            var newEntityNode = new EntityNode(grid[nextX][nextY], nextX, nextY, nodeIndex);
-            newNodeIndex++;
-            nodeGrid[nextX][nextY] = newEntityNode;
-            entityNodes.add(newEntityNode);
+    public @NotNull GraphPath<EntityNode> findPath(@NonNull Vector2 startPosition, @NonNull Vector2 endPosition) {
+        var startNodeIndex = getIndex(startPosition);
+        var endNodeIndex = getIndex(endPosition);
+
+        // Check if positions are inside the grid
+        if (startNodeIndex == -1 || endNodeIndex == -1) {
+            throw new IllegalArgumentException("startPosition and endPosition must be inside the grid");
         }
-        // Add connection to node
-        addConnection(currentNode, nodeGrid[nextX][nextY]);
 
-        return newNodeIndex;
+        var entityPath = new DefaultGraphPath<EntityNode>();
+        if (search(startNodeIndex, endNodeIndex)) {
+            // Follow the parents from the end back to the start
+            for (int nodeIndex = endNodeIndex; nodeIndex != -1; nodeIndex = parents[nodeIndex]) {
+                entityPath.add(getNode(nodeIndex));
+            }
+            entityPath.reverse();
+        }
+        return entityPath;
     }
 
     /**
-     * Adding a bidirectional connection between <code>fromNode</code> and <code>toNode</code> to the
-     * <code>connectionsMap</code>.
+     * Runs A* from the start node to the end node and stores the parents of the visited nodes.
      *
-     * @param fromNode First node of the connection
-     * @param toNode   Second node if the connection
+     * @return True if the end node was reached
      */
-    private void addConnection(@NonNull EntityNode fromNode, @NonNull EntityNode toNode) {
-        // Don't create a connection if at least one of the nodes is a tower
-        if (fromNode.getEntity() instanceof Tower || toNode.getEntity() instanceof Tower) {
-            return;
-        }
+    private boolean search(int startNodeIndex, int endNodeIndex) {
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(closed, false);
 
-        // Create connection from fromNode to toNode and store it in connectionsMap
-        var connectionTo = new EntityConnection(fromNode, toNode);
-        if (!connectionsMap.containsKey(fromNode)) {
-            connectionsMap.put(fromNode, new Array<>());
-        }
-        connectionsMap.get(fromNode).add(connectionTo);
+        var endX = endNodeIndex / height;
+        var endY = endNodeIndex % height;
+
+        distances[startNodeIndex] = 0;
+        parents[startNodeIndex] = -1;
+        var heapSize = push(0, estimate(startNodeIndex, endX, endY), startNodeIndex);
+
+        while (heapSize > 0) {
+            var nodeIndex = (int) heap[0];
+            heapSize = pop(heapSize);
+            if (closed[nodeIndex]) {
+                continue;
+            }
+            if (nodeIndex == endNodeIndex) {
+                return true;
+            }
+            closed[nodeIndex] = true;
 
-        // Create connection from toNode to fromNode and store it in connectionsMap
-        var connectionFrom = new EntityConnection(toNode, fromNode);
-        if (!connectionsMap.containsKey(toNode)) {
-            connectionsMap.put(toNode, new Array<>());
+            var distance = distances[nodeIndex] + 1;
+            for (int i = connectionOffsets[nodeIndex]; i < connectionOffsets[nodeIndex + 1]; i++) {
+                var neighbourIndex = connectionTargets[i];
+                if (!closed[neighbourIndex] && distance < distances[neighbourIndex]) {
+                    distances[neighbourIndex] = distance;
+                    parents[neighbourIndex] = nodeIndex;
+                    heapSize = push(heapSize, distance + estimate(neighbourIndex, endX, endY), neighbourIndex);
+                }
+            }
         }
-        connectionsMap.get(toNode).add(connectionFrom);
+        return false;
+    }
+
+    private int estimate(int nodeIndex, int endX, int endY) {
+        return Math.abs(nodeIndex / height - endX) + Math.abs(nodeIndex % height - endY);
     }
 
     /**
-     * Searches for a node in <code>entityNodes</code> with the specified position.
+     * Pushes a node onto the heap, which is ordered by the estimated path length and then by node index.
      *
-     * @param nodePosition Position of the node
-     * @return The entity node with the specified position or null if there's no entity node with that position
+     * @return New size of the heap
      */
-    private @Nullable EntityNode findNode(Vector2 nodePosition) {
-        for (var entityNode : new Array.ArrayIterator<>(entityNodes).iterator()) {
-            if (entityNode.getPosition().equals(nodePosition)) {
-                return entityNode;
+    private int push(int heapSize, int estimatedLength, int nodeIndex) {
+        var entry = ((long) estimatedLength << 32) | nodeIndex;
+        var position = heapSize;
+        while (position > 0) {
+            var parentPosition = (position - 1) / 2;
+            if (heap[parentPosition] <= entry) {
+                break;
             }
+            heap[position] = heap[parentPosition];
+            position = parentPosition;
         }
-        return null;
+        heap[position] = entry;
+        return heapSize + 1;
     }
 
     /**
-     * Searches for a path from <code>startPosition</code> to <code>endPosition</code>.
+     * Removes the first entry of the heap.
      *
-     * @param startPosition Start position of path
-     * @param endPosition   End position of path
-     * @return Best possible path from <code>startPosition</code> to <code>endPosition</code>, may not be successful
-     * and returns a path with no waypoints because there was no path
+     * @return New size of the heap
      */
-    public @NotNull GraphPath<EntityNode> findPath(@NonNull Vector2 startPosition, @NonNull Vector2 endPosition) {
-        var startNode = findNode(startPosition);
-        var endNode = findNode(endPosition);
+    private int pop(int heapSize) {
+        var newHeapSize = heapSize - 1;
+        var entry = heap[newHeapSize];
+        var position = 0;
+        while (true) {
+            var childPosition = position * 2 + 1;
+            if (childPosition >= newHeapSize) {
+                break;
+            }
+            if (childPosition + 1 < newHeapSize && heap[childPosition + 1] < heap[childPosition]) {
+                childPosition++;
+            }
+            if (entry <= heap[childPosition]) {
+                break;
+            }
+            heap[position] = heap[childPosition];
+            position = childPosition;
+        }
+        heap[position] = entry;
+        return newHeapSize;
+    }
 
-        // Check if positions are inside the grid, therefor the nodes are non-null
-        if (startNode == null || endNode == null) {
-            throw new IllegalArgumentException("startPosition and endPosition must be inside the grid");
+    private @NotNull EntityNode getNode(int nodeIndex) {
+        var entityNode = entityNodes[nodeIndex];
+        if (entityNode == null) {
+            var x = nodeIndex / height;
+            var y = nodeIndex % height;
+            entityNode = new EntityNode(grid[x][y], x, y, nodeIndex);
+            entityNodes[nodeIndex] = entityNode;
         }
+        return entityNode;
+    }
 
-        var entityPath = new DefaultGraphPath<EntityNode>();
-        new IndexedAStarPathFinder<>(this).searchNodePath(startNode, endNode, new EntityHeuristic(), entityPath);
-        return entityPath;
+    /**
+     * Returns the index of the node with the specified position.
+     *
+     * @param position Position of the node
+     * @return Index of the node or -1 if the position is outside the grid
+     */
+    private int getIndex(@NonNull Vector2 position) {
+        var x = (int) position.x();
+        var y = (int) position.y();
+        if (!isInside(x, y) || x != position.x() || y != position.y()) {
+            return -1;
+        }
+        return x * height + y;
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
     }
 
     /**
@@ -200,20 +296,29 @@ public final class EntityGraph implements IndexedGraph<EntityNode> {
      */
     @Override
     public int getNodeCount() {
-        return entityNodes.size;
+        return entityNodes.length;
     }
 
     /**
-     * Returns the connections outgoing from the given node.
+     * Returns the connections outgoing from the given node. The connections are created on demand, the path finding
+     * of this graph doesn't use them.
      *
      * @param fromNode the node whose outgoing connections will be returned
      * @return the array of connections outgoing from the given node.
      */
     @Override
     public Array<Connection<EntityNode>> getConnections(@NonNull EntityNode fromNode) {
-        if (connectionsMap.containsKey(fromNode)) {
-            return connectionsMap.get(fromNode);
+        var nodeIndex = getIndex(fromNode.getPosition());
+        if (nodeIndex == -1) {
+            return new Array<>(0);
+        }
+
+        var from = getNode(nodeIndex);
+        var connectionCount = connectionOffsets[nodeIndex + 1] - connectionOffsets[nodeIndex];
+        var connections = new Array<Connection<EntityNode>>(connectionCount);
+        for (int i = connectionOffsets[nodeIndex]; i < connectionOffsets[nodeIndex + 1]; i++) {
+            connections.add(new EntityConnection(from, getNode(connectionTargets[i])));
         }
-        return new Array<>(0);
+        return connections;
     }
 }
@@ -1,7 +1,5 @@
 package io.swapastack.dunetd.pathfinding;
 
-import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
-
 import io.swapastack.dunetd.entities.Entity;
 import io.swapastack.dunetd.vectors.Vector2;
 
@@ -29,7 +27,7 @@ public class EntityNode {
     private final Vector2 position;
 
     /**
-     * Unique index of entity node (used for {@link IndexedAStarPathFinder})
+     * Unique index of entity node in the {@link EntityGraph}
      */
     @Getter
     private final int index;
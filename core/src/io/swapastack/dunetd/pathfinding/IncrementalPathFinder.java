@@ -0,0 +1,324 @@
+package io.swapastack.dunetd.pathfinding;
+
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Path finder which keeps its search state between calls, so blocking or freeing a tile only repairs the part of
+ * the search which is affected by the change (Lifelong Planning A*). The search runs backwards from the end to the
+ * start, so the path can be read off the distances to the end. Tiles are connected to their horizontal and vertical
+ * neighbours, blocked tiles have no connections.
+ */
+public final class IncrementalPathFinder {
+
+    /**
+     * Distance of unreachable tiles, small enough to add the heuristic without overflow
+     */
+    private static final int INFINITY = 1 << 29;
+
+    /**
+     * Offsets of the neighbours of a tile, in the order they are preferred when there are several shortest paths
+     */
+    private static final int[] NEIGHBOUR_X_OFFSETS = {1, 0, -1, 0};
+    private static final int[] NEIGHBOUR_Y_OFFSETS = {0, 1, 0, -1};
+
+    @Getter
+    private final int width;
+
+    @Getter
+    private final int height;
+
+    private final int startTile;
+
+    private final int endTile;
+
+    private final boolean[] blocked;
+
+    /**
+     * Distance of each tile to the end, as far as it's known
+     */
+    private final int[] distances;
+
+    /**
+     * One step look ahead distance of each tile, calculated from the distances of its neighbours
+     */
+    private final int[] lookAheadDistances;
+
+    // Indexed binary heap of inconsistent tiles
+    private final int[] heap;
+    private final int[] heapPositions;
+    private final long[] keys;
+    private int heapSize;
+
+    /**
+     * Creates a path finder for a grid with the specified dimensions, in which no tile is blocked.
+     *
+     * @param width  Width of the grid
+     * @param height Height of the grid
+     * @param start  Start position of the path
+     * @param end    End position of the path
+     */
+    public IncrementalPathFinder(int width, int height, @NonNull Vector2 start, @NonNull Vector2 end) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("grid must consist of at least one tile");
+        }
+
+        this.width = width;
+        this.height = height;
+        if (!isInside((int) start.x(), (int) start.y()) || !isInside((int) end.x(), (int) end.y())) {
+            throw new IllegalArgumentException("start and end must be inside the grid");
+        }
+        startTile = toTile((int) start.x(), (int) start.y());
+        endTile = toTile((int) end.x(), (int) end.y());
+
+        var tileCount = width * height;
+        blocked = new boolean[tileCount];
+        distances = new int[tileCount];
+        lookAheadDistances = new int[tileCount];
+        heap = new int[tileCount];
+        heapPositions = new int[tileCount];
+        keys = new long[tileCount];
+
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(lookAheadDistances, INFINITY);
+        Arrays.fill(heapPositions, -1);
+        heapSize = 0;
+
+        lookAheadDistances[endTile] = 0;
+        insert(endTile);
+    }
+
+    /**
+     * Blocks or frees the tile at the specified position. The search is repaired on the next call of
+     * {@link #calculatePath()}.
+     *
+     * @param x         X coordinate of the tile
+     * @param y         Y coordinate of the tile
+     * @param isBlocked True if the tile should be blocked, false if it should be free
+     */
+    public void setBlocked(int x, int y, boolean isBlocked) {
+        if (!isInside(x, y)) {
+            throw new IllegalArgumentException("The tile must be inside the grid");
+        }
+
+        var tile = toTile(x, y);
+        if (tile == startTile || tile == endTile) {
+            throw new IllegalArgumentException("The start and end of the path cannot be blocked");
+        }
+        if (blocked[tile] == isBlocked) {
+            return;
+        }
+
+        blocked[tile] = isBlocked;
+        updateTile(tile);
+        updateNeighbours(tile);
+    }
+
+    /**
+     * Returns if the tile at the specified position is blocked.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return True if the tile is blocked
+     */
+    public boolean isBlocked(int x, int y) {
+        return isInside(x, y) && blocked[toTile(x, y)];
+    }
+
+    /**
+     * Repairs the search and returns a shortest path from start to end.
+     *
+     * @return A path with either zero waypoints, which means that the path is blocked or greater than zero waypoints,
+     * which means that a path was found
+     */
+    public @NotNull Path calculatePath() {
+        computeShortestPath();
+
+        if (distances[startTile] >= INFINITY) {
+            return new Path(new Vector2[0]);
+        }
+
+        // Follow the distances from the start downhill to the end
+        var waypoints = new Vector2[distances[startTile] + 1];
+        var tile = startTile;
+        for (int i = 0; i < waypoints.length; i++) {
+            waypoints[i] = new Vector2(tile / height, tile % height);
+            if (tile != endTile) {
+                tile = getNextTile(tile);
+            }
+        }
+        return new Path(waypoints);
+    }
+
+    private int getNextTile(int tile) {
+        var x = tile / height;
+        var y = tile % height;
+        var nextTile = -1;
+        for (int i = 0; i < NEIGHBOUR_X_OFFSETS.length; i++) {
+            var neighbourX = x + NEIGHBOUR_X_OFFSETS[i];
+            var neighbourY = y + NEIGHBOUR_Y_OFFSETS[i];
+            if (isInside(neighbourX, neighbourY)) {
+                var neighbour = toTile(neighbourX, neighbourY);
+                if (!blocked[neighbour] && (nextTile == -1 || distances[neighbour] < distances[nextTile])) {
+                    nextTile = neighbour;
+                }
+            }
+        }
+
+        if (nextTile == -1 || distances[nextTile] >= distances[tile]) {
+            throw new IllegalStateException("The search is inconsistent, no neighbour is closer to the end");
+        }
+        return nextTile;
+    }
+
+    private void computeShortestPath() {
+        while (heapSize > 0 && (keys[heap[0]] < calculateKey(startTile)
+                || lookAheadDistances[startTile] != distances[startTile])) {
+            var tile = pop();
+            if (distances[tile] > lookAheadDistances[tile]) {
+                // Tile got closer to the end, its neighbours might as well
+                distances[tile] = lookAheadDistances[tile];
+                updateNeighbours(tile);
+            } else {
+                // Tile got further away from the end, reevaluate it and its neighbours
+                distances[tile] = INFINITY;
+                updateTile(tile);
+                updateNeighbours(tile);
+            }
+        }
+    }
+
+    private void updateNeighbours(int tile) {
+        var x = tile / height;
+        var y = tile % height;
+        for (int i = 0; i < NEIGHBOUR_X_OFFSETS.length; i++) {
+            var neighbourX = x + NEIGHBOUR_X_OFFSETS[i];
+            var neighbourY = y + NEIGHBOUR_Y_OFFSETS[i];
+            if (isInside(neighbourX, neighbourY)) {
+                updateTile(toTile(neighbourX, neighbourY));
+            }
+        }
+    }
+
+    private void updateTile(int tile) {
+        if (tile != endTile) {
+            lookAheadDistances[tile] = blocked[tile] ? INFINITY : getMinimumNeighbourDistance(tile) + 1;
+        }
+
+        if (heapPositions[tile] != -1) {
+            remove(tile);
+        }
+        if (distances[tile] != lookAheadDistances[tile]) {
+            insert(tile);
+        }
+    }
+
+    private int getMinimumNeighbourDistance(int tile) {
+        var x = tile / height;
+        var y = tile % height;
+        var minimum = INFINITY - 1;
+        for (int i = 0; i < NEIGHBOUR_X_OFFSETS.length; i++) {
+            var neighbourX = x + NEIGHBOUR_X_OFFSETS[i];
+            var neighbourY = y + NEIGHBOUR_Y_OFFSETS[i];
+            if (isInside(neighbourX, neighbourY)) {
+                var neighbour = toTile(neighbourX, neighbourY);
+                if (!blocked[neighbour] && distances[neighbour] < minimum) {
+                    minimum = distances[neighbour];
+                }
+            }
+        }
+        return minimum;
+    }
+
+    /**
+     * Calculates the priority of a tile, primarily by the estimated length of a path through the tile, secondarily by
+     * its distance to the end.
+     */
+    private long calculateKey(int tile) {
+        var distance = Math.min(distances[tile], lookAheadDistances[tile]);
+        var heuristic = Math.abs(tile / height - startTile / height) + Math.abs(tile % height - startTile % height);
+        return ((long) (distance + heuristic) << 32) | distance;
+    }
+
+    private void insert(int tile) {
+        keys[tile] = calculateKey(tile);
+        heap[heapSize] = tile;
+        heapPositions[tile] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private int pop() {
+        var tile = heap[0];
+        remove(tile);
+        return tile;
+    }
+
+    private void remove(int tile) {
+        var position = heapPositions[tile];
+        heapSize--;
+        heapPositions[tile] = -1;
+        if (position == heapSize) {
+            return;
+        }
+
+        // Move last tile into the gap and restore the heap order
+        var lastTile = heap[heapSize];
+        heap[position] = lastTile;
+        heapPositions[lastTile] = position;
+        siftUp(position);
+        siftDown(heapPositions[lastTile]);
+    }
+
+    private void siftUp(int position) {
+        var tile = heap[position];
+        while (position > 0) {
+            var parentPosition = (position - 1) / 2;
+            var parent = heap[parentPosition];
+            if (keys[parent] <= keys[tile]) {
+                break;
+            }
+            heap[position] = parent;
+            heapPositions[parent] = position;
+            position = parentPosition;
+        }
+        heap[position] = tile;
+        heapPositions[tile] = position;
+    }
+
+    private void siftDown(int position) {
+        var tile = heap[position];
+        while (true) {
+            var childPosition = position * 2 + 1;
+            if (childPosition >= heapSize) {
+                break;
+            }
+            if (childPosition + 1 < heapSize && keys[heap[childPosition + 1]] < keys[heap[childPosition]]) {
+                childPosition++;
+            }
+            var child = heap[childPosition];
+            if (keys[tile] <= keys[child]) {
+                break;
+            }
+            heap[position] = child;
+            heapPositions[child] = position;
+            position = childPosition;
+        }
+        heap[position] = tile;
+        heapPositions[tile] = position;
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    private int toTile(int x, int y) {
+        return x * height + y;
+    }
+}
@@ -68,48 +68,60 @@ public final class Path {
      * on the path
      */
     public Optional<Vector2> getNextWaypoint(@NonNull Vector2 position) {
+        var index = getNextWaypointIndex(position);
+        return index == -1 ? Optional.empty() : Optional.of(waypoints[index]);
+    }
+
+    /**
+     * Searches for the index of the next waypoint on path after specified position. Hostile units use it to find
+     * their place on a new path, afterwards they follow the waypoints by index.
+     *
+     * @param position Position from which the next waypoint is searched
+     * @return Index of the next waypoint on the path (could be the index of the same position -> end of path) or -1
+     * if the position is not on the path
+     */
+    public int getNextWaypointIndex(@NonNull Vector2 position) {
         for (int i = 0; i < waypoints.length - 1; i++) {
             // When the position is equal to a waypoint return the subsequent waypoint
-            var waypointOptional = getWaypointWhenPositionIsOnWaypoint(position, i);
-            if (waypointOptional.isPresent()) {
-                return waypointOptional;
+            var index = getWaypointIndexWhenPositionIsOnWaypoint(position, i);
+            if (index != -1) {
+                return index;
             }
 
             // When the position is between two waypoint between the subsequent waypoint
-            waypointOptional = getWaypointWhenPositionIsBetweenWaypoints(position, i);
-            if (waypointOptional.isPresent()) {
-                return waypointOptional;
+            if (isPositionBetweenWaypoints(position, i)) {
+                return i + 1;
             }
 
             // The position is not on the connection between the two points -> check other connections
         }
 
         // Couldn't find next waypoint -> position is not on the path
-        return Optional.empty();
+        return -1;
     }
 
-    private Optional<Vector2> getWaypointWhenPositionIsOnWaypoint(@NonNull Vector2 position, int index) {
+    private int getWaypointIndexWhenPositionIsOnWaypoint(@NonNull Vector2 position, int index) {
         var firstPoint = waypoints[index];
         var secondPoint = waypoints[index + 1];
 
         // Check whether position is first waypoint and if so return the second waypoint
         // Otherwise check whether position is second waypoint and return waypoint after that if there's one
         if (position.equals(firstPoint)) {
-            return Optional.of(secondPoint);
+            return index + 1;
         } else if (position.equals(secondPoint)) {
             if (index < waypoints.length - 2) {
                 // just get 'third point' (point after second point)
-                return Optional.of(waypoints[index + 2]);
+                return index + 2;
             } else {
                 // reached end
-                return Optional.of(secondPoint);
+                return index + 1;
             }
         }
 
-        return Optional.empty();
+        return -1;
     }
 
-    private Optional<Vector2> getWaypointWhenPositionIsBetweenWaypoints(@NonNull Vector2 position, int index) {
+    private boolean isPositionBetweenWaypoints(@NonNull Vector2 position, int index) {
         var firstPoint = waypoints[index];
         var secondPoint = waypoints[index + 1];
 
@@ -118,13 +130,9 @@ public final class Path {
         var isPositionInBetweenPointsOnX = isValueInBetween(firstPoint.x(), secondPoint.x(), position.x());
         var isPositionInBetweenPointsOnY = isValueInBetween(firstPoint.y(), secondPoint.y(), position.y());
 
-        // Vertical connection
-        if (havePositionsSameXValue && isPositionInBetweenPointsOnY
-                || havePositionsSameYValue && isPositionInBetweenPointsOnX) {
-            return Optional.of(secondPoint);
-        } else {
-            return Optional.empty();
-        }
+        // Vertical or horizontal connection
+        return havePositionsSameXValue && isPositionInBetweenPointsOnY
+                || havePositionsSameYValue && isPositionInBetweenPointsOnX;
     }
 
     /**
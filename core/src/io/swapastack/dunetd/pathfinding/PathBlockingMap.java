@@ -0,0 +1,172 @@
+package io.swapastack.dunetd.pathfinding;
+
+import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.entities.towers.Tower;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Map of the free tiles which would block the path between start and end if a tower was placed on them. A tile blocks
+ * the path if it's an articulation point of the graph of free tiles which separates start from end, those are found
+ * with a single depth-first search (Tarjan). Tiles with towers (including debris) are not free.
+ */
+public final class PathBlockingMap {
+
+    /**
+     * Offsets of the neighbours of a tile
+     */
+    private static final int[] NEIGHBOUR_X_OFFSETS = {1, 0, -1, 0};
+    private static final int[] NEIGHBOUR_Y_OFFSETS = {0, 1, 0, -1};
+
+    @Getter
+    private final int width;
+
+    @Getter
+    private final int height;
+
+    private final int startTile;
+
+    private final int endTile;
+
+    private final boolean[] blockingTiles;
+
+    // State of the depth-first search, reused between updates
+    private final boolean[] freeTiles;
+    private final int[] discoveryTimes;
+    private final int[] lowTimes;
+    private final int[] parents;
+    private final int[] stack;
+    private final int[] nextNeighbours;
+
+    /**
+     * Creates a map for a grid with the specified dimensions, in which no tile blocks the path until the first
+     * {@link #update(Entity[][])}.
+     *
+     * @param width  Width of the grid
+     * @param height Height of the grid
+     * @param start  Start position of the path
+     * @param end    End position of the path
+     */
+    public PathBlockingMap(int width, int height, @NonNull Vector2 start, @NonNull Vector2 end) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("grid must consist of at least one tile");
+        }
+
+        this.width = width;
+        this.height = height;
+        if (!isInside((int) start.x(), (int) start.y()) || !isInside((int) end.x(), (int) end.y())) {
+            throw new IllegalArgumentException("start and end must be inside the grid");
+        }
+        startTile = (int) start.x() * height + (int) start.y();
+        endTile = (int) end.x() * height + (int) end.y();
+
+        var tileCount = width * height;
+        blockingTiles = new boolean[tileCount];
+        freeTiles = new boolean[tileCount];
+        discoveryTimes = new int[tileCount];
+        lowTimes = new int[tileCount];
+        parents = new int[tileCount];
+        stack = new int[tileCount];
+        nextNeighbours = new int[tileCount];
+    }
+
+    /**
+     * Recalculates which tiles would block the path, has to be called after the towers on the grid changed.
+     *
+     * @param grid Grid with the entities, must have the dimensions of this map
+     */
+    public void update(@NonNull Entity[][] grid) {
+        if (grid.length != width || grid[0].length != height) {
+            throw new IllegalArgumentException("grid must have the dimensions of the map");
+        }
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                freeTiles[x * height + y] = !(grid[x][y] instanceof Tower);
+            }
+        }
+        Arrays.fill(blockingTiles, false);
+        Arrays.fill(discoveryTimes, 0);
+
+        if (freeTiles[startTile] && freeTiles[endTile]) {
+            findBlockingTiles();
+        }
+    }
+
+    /**
+     * Returns if placing a tower on the tile at the specified position would block the path. Tiles outside the grid
+     * or occupied tiles never block the path.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return True if the path would be blocked
+     */
+    public boolean wouldBlockPath(int x, int y) {
+        return isInside(x, y) && blockingTiles[x * height + y];
+    }
+
+    /**
+     * Iterative depth-first search from the start, which marks every tile whose removal disconnects the end from the
+     * start.
+     */
+    private void findBlockingTiles() {
+        var time = 1;
+        discoveryTimes[startTile] = time;
+        lowTimes[startTile] = time;
+        parents[startTile] = -1;
+        nextNeighbours[0] = 0;
+        stack[0] = startTile;
+        var stackSize = 1;
+
+        while (stackSize > 0) {
+            var tile = stack[stackSize - 1];
+            var neighbourNumber = nextNeighbours[stackSize - 1];
+
+            if (neighbourNumber < NEIGHBOUR_X_OFFSETS.length) {
+                nextNeighbours[stackSize - 1]++;
+                var neighbourX = tile / height + NEIGHBOUR_X_OFFSETS[neighbourNumber];
+                var neighbourY = tile % height + NEIGHBOUR_Y_OFFSETS[neighbourNumber];
+                if (!isInside(neighbourX, neighbourY) || !freeTiles[neighbourX * height + neighbourY]) {
+                    continue;
+                }
+
+                var neighbour = neighbourX * height + neighbourY;
+                if (discoveryTimes[neighbour] == 0) {
+                    time++;
+                    discoveryTimes[neighbour] = time;
+                    lowTimes[neighbour] = time;
+                    parents[neighbour] = tile;
+                    stack[stackSize] = neighbour;
+                    nextNeighbours[stackSize] = 0;
+                    stackSize++;
+                } else if (neighbour != parents[tile]) {
+                    lowTimes[tile] = Math.min(lowTimes[tile], discoveryTimes[neighbour]);
+                }
+                continue;
+            }
+
+            // All neighbours are visited, report back to the parent
+            stackSize--;
+            var parent = parents[tile];
+            if (parent == -1) {
+                continue;
+            }
+            lowTimes[parent] = Math.min(lowTimes[parent], lowTimes[tile]);
+
+            // The subtree of the tile can't reach above the parent, so the parent separates the subtree from the
+            // start. Tiles of the subtree were discovered since the tile itself.
+            var isEndInSubtree = discoveryTimes[endTile] >= discoveryTimes[tile];
+            if (lowTimes[tile] >= discoveryTimes[parent] && isEndInSubtree && parent != startTile) {
+                blockingTiles[parent] = true;
+            }
+        }
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
@@ -0,0 +1,84 @@
+package io.swapastack.dunetd.replay;
+
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.game.GameHandler;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import lombok.NonNull;
+
+/**
+ * A player input, stamped with the simulation tick before which it was executed.
+ *
+ * @param tick      Number of ticks the simulation executed before the input
+ * @param type      Type of the input
+ * @param x         X coordinate on the grid, 0 if the type doesn't target a grid position
+ * @param y         Y coordinate on the grid, 0 if the type doesn't target a grid position
+ * @param towerEnum Type of the built tower, null if the type isn't {@link InputCommandType#BUILD_TOWER}
+ */
+public record InputCommand(long tick, @NonNull InputCommandType type, int x, int y, @Nullable TowerEnum towerEnum) {
+
+    /**
+     * Creates a command and checks if the arguments fit the type.
+     *
+     * @throws IllegalArgumentException If the tick is negative or the tower type is missing or unexpected
+     */
+    public InputCommand {
+        if (tick < 0) {
+            throw new IllegalArgumentException("The tick must not be negative");
+        }
+        if ((type == InputCommandType.BUILD_TOWER) != (towerEnum != null)) {
+            throw new IllegalArgumentException("Only commands to build a tower must have a tower type");
+        }
+        if (!type.isPositional() && (x != 0 || y != 0)) {
+            throw new IllegalArgumentException("Only commands targeting a grid position must have coordinates");
+        }
+    }
+
+    /**
+     * Creates a command which doesn't target a grid position.
+     *
+     * @param tick Number of ticks the simulation executed before the input
+     * @param type Type of the input
+     * @return Created command
+     */
+    public static @NotNull InputCommand of(long tick, @NonNull InputCommandType type) {
+        return new InputCommand(tick, type, 0, 0, null);
+    }
+
+    /**
+     * Executes this command on the specified game handler.
+     *
+     * @param gameHandler Game handler to execute the command on
+     * @return False if the game handler rejected the command, e.g. because a tower can't be built at the position
+     */
+    public boolean execute(@NonNull GameHandler gameHandler) {
+        return switch (type) {
+            case BUILD_TOWER -> gameHandler.buildTower(towerEnum, x, y);
+            case TEAR_DOWN_TOWER -> gameHandler.tearDownTower(x, y);
+            case SET_THUMPER -> gameHandler.getShaiHulud().setThumper(new Vector2(x, y));
+            case CANCEL_SHAI_HULUD_ATTACK -> {
+                gameHandler.getShaiHulud().cancelAttack();
+                yield true;
+            }
+            case SKIP_BUILD_PHASE -> {
+                gameHandler.skipBuildPhase();
+                yield true;
+            }
+            case PAUSE_GAME, RESUME_GAME -> {
+                gameHandler.pauseGame(type == InputCommandType.PAUSE_GAME);
+                yield true;
+            }
+            case SPEED_UP_TIME -> {
+                gameHandler.speedUpTime();
+                yield true;
+            }
+            case SLOW_DOWN_TIME -> {
+                gameHandler.slowDownTime();
+                yield true;
+            }
+        };
+    }
+}
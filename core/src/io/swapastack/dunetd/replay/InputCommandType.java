@@ -0,0 +1,37 @@
+package io.swapastack.dunetd.replay;
+
+import lombok.Getter;
+
+/**
+ * Represents the player inputs which change the simulation and are recorded in an {@link InputLog}:<br>
+ * - BUILD_TOWER: Builds a tower of a type at a grid position.<br>
+ * - TEAR_DOWN_TOWER: Tears down the tower at a grid position.<br>
+ * - SET_THUMPER: Sets a thumper for the shai hulud at a grid position.<br>
+ * - CANCEL_SHAI_HULUD_ATTACK: Removes the thumpers of the shai hulud.<br>
+ * - SKIP_BUILD_PHASE: Skips the remaining build phase.<br>
+ * - PAUSE_GAME: Pauses the game.<br>
+ * - RESUME_GAME: Resumes the paused game.<br>
+ * - SPEED_UP_TIME: Sets the time factor to the next higher value.<br>
+ * - SLOW_DOWN_TIME: Sets the time factor to the next lower value.
+ */
+public enum InputCommandType {
+    BUILD_TOWER(true),
+    TEAR_DOWN_TOWER(true),
+    SET_THUMPER(true),
+    CANCEL_SHAI_HULUD_ATTACK(false),
+    SKIP_BUILD_PHASE(false),
+    PAUSE_GAME(false),
+    RESUME_GAME(false),
+    SPEED_UP_TIME(false),
+    SLOW_DOWN_TIME(false);
+
+    /**
+     * True if commands of this type target a grid position
+     */
+    @Getter
+    private final boolean positional;
+
+    InputCommandType(boolean positional) {
+        this.positional = positional;
+    }
+}
@@ -0,0 +1,218 @@
+package io.swapastack.dunetd.replay;
+
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Log of the player inputs of a game, from which the game can be reproduced exactly by a {@link InputReplay}. The
+ * simulation is advanced in fixed ticks, so every input is stamped with the number of ticks executed before it.
+ * <p>
+ * The binary format consists of a header (magic number, version, grid width and height) followed by the number of
+ * commands, the commands and the number of ticks after the last command. Commands store the tick difference to the
+ * previous command, the type, the coordinates for positional types and the tower type for built towers. All numbers
+ * except the magic number and the version are variable-length encoded, so most commands only need a few bytes.
+ */
+public final class InputLog {
+
+    /**
+     * "DTDR" in ASCII
+     */
+    private static final int MAGIC_NUMBER = 0x44544452;
+    private static final int VERSION = 1;
+
+    private static final InputCommandType[] INPUT_COMMAND_TYPES = InputCommandType.values();
+    private static final TowerEnum[] TOWER_ENUMS = TowerEnum.values();
+
+    @Getter
+    private final int gridWidth;
+    @Getter
+    private final int gridHeight;
+
+    private final ArrayList<InputCommand> commands;
+
+    /**
+     * Number of ticks executed in the recorded game, including the ticks after the last command
+     */
+    @Getter
+    private long tickCount;
+
+    /**
+     * Creates an empty log of a game with a grid with the specified dimensions.
+     *
+     * @param gridWidth  Width of the grid
+     * @param gridHeight Height of the grid
+     */
+    public InputLog(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        commands = new ArrayList<>();
+        tickCount = 0;
+    }
+
+    /**
+     * Appends a command to this log.
+     *
+     * @param command Command to append
+     * @throws IllegalArgumentException If the command was executed before the last tick of this log
+     */
+    public void add(@NonNull InputCommand command) throws IllegalArgumentException {
+        if (command.tick() < tickCount) {
+            throw new IllegalArgumentException("The commands must be added in the order of their ticks");
+        }
+        commands.add(command);
+        tickCount = command.tick();
+    }
+
+    /**
+     * Sets the number of ticks executed in the recorded game.
+     *
+     * @param tickCount Number of ticks
+     * @throws IllegalArgumentException If the number is less than the tick of the last command
+     */
+    public void setTickCount(long tickCount) throws IllegalArgumentException {
+        if (tickCount < getLastCommandTick()) {
+            throw new IllegalArgumentException("The tick count must not be less than the tick of the last command");
+        }
+        this.tickCount = tickCount;
+    }
+
+    /**
+     * @return Unmodifiable list of the commands in the order they were executed
+     */
+    public @NotNull List<InputCommand> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+
+    /**
+     * Writes this log in the binary format to the specified stream.
+     *
+     * @param outputStream Stream to write to, isn't closed
+     * @throws IOException If the log couldn't be written
+     */
+    public void write(@NonNull OutputStream outputStream) throws IOException {
+        var output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC_NUMBER);
+        output.writeByte(VERSION);
+        writeVarLong(output, gridWidth);
+        writeVarLong(output, gridHeight);
+        writeVarLong(output, commands.size());
+
+        var previousTick = 0L;
+        for (var command : commands) {
+            writeVarLong(output, command.tick() - previousTick);
+            output.writeByte(command.type().ordinal());
+            if (command.type().isPositional()) {
+                writeVarLong(output, Integer.toUnsignedLong(zigZagEncode(command.x())));
+                writeVarLong(output, Integer.toUnsignedLong(zigZagEncode(command.y())));
+            }
+            if (command.towerEnum() != null) {
+                output.writeByte(command.towerEnum().ordinal());
+            }
+            previousTick = command.tick();
+        }
+        writeVarLong(output, tickCount - previousTick);
+        output.flush();
+    }
+
+    /**
+     * Reads a log in the binary format from the specified stream.
+     *
+     * @param inputStream Stream to read from, isn't closed
+     * @return Read log
+     * @throws IOException If the log couldn't be read or the stream doesn't contain a log
+     */
+    public static @NotNull InputLog read(@NonNull InputStream inputStream) throws IOException {
+        var input = new DataInputStream(inputStream);
+        if (input.readInt() != MAGIC_NUMBER) {
+            throw new IOException("The stream doesn't contain an input log");
+        }
+        var version = input.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input log version " + version);
+        }
+
+        var inputLog = new InputLog(readVarInt(input), readVarInt(input));
+        var commandCount = readVarInt(input);
+        var tick = 0L;
+        for (int i = 0; i < commandCount; i++) {
+            tick += readVarLong(input);
+            var type = INPUT_COMMAND_TYPES[readIndex(input, INPUT_COMMAND_TYPES.length)];
+            var x = 0;
+            var y = 0;
+            if (type.isPositional()) {
+                x = zigZagDecode(readVarInt(input));
+                y = zigZagDecode(readVarInt(input));
+            }
+            TowerEnum towerEnum = null;
+            if (type == InputCommandType.BUILD_TOWER) {
+                towerEnum = TOWER_ENUMS[readIndex(input, TOWER_ENUMS.length)];
+            }
+            inputLog.add(new InputCommand(tick, type, x, y, towerEnum));
+        }
+        inputLog.setTickCount(tick + readVarLong(input));
+        return inputLog;
+    }
+
+    private long getLastCommandTick() {
+        return commands.isEmpty() ? 0 : commands.get(commands.size() - 1).tick();
+    }
+
+    private static int readIndex(@NonNull DataInputStream input, int length) throws IOException {
+        var index = input.readUnsignedByte();
+        if (index >= length) {
+            throw new IOException("Invalid index " + index + " in input log");
+        }
+        return index;
+    }
+
+    private static int zigZagEncode(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int zigZagDecode(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(@NonNull DataOutputStream output, long value) throws IOException {
+        // 7 bits per byte, the highest bit marks that more bytes follow
+        var remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(@NonNull DataInputStream input) throws IOException {
+        var value = 0L;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            var b = input.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number in input log");
+    }
+
+    private static int readVarInt(@NonNull DataInputStream input) throws IOException {
+        var value = readVarLong(input);
+        if (value > 0xFFFFFFFFL) {
+            throw new IOException("Malformed variable-length number in input log");
+        }
+        return (int) value;
+    }
+}
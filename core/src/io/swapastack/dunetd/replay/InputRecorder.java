@@ -0,0 +1,124 @@
+package io.swapastack.dunetd.replay;
+
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.game.GameHandler;
+import io.swapastack.dunetd.simulation.SimulationEngine;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.NonNull;
+
+/**
+ * Executes player inputs on the game handler of a simulation engine and records them in an {@link InputLog}. All
+ * inputs which change the simulation have to pass through the recorder, otherwise the game can't be replayed.
+ */
+public final class InputRecorder {
+
+    private final SimulationEngine simulationEngine;
+    private final GameHandler gameHandler;
+    private final InputLog inputLog;
+
+    /**
+     * Creates a recorder for the game handler of the specified simulation engine. The engine mustn't have executed a
+     * tick yet.
+     *
+     * @param simulationEngine Engine, whose tick count is used to stamp the inputs
+     * @throws IllegalArgumentException If the engine already executed ticks
+     */
+    public InputRecorder(@NonNull SimulationEngine simulationEngine) throws IllegalArgumentException {
+        if (simulationEngine.getTickCount() != 0) {
+            throw new IllegalArgumentException("The recording must start before the first tick");
+        }
+        this.simulationEngine = simulationEngine;
+        gameHandler = simulationEngine.getGameHandler();
+        inputLog = new InputLog(gameHandler.getGridWidth(), gameHandler.getGridHeight());
+    }
+
+    /**
+     * Records and executes {@link GameHandler#buildTower(TowerEnum, int, int)}.
+     *
+     * @return True if the tower could be placed, otherwise false
+     */
+    public boolean buildTower(@NonNull TowerEnum towerEnum, int x, int y) {
+        return execute(new InputCommand(simulationEngine.getTickCount(), InputCommandType.BUILD_TOWER, x, y,
+                towerEnum));
+    }
+
+    /**
+     * Records and executes {@link GameHandler#tearDownTower(int, int)}.
+     *
+     * @return True if the tower could be torn down, otherwise false
+     */
+    public boolean tearDownTower(int x, int y) {
+        return execute(new InputCommand(simulationEngine.getTickCount(), InputCommandType.TEAR_DOWN_TOWER, x, y,
+                null));
+    }
+
+    /**
+     * Records and sets a thumper for the shai hulud at the specified grid position.
+     *
+     * @return True if setting the thumper was successful
+     */
+    public boolean setThumper(int x, int y) {
+        return execute(new InputCommand(simulationEngine.getTickCount(), InputCommandType.SET_THUMPER, x, y, null));
+    }
+
+    /**
+     * Records and removes the thumpers of the shai hulud.
+     */
+    public void cancelShaiHuludAttack() {
+        execute(InputCommandType.CANCEL_SHAI_HULUD_ATTACK);
+    }
+
+    /**
+     * Records and executes {@link GameHandler#skipBuildPhase()}.
+     */
+    public void skipBuildPhase() {
+        execute(InputCommandType.SKIP_BUILD_PHASE);
+    }
+
+    /**
+     * Records and executes {@link GameHandler#pauseGame(boolean)}.
+     *
+     * @param pause If game should be paused or not
+     */
+    public void pauseGame(boolean pause) {
+        // Only changes are recorded, the game is paused and resumed by different inputs
+        if (pause != gameHandler.isGamePaused()) {
+            execute(pause ? InputCommandType.PAUSE_GAME : InputCommandType.RESUME_GAME);
+        }
+    }
+
+    /**
+     * Records and executes {@link GameHandler#speedUpTime()}.
+     */
+    public void speedUpTime() {
+        execute(InputCommandType.SPEED_UP_TIME);
+    }
+
+    /**
+     * Records and executes {@link GameHandler#slowDownTime()}.
+     */
+    public void slowDownTime() {
+        execute(InputCommandType.SLOW_DOWN_TIME);
+    }
+
+    /**
+     * Returns the log of the recorded inputs, which also contains the number of ticks executed until now.
+     *
+     * @return Log of the recorded inputs
+     */
+    public @NotNull InputLog getInputLog() {
+        inputLog.setTickCount(simulationEngine.getTickCount());
+        return inputLog;
+    }
+
+    private void execute(@NonNull InputCommandType type) {
+        execute(InputCommand.of(simulationEngine.getTickCount(), type));
+    }
+
+    private boolean execute(@NonNull InputCommand command) {
+        inputLog.add(command);
+        return command.execute(gameHandler);
+    }
+}
@@ -0,0 +1,51 @@
+package io.swapastack.dunetd.replay;
+
+import io.swapastack.dunetd.game.GameHandler;
+import io.swapastack.dunetd.simulation.SimulationEngine;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.NonNull;
+
+/**
+ * Replays an {@link InputLog} headlessly. The ticks between the inputs are executed as fast as possible, so a game is
+ * reproduced in a fraction of the time it was played.
+ */
+public final class InputReplay {
+
+    private InputReplay() {
+    }
+
+    /**
+     * Creates a new game with the grid of the log and replays all inputs of the log at their ticks.
+     *
+     * @param inputLog Log to replay
+     * @return Simulation engine with the game handler in the state at the end of the recording
+     */
+    public static @NotNull SimulationEngine replay(@NonNull InputLog inputLog) {
+        var simulationEngine = new SimulationEngine(new GameHandler(inputLog.getGridWidth(),
+                inputLog.getGridHeight()));
+        replay(inputLog, simulationEngine);
+        return simulationEngine;
+    }
+
+    /**
+     * Replays all inputs of the log at their ticks on the game handler of the specified engine.
+     *
+     * @param inputLog         Log to replay
+     * @param simulationEngine Engine with a new game handler, which mustn't have executed a tick yet
+     * @throws IllegalArgumentException If the engine already executed ticks
+     */
+    public static void replay(@NonNull InputLog inputLog, @NonNull SimulationEngine simulationEngine)
+            throws IllegalArgumentException {
+        if (simulationEngine.getTickCount() != 0) {
+            throw new IllegalArgumentException("The replay must start before the first tick");
+        }
+
+        for (var command : inputLog.getCommands()) {
+            simulationEngine.runTicks(Math.toIntExact(command.tick() - simulationEngine.getTickCount()));
+            command.execute(simulationEngine.getGameHandler());
+        }
+        simulationEngine.runTicks(Math.toIntExact(inputLog.getTickCount() - simulationEngine.getTickCount()));
+    }
+}
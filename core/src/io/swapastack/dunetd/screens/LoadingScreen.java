@@ -1,7 +1,6 @@
 package io.swapastack.dunetd.screens;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -10,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 
 import io.swapastack.dunetd.DuneTD;
+import io.swapastack.dunetd.assets.AssetLoader;
 
 import lombok.NonNull;
 
@@ -35,11 +35,29 @@ public final class LoadingScreen extends AbstractScreen {
 
     private Actor loadingBar;
 
-    private final AssetManager assetManager;
+    private TextureAtlas atlas;
 
-    public LoadingScreen(@NonNull DuneTD game) {
+    private final AssetLoader assetLoader;
+
+    /**
+     * Screen, which is shown as soon as the assets it needs are loaded, either the main menu or the game
+     */
+    private final ScreenType nextScreen;
+
+    /**
+     * Creates a loading screen, which is shown until the assets of the next screen are loaded.
+     *
+     * @param game       Game of the screen
+     * @param nextScreen Either {@link ScreenType#MENU} or {@link ScreenType#GAME}
+     * @throws IllegalArgumentException If the next screen is neither the main menu nor the game
+     */
+    public LoadingScreen(@NonNull DuneTD game, @NonNull ScreenType nextScreen) throws IllegalArgumentException {
         super(game, ScreenColor.MAIN_BACKGROUND);
-        this.assetManager = game.getAssetLoader().getAssetManager();
+        if (nextScreen != ScreenType.MENU && nextScreen != ScreenType.GAME) {
+            throw new IllegalArgumentException("The loading screen can only be followed by the menu or the game");
+        }
+        this.assetLoader = game.getAssetLoader();
+        this.nextScreen = nextScreen;
     }
 
     /**
@@ -47,12 +65,8 @@ public final class LoadingScreen extends AbstractScreen {
      */
     @Override
     public void showScreen() {
-        // Load assets for loading screen and wait until its finished
-        assetManager.load(LOADING_SCREEN_PACK_PATH, TextureAtlas.class);
-        assetManager.finishLoading();
-
-        // Get the texture atlas from the manager
-        var atlas = assetManager.get(LOADING_SCREEN_PACK_PATH, TextureAtlas.class);
+        // Load assets for loading screen directly, the asset manager might still be busy with the game assets
+        atlas = new TextureAtlas(Gdx.files.internal(LOADING_SCREEN_PACK_PATH));
 
         // Grab the regions from the atlas and create some images
         logo = new Image(atlas.findRegion("libgdx-logo"));
@@ -75,8 +89,8 @@ public final class LoadingScreen extends AbstractScreen {
         stage.addActor(loadingFrame);
         stage.addActor(logo);
 
-        // Load all game assets
-        getGame().getAssetLoader().loadGameAssets();
+        // Queue all assets, the menu assets are loaded first and the game assets are streamed afterwards
+        assetLoader.loadAssets();
     }
 
     /**
@@ -86,18 +100,19 @@ public final class LoadingScreen extends AbstractScreen {
      */
     @Override
     public void renderScreen(float delta) {
-        // If config file was read and the game assets are done loading show MainMenuScreen
-        if (assetManager.update()) {
-            getGame().getAssetLoader().createSceneAssets();
-            // Turn VSync on now that all assets are loaded
+        // The assets are loaded by the game every frame, show the next screen as soon as its assets are done loading
+        var isLoaded = nextScreen == ScreenType.GAME ? assetLoader.isGameAssetsLoaded()
+                : assetLoader.isMenuAssetsLoaded();
+        if (isLoaded) {
+            // Turn VSync on now that the assets of the next screen are loaded
             Gdx.graphics.setVSync(getSettings().getVSync());
 
-            // Change to MainMenuScreen
-            getGame().changeScreen(ScreenType.MENU);
+            // Change to next screen
+            getGame().changeScreen(nextScreen);
         }
 
         // Interpolate the percentage to make it more smooth
-        percent = Interpolation.linear.apply(percent, assetManager.getProgress(), 0.1f);
+        percent = Interpolation.linear.apply(percent, assetLoader.getProgress(), 0.1f);
 
         // Update positions (and size) to match the percentage
         loadingBarHidden.setX(startX + endX * percent);
@@ -152,6 +167,6 @@ public final class LoadingScreen extends AbstractScreen {
     public void dispose() {
         super.dispose();
         // Dispose the loading assets as we no longer need them
-        assetManager.unload(LOADING_SCREEN_PACK_PATH);
+        atlas.dispose();
     }
 }
@@ -44,6 +44,10 @@ public final class SettingsScreen extends AbstractScreen {
         var vsyncCheckbox = new VisCheckBox("Wait for VSync");
         vsyncCheckbox.setChecked(settings.getVSync());
 
+        // Replay checkbox
+        var saveReplayCheckbox = new VisCheckBox("Save replay of the last game");
+        saveReplayCheckbox.setChecked(settings.getSaveReplay());
+
         // Monitor selection
         var monitorSelectBox = new VisSelectBox<MonitorSetting>();
 
@@ -65,6 +69,7 @@ public final class SettingsScreen extends AbstractScreen {
             settings.setMonitorIndex(monitorSelectBox.getSelected().getIndex());
             Gdx.graphics.setFullscreenMode(monitorSelectBox.getSelected().getDisplayMode());
             settings.setMasterVolume(masterVolumeSlider.getValue() / 100f);
+            settings.setSaveReplay(saveReplayCheckbox.isChecked());
         }));
 
         // Create table and put everything together
@@ -84,6 +89,9 @@ public final class SettingsScreen extends AbstractScreen {
         var masterVolumeTable = createMasterVolumeTable(masterVolumeSlider);
         table.add(masterVolumeTable).grow().left().row();
 
+        // Replay checkbox
+        table.add(saveReplayCheckbox).left().row();
+
         // Buttons
         var buttonsTable = new VisTable(true);
         buttonsTable.add(backToMainMenuButton).left();
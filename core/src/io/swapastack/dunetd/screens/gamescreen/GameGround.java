@@ -1,6 +1,8 @@
 package io.swapastack.dunetd.screens.gamescreen;
 
+import com.badlogic.gdx.graphics.g3d.ModelCache;
 import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Disposable;
 
 import io.swapastack.dunetd.assets.AssetLoader;
 import io.swapastack.dunetd.assets.GameModelSingle;
@@ -15,15 +17,31 @@ import net.mgsx.gltf.scene3d.scene.SceneManager;
 
 /**
  * Class which manages the ground tiles of the game, including path tiles to represent the path for HostileUnits.
+ * The tiles are static, so they are baked into a {@link ModelCache}, which merges them into a few meshes and is
+ * rendered with a handful of draw calls instead of one per tile. The cache is rebaked when the path changes.
  */
-public final class GameGround {
+public final class GameGround implements Disposable {
 
     private final GameModelSingle[][] groundGrid;
 
+    /**
+     * Type and rotation of the tiles which are currently shown
+     */
+    private final GroundTileEnum[][] tileTypes;
+    private final float[][] tileRotations;
+
+    /**
+     * Type and rotation of the tiles for the new path, reused between updates
+     */
+    private final GroundTileEnum[][] newTileTypes;
+    private final float[][] newTileRotations;
+
     private final SceneManager sceneManager;
 
     private final AssetLoader assetLoader;
 
+    private final ModelCache modelCache;
+
     public GameGround(int gridWidth, int gridHeight, @NonNull SceneManager sceneManager,
                       @NonNull AssetLoader assetLoader)
             throws IllegalArgumentException {
@@ -32,61 +50,87 @@ public final class GameGround {
         }
 
         this.groundGrid = new GameModelSingle[gridWidth][gridHeight];
+        this.tileTypes = new GroundTileEnum[gridWidth][gridHeight];
+        this.tileRotations = new float[gridWidth][gridHeight];
+        this.newTileTypes = new GroundTileEnum[gridWidth][gridHeight];
+        this.newTileRotations = new float[gridWidth][gridHeight];
         this.sceneManager = sceneManager;
         this.assetLoader = assetLoader;
 
         // Fill grid with ground tiles
         for (int x = 0; x < gridWidth; x++) {
             for (int y = 0; y < gridHeight; y++) {
-                var gridTile = assetLoader.getGroundTile(GroundTileEnum.GROUND_TILE);
-                addTileToGround(x, y, gridTile, 0f);
+                addTileToGround(x, y, GroundTileEnum.GROUND_TILE, 0f);
             }
         }
+
+        modelCache = new ModelCache();
+        bakeGround();
+        sceneManager.getRenderableProviders().add(modelCache);
     }
 
     /**
-     * Updates ground tiles if path changed.
+     * Updates ground tiles to show the specified path. Only tiles whose type or rotation changed are replaced.
      *
      * @param path Current path object of the game.
      */
     public void updatePath(@NonNull Path path) {
-        removePreviousGameGround();
+        // Everything which is not part of the path is ground
+        for (int x = 0; x < groundGrid.length; x++) {
+            for (int y = 0; y < groundGrid[x].length; y++) {
+                newTileTypes[x][y] = GroundTileEnum.GROUND_TILE;
+                newTileRotations[x][y] = 0f;
+            }
+        }
 
-        // Create new path tiles
+        // Determine path tiles
         int wayPointLength = path.getWaypoints().length;
-        for (int i = 0; i < wayPointLength; i++) {
+        for (int i = 1; i < wayPointLength - 1; i++) {
             var wayPoint = path.getWaypoint(i);
-
             int x = (int) wayPoint.x();
             int y = (int) wayPoint.y();
 
-            if (groundGrid[x][y] != null) {
-                sceneManager.removeScene(groundGrid[x][y].getScene());
-            }
-
-            GameModelSingle newTile;
-            var rotation = 0f;
+            var tileAndRotation = determinePathTile(path, wayPoint, i);
+            newTileTypes[x][y] = tileAndRotation.tile();
+            newTileRotations[x][y] = tileAndRotation.rotation();
+        }
 
-            // If tiles are portals set portale tiles
-            if (i == 0 || i == wayPointLength - 1) {
-                newTile = assetLoader.getGroundTile(GroundTileEnum.GROUND_TILE);
-            } else {
-                var tileAndRotation = determinePathTile(path, wayPoint, i);
-                newTile = tileAndRotation.tile();
-                rotation = tileAndRotation.rotation();
+        // Swap changed tiles
+        var changed = false;
+        for (int x = 0; x < groundGrid.length; x++) {
+            for (int y = 0; y < groundGrid[x].length; y++) {
+                if (tileTypes[x][y] != newTileTypes[x][y] || tileRotations[x][y] != newTileRotations[x][y]) {
+                    addTileToGround(x, y, newTileTypes[x][y], newTileRotations[x][y]);
+                    changed = true;
+                }
             }
+        }
 
-            addTileToGround(x, y, newTile, rotation);
+        if (changed) {
+            bakeGround();
         }
+    }
 
-        fillHolesInGrid();
+    /**
+     * Merges all tiles into the model cache.
+     */
+    private void bakeGround() {
+        modelCache.begin();
+        for (var column : groundGrid) {
+            for (var tile : column) {
+                modelCache.add(tile.getScene().modelInstance);
+            }
+        }
+        modelCache.end();
     }
 
-    private void removePreviousGameGround() {
-        for (int x = 0; x < groundGrid.length; x++) {
-            for (int y = 0; y < groundGrid[x].length; y++) {
-                sceneManager.removeScene(groundGrid[x][y].getScene());
-                groundGrid[x][y] = null;
+    @Override
+    public void dispose() {
+        sceneManager.getRenderableProviders().removeValue(modelCache, true);
+        modelCache.dispose();
+        for (var column : groundGrid) {
+            for (var tile : column) {
+                assetLoader.freeGameModel(tile);
             }
         }
     }
@@ -103,13 +147,13 @@ public final class GameGround {
         var directionAfter = Vector2.subtract(wayPointAfter, wayPoint);
         var directionBefore = Vector2.subtract(wayPoint, wayPointBefore);
 
-        GameModelSingle newTile;
+        GroundTileEnum newTile;
         var rotation = 0f;
 
         // If vectors are equal the path tile is straight
         if (directionBefore.equals(directionAfter)) {
             CardinalDirection tileOrientation = CardinalDirection.fromDirection(directionBefore);
-            newTile = assetLoader.getGroundTile(GroundTileEnum.PATH_STRAIGHT);
+            newTile = GroundTileEnum.PATH_STRAIGHT;
             rotation = tileOrientation.getDegrees();
         } else {
             // Curve tile -> calculate turn angle
@@ -124,36 +168,30 @@ public final class GameGround {
                 rotation = (rotationBefore + 270) % 360;
             }
 
-            newTile = assetLoader.getGroundTile(GroundTileEnum.PATH_CURVE);
+            newTile = GroundTileEnum.PATH_CURVE;
         }
 
         return new TileAndRotation(newTile, rotation);
     }
 
     /**
-     * Fills hole in grid with ground tiles
-     */
-    private void fillHolesInGrid() {
-        for (int x = 0; x < groundGrid.length; x++) {
-            for (int y = 0; y < groundGrid[x].length; y++) {
-                if (groundGrid[x][y] == null) {
-                    var gridTile = assetLoader.getGroundTile(GroundTileEnum.GROUND_TILE);
-                    addTileToGround(x, y, gridTile, 0f);
-                }
-            }
-        }
-    }
-
-    /**
-     * Adds a tile as scene object to the SceneManager and groundGrid at specified position with specified rotation.
+     * Creates a tile and places it in the groundGrid at specified position with specified rotation, the replaced tile
+     * is released. The tile is shown after the next baking of the ground.
      *
      * @param x        X coordinate of tile
      * @param y        Y coordinate of tile
-     * @param gridTile Scene object to add to the SceneManager
+     * @param tileType Type of the tile
      * @param rotation Rotation of the scene object
      */
-    private void addTileToGround(int x, int y, @NonNull GameModelSingle gridTile, float rotation) {
+    private void addTileToGround(int x, int y, @NonNull GroundTileEnum tileType, float rotation) {
+        if (groundGrid[x][y] != null) {
+            assetLoader.freeGameModel(groundGrid[x][y]);
+        }
+        var gridTile = assetLoader.getGroundTile(tileType);
         groundGrid[x][y] = gridTile;
+        tileTypes[x][y] = tileType;
+        tileRotations[x][y] = rotation;
+
         var boundingBox = new BoundingBox();
         gridTile.getScene().modelInstance.calculateBoundingBox(boundingBox);
         var modelDimensions = new com.badlogic.gdx.math.Vector3();
@@ -163,9 +201,8 @@ public final class GameGround {
                 new Vector3(x * modelDimensions.x, -modelDimensions.y, y * modelDimensions.z),
                 (rotation + 180) % 360
         );
-        sceneManager.addScene(gridTile.getScene());
     }
 
-    private record TileAndRotation(GameModelSingle tile, float rotation) {
+    private record TileAndRotation(GroundTileEnum tile, float rotation) {
     }
 }
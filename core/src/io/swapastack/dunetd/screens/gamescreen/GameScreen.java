@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 import io.swapastack.dunetd.DuneTD;
 import io.swapastack.dunetd.assets.controller.EntityController;
@@ -18,11 +19,15 @@ import io.swapastack.dunetd.game.GameHandler;
 import io.swapastack.dunetd.game.GamePhase;
 import io.swapastack.dunetd.hud.Hud;
 import io.swapastack.dunetd.math.DuneTDMath;
+import io.swapastack.dunetd.replay.InputRecorder;
 import io.swapastack.dunetd.screens.AbstractScreen;
 import io.swapastack.dunetd.screens.ScreenColor;
+import io.swapastack.dunetd.simulation.SimulationEngine;
 import io.swapastack.dunetd.vectors.Vector2;
 import io.swapastack.dunetd.vectors.Vector3;
 
+import java.io.IOException;
+
 import lombok.NonNull;
 import lombok.Setter;
 import net.mgsx.gltf.scene3d.scene.SceneManager;
@@ -33,6 +38,7 @@ import net.mgsx.gltf.scene3d.scene.SceneManager;
 public final class GameScreen extends AbstractScreen {
 
     private static final Color SELECTION_COLOR = new Color(0, 0, 0, 0.5f);
+    private static final Color INVALID_SELECTION_COLOR = new Color(1, 0, 0, 0.5f);
     private static final Color THUMPER_OUTER_COLOR = new Color(0, 0, 0, 0.5f);
     private static final Color THUMPER_INNER_COLOR = new Color(1, 1, 1, 0.3f);
     private static final float NEAR_PLANE_DISTANCE = 0.1f;
@@ -44,8 +50,15 @@ public final class GameScreen extends AbstractScreen {
     private static final float THUMPER_OUTER_RADIUS = 0.5f;
     private static final float THUMPER_INNER_RADIUS = 0.3f;
     private static final int CAMERA_FIELD_OF_VIEW = 60;
+    /**
+     * File, in which the inputs of the last played game are stored if enabled in the settings, so the game can be
+     * replayed headlessly
+     */
+    private static final String INPUT_LOG_FILE_NAME = "replays/last_game.dtdreplay";
 
     private final GameHandler gameHandler;
+    private final SimulationEngine simulationEngine;
+    private final InputRecorder inputRecorder;
     private final EntityController entityController;
     private final HostileUnitController hostileUnitController;
     private final ShaiHuludController shaiHuludController;
@@ -55,6 +68,7 @@ public final class GameScreen extends AbstractScreen {
     private final int gridHeight;
     private final Entity[][] grid;
     private GameGround gameGround;
+    private int groundPathVersion;
 
     // GDX GLTF
     private final SceneManager sceneManager;
@@ -92,8 +106,10 @@ public final class GameScreen extends AbstractScreen {
         gameHandler = new GameHandler(gridWidth, gridHeight, entityController, hostileUnitController,
                 shaiHuludController);
         grid = gameHandler.getGrid();
+        simulationEngine = new SimulationEngine(gameHandler);
+        inputRecorder = new InputRecorder(simulationEngine);
 
-        hud = new Hud(this, gameHandler, getStage());
+        hud = new Hud(this, gameHandler, inputRecorder, getStage());
         freezeInput = false;
 
         environment = new GameEnvironment();
@@ -128,6 +144,8 @@ public final class GameScreen extends AbstractScreen {
 
         // Create ground tiles
         gameGround = new GameGround(gridWidth, gridHeight, groundSceneManager, getGame().getAssetLoader());
+        gameGround.updatePath(gameHandler.getPath());
+        groundPathVersion = gameHandler.getPathVersion();
     }
 
     private void setUpEnvironment() {
@@ -150,9 +168,17 @@ public final class GameScreen extends AbstractScreen {
     @Override
     public void renderScreen(float deltaTimeInSeconds) {
         var deltaInMilliseconds = deltaTimeInSeconds * 1000;
-        // Run game logic
-        gameHandler.update(deltaInMilliseconds);
-        gameGround.updatePath(gameHandler.getPath());
+        // Run game logic in fixed ticks, the game models are only updated with the state after the last tick
+        simulationEngine.update(deltaInMilliseconds);
+        entityController.applyRotations();
+        hostileUnitController.applyMoves();
+        shaiHuludController.applyMove();
+
+        // Update path tiles only if the path changed
+        if (groundPathVersion != gameHandler.getPathVersion()) {
+            gameGround.updatePath(gameHandler.getPath());
+            groundPathVersion = gameHandler.getPathVersion();
+        }
 
         // Display game lost or game won window when phase is reached
         if (gameHandler.getGamePhase() == GamePhase.GAME_WON_PHASE) {
@@ -214,6 +240,10 @@ public final class GameScreen extends AbstractScreen {
         if (grid[x][y] instanceof Tower tower) {
             shapeRenderer.circle(x, y, tower.getRange(), CIRCLE_RENDER_SEGMENTS);
         } else {
+            // Mark tiles on which a tower would block the path
+            if (gameHandler.wouldBlockPath(x, y)) {
+                shapeRenderer.setColor(INVALID_SELECTION_COLOR);
+            }
             shapeRenderer.rect(x - 0.5f, y - 0.5f, 1, 1);
         }
     }
@@ -250,12 +280,36 @@ public final class GameScreen extends AbstractScreen {
     public void dispose() {
         super.dispose();
         sceneManager.dispose();
+        if (gameGround != null) {
+            gameGround.dispose();
+        }
         groundSceneManager.dispose();
         entityController.dispose();
         hostileUnitController.dispose();
         shaiHuludController.dispose();
         hud.dispose();
         environment.dispose();
+        if (getSettings().getSaveReplay()) {
+            writeInputLog();
+        }
+    }
+
+    private void writeInputLog() {
+        try (var outputStream = Gdx.files.local(INPUT_LOG_FILE_NAME).write(false)) {
+            inputRecorder.getInputLog().write(outputStream);
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error(GameScreen.class.getSimpleName(), "The input log couldn't be written", e);
+        }
+    }
+
+    /**
+     * Fast-forwards the game until the current wave is finished. The frame rate is kept responsive by limiting the
+     * number of ticks per frame.
+     *
+     * @return False if the game is not in the wave phase, so there's no wave to skip
+     */
+    public boolean skipToEndOfWave() {
+        return simulationEngine.startSkippingToEndOfWave();
     }
 
     public Vector3 getSelectedTile() {
@@ -17,6 +17,7 @@ public final class GameSettings {
     private static final int DEFAULT_MONITOR_INDEX = 0;
     private static final float DEFAULT_MASTER_VOLUME = 0.5f;
     private static final int DEFAULT_GRID_SIZE = 2;
+    private static final boolean DEFAULT_SAVE_REPLAY = false;
 
     // Setting names
     private static final String VSYNC_SETTING_KEY = "vsync";
@@ -24,6 +25,7 @@ public final class GameSettings {
     private static final String MASTER_VOLUME_SETTING_KEY = "masterVolume";
     private static final String GRID_WIDTH_SETTING_KEY = "gridWidth";
     private static final String GRID_HEIGHT_SETTING_KEY = "gridHeight";
+    private static final String SAVE_REPLAY_SETTING_KEY = "saveReplay";
 
     private final Preferences settings;
     private final int maxMonitorIndex;
@@ -81,4 +83,16 @@ public final class GameSettings {
         settings.putInteger(GRID_HEIGHT_SETTING_KEY, MathUtils.clamp(gridHeight, 2, MAX_GRID_HEIGHT));
         settings.flush();
     }
+
+    /**
+     * Returns if the inputs of a game are written to a replay file when the game is left.
+     */
+    public boolean getSaveReplay() {
+        return settings.getBoolean(SAVE_REPLAY_SETTING_KEY, DEFAULT_SAVE_REPLAY);
+    }
+
+    public void setSaveReplay(boolean saveReplay) {
+        settings.putBoolean(SAVE_REPLAY_SETTING_KEY, saveReplay);
+        settings.flush();
+    }
 }
@@ -1,20 +1,19 @@
 package io.swapastack.dunetd.shaihulud;
 
-import io.swapastack.dunetd.assets.controller.ShaiHuludController;
 import io.swapastack.dunetd.config.Configuration;
 import io.swapastack.dunetd.entities.Entity;
 import io.swapastack.dunetd.entities.towers.Tower;
 import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.entities.towers.TowerRegistry;
 import io.swapastack.dunetd.game.CardinalDirection;
-import io.swapastack.dunetd.game.GameModelData;
 import io.swapastack.dunetd.game.Statistics;
 import io.swapastack.dunetd.hostileunits.HostileUnit;
 import io.swapastack.dunetd.hostileunits.HostileUnitEnum;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
 import io.swapastack.dunetd.math.DuneTDMath;
 import io.swapastack.dunetd.vectors.Vector2;
 
-import java.beans.PropertyChangeSupport;
-import java.util.List;
+import java.util.ArrayList;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,6 +32,8 @@ public final class ShaiHulud {
 
     private final Entity[][] grid;
 
+    private final TowerRegistry towerRegistry;
+
     @Getter
     private int remainingCooldownInMilliseconds;
 
@@ -47,36 +48,42 @@ public final class ShaiHulud {
 
     private CardinalDirection movingDirection;
 
-    private final PropertyChangeSupport support;
+    private final ShaiHuludListener listener;
 
     private boolean alreadySummoned;
 
-    public ShaiHulud(@NonNull Entity[][] grid, @Nullable ShaiHuludController shaiHuludController) {
+    /**
+     * Reused list of hostile units hit by the shai hulud
+     */
+    private final ArrayList<HostileUnit> hostileUnitsInRange;
+
+    public ShaiHulud(@NonNull Entity[][] grid, @NonNull TowerRegistry towerRegistry,
+                     @Nullable ShaiHuludListener shaiHuludListener) {
         this.grid = grid;
+        this.towerRegistry = towerRegistry;
         remainingCooldownInMilliseconds = 0;
         firstThumper = null;
         secondThumper = null;
         gridPosition = null;
         movingDirection = null;
         alreadySummoned = false;
+        hostileUnitsInRange = new ArrayList<>();
 
-        if (shaiHuludController != null) {
-            support = new PropertyChangeSupport(this);
-
-            // Add shai hulud controller as observer and call create event
-            support.addPropertyChangeListener(shaiHuludController);
-            support.firePropertyChange(ShaiHuludController.CREATE_EVENT_NAME, null, null);
-        } else {
-            support = null;
+        // Notify listener about the creation
+        listener = shaiHuludListener;
+        if (listener != null) {
+            listener.onCreate();
         }
     }
 
     /**
      * Updates the logic of the shai hulud (moving and checking cooldown).
      *
+     * @param hostileUnits            Index of the hostile units on the grid
      * @param deltaTimeInMilliseconds The time in milliseconds since the last update
+     * @param statistics              Statistics of the game
      */
-    public void update(@NonNull List<HostileUnit> hostileUnits, float deltaTimeInMilliseconds,
+    public void update(@NonNull HostileUnitSpatialIndex hostileUnits, float deltaTimeInMilliseconds,
                        @NonNull Statistics statistics) {
         if (remainingCooldownInMilliseconds > 0) {
             remainingCooldownInMilliseconds -= deltaTimeInMilliseconds;
@@ -106,9 +113,8 @@ public final class ShaiHulud {
 
     private void updateGameModel() {
         // Update game model if existing
-        if (support != null) {
-            var gameModelData = new GameModelData(movingDirection.getDegrees(), gridPosition);
-            support.firePropertyChange(ShaiHuludController.UPDATE_EVENT_NAME, null, gameModelData);
+        if (listener != null) {
+            listener.onMove(gridPosition.x(), gridPosition.y(), movingDirection.getDegrees());
         }
     }
 
@@ -116,20 +122,19 @@ public final class ShaiHulud {
         // If shai hulud hits tower, set tower to debris
         var entity = grid[(int) gridPosition.x()][(int) gridPosition.y()];
         if (entity instanceof Tower tower && !tower.isDebris()) {
-            tower.setToDebris();
+            towerRegistry.setToDebris(tower);
             statistics.destroyedTowerByShaiHulud(TowerEnum.fromTower(tower));
         }
     }
 
-    private void killHostileUnits(@NonNull List<HostileUnit> hostileUnits, @NonNull Statistics statistics) {
+    private void killHostileUnits(@NonNull HostileUnitSpatialIndex hostileUnits, @NonNull Statistics statistics) {
         // If shai hulud hits hostile units kill hostile units
-        for (var hostileUnit : hostileUnits) {
-            var hostileUnitPosition = hostileUnit.getPosition();
-            if (gridPosition.getDistanceSquared(hostileUnitPosition) <= RANGE) {
-                hostileUnit.kill();
-                statistics.killedHostileUnitByShaiHulud(HostileUnitEnum.fromHostileUnit(hostileUnit));
-            }
+        hostileUnits.query(gridPosition.x(), gridPosition.y(), RANGE, hostileUnitsInRange);
+        for (var hostileUnit : hostileUnitsInRange) {
+            hostileUnit.kill();
+            statistics.killedHostileUnitByShaiHulud(HostileUnitEnum.fromHostileUnit(hostileUnit));
         }
+        hostileUnitsInRange.clear();
     }
 
     private void summonShaiHulud() {
@@ -144,9 +149,8 @@ public final class ShaiHulud {
         alreadySummoned = true;
 
         // Make game model visible at right position if existing
-        if (support != null) {
-            support.firePropertyChange(ShaiHuludController.SHOW_EVENT_NAME, null,
-                    new GameModelData(movingDirection.getDegrees(), gridPosition));
+        if (listener != null) {
+            listener.onShow(gridPosition.x(), gridPosition.y(), movingDirection.getDegrees());
         }
     }
 
@@ -219,8 +223,8 @@ public final class ShaiHulud {
         if (resetAlreadySummoned) {
             alreadySummoned = false;
         }
-        if (support != null) {
-            support.firePropertyChange(ShaiHuludController.VANISH_EVENT_NAME, null, null);
+        if (listener != null) {
+            listener.onVanish();
         }
     }
 }
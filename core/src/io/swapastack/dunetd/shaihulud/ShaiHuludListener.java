@@ -0,0 +1,35 @@
+package io.swapastack.dunetd.shaihulud;
+
+/**
+ * Listener which is notified about changes of the shai hulud, used to update its game model.
+ */
+public interface ShaiHuludListener {
+
+    /**
+     * Called when the shai hulud is created.
+     */
+    void onCreate();
+
+    /**
+     * Called when the shai hulud is displayed on the screen.
+     *
+     * @param x        X coordinate of the shai hulud
+     * @param y        Y coordinate of the shai hulud
+     * @param rotation Rotation of the game model
+     */
+    void onShow(float x, float y, float rotation);
+
+    /**
+     * Called whenever the shai hulud is moved.
+     *
+     * @param x        New x coordinate of the shai hulud
+     * @param y        New y coordinate of the shai hulud
+     * @param rotation New rotation of the game model
+     */
+    void onMove(float x, float y, float rotation);
+
+    /**
+     * Called when the shai hulud disappears from the screen.
+     */
+    void onVanish();
+}
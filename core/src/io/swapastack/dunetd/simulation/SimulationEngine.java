@@ -0,0 +1,210 @@
+package io.swapastack.dunetd.simulation;
+
+import io.swapastack.dunetd.config.Configuration;
+import io.swapastack.dunetd.game.GameHandler;
+import io.swapastack.dunetd.game.GamePhase;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Headless engine which advances the game logic of a {@link GameHandler} in fixed ticks. Variable frame times are
+ * collected in an accumulator and converted into a whole number of ticks, so the simulation result is independent
+ * of the frame rate and doesn't need a rendering context. The time factor of the game handler changes the number of
+ * ticks per frame, never the duration of a tick, so fast-forwarding is as accurate as playing at normal speed.
+ */
+public final class SimulationEngine {
+
+    /**
+     * Duration of one simulation tick in milliseconds
+     */
+    public static final int TICK_DURATION_IN_MILLISECONDS = Configuration.getInstance()
+            .getIntProperty("SIMULATION_TICK_DURATION_IN_MILLISECONDS");
+
+    /**
+     * Maximum number of ticks executed by one call of {@link #update(float)} at normal speed, prevents the simulation
+     * from falling further and further behind when a single tick takes longer than its duration. Scaled by the time
+     * factor.
+     */
+    private static final int MAX_TICKS_PER_UPDATE = Configuration.getInstance()
+            .getIntProperty("SIMULATION_MAX_TICKS_PER_UPDATE");
+
+    /**
+     * Maximum wall time spent in one call of {@link #update(float)}, keeps the frame rate responsive while fast
+     * forwarding. At least one tick is executed per update.
+     */
+    private static final long MAX_UPDATE_DURATION_IN_NANOSECONDS = Configuration.getInstance()
+            .getIntProperty("SIMULATION_MAX_UPDATE_DURATION_IN_MILLISECONDS") * 1_000_000L;
+
+    @Getter
+    private final GameHandler gameHandler;
+
+    /**
+     * Time in milliseconds which wasn't consumed by a tick yet
+     */
+    private float accumulatedTimeInMilliseconds;
+
+    /**
+     * Number of ticks executed since the engine was created
+     */
+    @Getter
+    private long tickCount;
+
+    /**
+     * True if the engine executes as many ticks as the update duration allows until the current wave is finished
+     */
+    @Getter
+    private boolean skippingToEndOfWave;
+
+    /**
+     * Source of the wall time in nanoseconds, used to limit the duration of an update
+     */
+    private final LongSupplier nanoTimeSupplier;
+
+    /**
+     * Creates a simulation engine which advances the specified game handler.
+     *
+     * @param gameHandler Game handler which is advanced by the engine
+     */
+    public SimulationEngine(@NonNull GameHandler gameHandler) {
+        this(gameHandler, System::nanoTime);
+    }
+
+    /**
+     * Creates a simulation engine which advances the specified game handler and measures the duration of an update
+     * with the specified wall time source.
+     *
+     * @param gameHandler      Game handler which is advanced by the engine
+     * @param nanoTimeSupplier Source of the wall time in nanoseconds
+     */
+    SimulationEngine(@NonNull GameHandler gameHandler, @NonNull LongSupplier nanoTimeSupplier) {
+        this.gameHandler = gameHandler;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        accumulatedTimeInMilliseconds = 0;
+        tickCount = 0;
+        skippingToEndOfWave = false;
+    }
+
+    /**
+     * Adds the specified time multiplied by the time factor to the accumulator and executes as many ticks as fit into
+     * the accumulated time. If more than the maximum number of ticks per update would be necessary or the maximum
+     * update duration is exceeded, the remaining time is dropped. While skipping to the end of the wave, ticks are
+     * executed until the wave is finished or the maximum update duration is exceeded.
+     *
+     * @param deltaTimeInMilliseconds The time in milliseconds since the last update
+     * @return Number of executed ticks
+     */
+    public int update(float deltaTimeInMilliseconds) {
+        if (deltaTimeInMilliseconds < 0) {
+            throw new IllegalArgumentException("The delta time must not be negative");
+        }
+
+        var deadline = nanoTimeSupplier.getAsLong() + MAX_UPDATE_DURATION_IN_NANOSECONDS;
+        if (skippingToEndOfWave) {
+            return skipToEndOfWave(deadline);
+        }
+
+        var timeFactor = gameHandler.getTimeFactor().getFactor();
+        accumulatedTimeInMilliseconds += deltaTimeInMilliseconds * timeFactor;
+        var maxTicks = (int) Math.ceil(MAX_TICKS_PER_UPDATE * timeFactor);
+
+        var ticks = 0;
+        while (accumulatedTimeInMilliseconds >= TICK_DURATION_IN_MILLISECONDS && ticks < maxTicks
+                && (ticks == 0 || nanoTimeSupplier.getAsLong() < deadline)) {
+            tick();
+            accumulatedTimeInMilliseconds -= TICK_DURATION_IN_MILLISECONDS;
+            ticks++;
+        }
+
+        // Drop time which couldn't be simulated in this update
+        if (accumulatedTimeInMilliseconds >= TICK_DURATION_IN_MILLISECONDS) {
+            accumulatedTimeInMilliseconds %= TICK_DURATION_IN_MILLISECONDS;
+        }
+        return ticks;
+    }
+
+    /**
+     * Starts skipping to the end of the current wave. The following updates execute ticks as fast as the maximum
+     * update duration allows, until the wave is won or lost.
+     *
+     * @return False if the game is not in the wave phase, so there's no wave to skip
+     */
+    public boolean startSkippingToEndOfWave() {
+        if (gameHandler.getGamePhase() != GamePhase.WAVE_PHASE) {
+            return false;
+        }
+        skippingToEndOfWave = true;
+        return true;
+    }
+
+    /**
+     * Executes the specified number of ticks as fast as possible, independent of the accumulator.
+     *
+     * @param ticks Number of ticks to execute
+     */
+    public void runTicks(int ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("The number of ticks must not be negative");
+        }
+
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Executes ticks as fast as possible until the specified condition is fulfilled or the maximum number of ticks is
+     * reached.
+     *
+     * @param condition Condition which stops the simulation when fulfilled
+     * @param maxTicks  Maximum number of ticks to execute
+     * @return Number of executed ticks
+     */
+    public int runUntil(@NonNull BooleanSupplier condition, int maxTicks) {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException("The maximum number of ticks must not be negative");
+        }
+
+        var ticks = 0;
+        while (ticks < maxTicks && !condition.getAsBoolean()) {
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Returns how far the accumulated time has progressed towards the next tick, can be used to interpolate between
+     * the last two simulation states while rendering.
+     *
+     * @return Value between 0 (inclusive) and 1 (exclusive)
+     */
+    public float getInterpolationAlpha() {
+        return accumulatedTimeInMilliseconds / TICK_DURATION_IN_MILLISECONDS;
+    }
+
+    private int skipToEndOfWave(long deadline) {
+        var ticks = 0;
+        // Ticks of a paused game don't change anything, so they aren't executed
+        while (gameHandler.getGamePhase() == GamePhase.WAVE_PHASE && !gameHandler.isGamePaused()
+                && (ticks == 0 || nanoTimeSupplier.getAsLong() < deadline)) {
+            tick();
+            ticks++;
+        }
+
+        if (gameHandler.getGamePhase() != GamePhase.WAVE_PHASE) {
+            skippingToEndOfWave = false;
+        }
+        // Frame time isn't simulated while skipping
+        accumulatedTimeInMilliseconds = 0;
+        return ticks;
+    }
+
+    private void tick() {
+        gameHandler.update(TICK_DURATION_IN_MILLISECONDS);
+        tickCount++;
+    }
+}
@@ -0,0 +1,74 @@
+package io.swapastack.dunetd;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Assumptions;
+
+/**
+ * Counts the bytes allocated by the current thread with the thread allocation counter of HotSpot based JVMs. The
+ * counter isn't part of the standard management API, so tests using it are skipped on JVMs without it. The counter
+ * is called through a method handle, so reading it doesn't allocate itself.
+ */
+public final class AllocationCounter {
+
+    private static final String THREAD_MX_BEAN_CLASS_NAME = "com.sun.management.ThreadMXBean";
+
+    private final Object threadMXBean;
+    private final MethodHandle getCurrentThreadAllocatedBytes;
+
+    private AllocationCounter(Object threadMXBean, MethodHandle getCurrentThreadAllocatedBytes) {
+        this.threadMXBean = threadMXBean;
+        this.getCurrentThreadAllocatedBytes = getCurrentThreadAllocatedBytes;
+    }
+
+    /**
+     * Creates an allocation counter for the current thread. Skips the calling test, if the JVM can't count the
+     * allocations of a thread.
+     */
+    public static AllocationCounter createOrSkipTest() {
+        Class<?> threadMXBeanClass = null;
+        try {
+            threadMXBeanClass = Class.forName(THREAD_MX_BEAN_CLASS_NAME);
+        } catch (ClassNotFoundException e) {
+            // The test is skipped below
+        }
+
+        var threadMXBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadMXBeanClass != null && threadMXBeanClass.isInstance(threadMXBean),
+                "The JVM can't count the allocations of a thread");
+        try {
+            var lookup = MethodHandles.publicLookup();
+            var isSupported = lookup.findVirtual(threadMXBeanClass, "isThreadAllocatedMemorySupported",
+                    MethodType.methodType(boolean.class));
+            Assumptions.assumeTrue((boolean) isSupported.invoke(threadMXBean),
+                    "The JVM can't count the allocations of a thread");
+            lookup.findVirtual(threadMXBeanClass, "setThreadAllocatedMemoryEnabled",
+                    MethodType.methodType(void.class, boolean.class)).invoke(threadMXBean, true);
+
+            var getCurrentThreadAllocatedBytes = lookup.findVirtual(threadMXBeanClass,
+                            "getCurrentThreadAllocatedBytes", MethodType.methodType(long.class))
+                    .asType(MethodType.methodType(long.class, Object.class));
+            return new AllocationCounter(threadMXBean, getCurrentThreadAllocatedBytes);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("The thread allocation counter couldn't be accessed", e);
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far.
+     */
+    public long getAllocatedBytes() {
+        try {
+            return (long) getCurrentThreadAllocatedBytes.invokeExact(threadMXBean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("The thread allocation counter couldn't be read", e);
+        }
+    }
+}
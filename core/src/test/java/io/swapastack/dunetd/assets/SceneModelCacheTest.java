@@ -0,0 +1,106 @@
+package io.swapastack.dunetd.assets;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.NonNull;
+import net.mgsx.gltf.scene3d.scene.Scene;
+import net.mgsx.gltf.scene3d.scene.SceneAsset;
+import net.mgsx.gltf.scene3d.scene.SceneModel;
+
+class SceneModelCacheTest {
+
+    private static final String TOWER_MODEL_NAME = "tower.glb";
+    private static final String PORTAL_MODEL_NAME = "portal.glb";
+
+    private HashMap<String, SceneAsset> sceneAssets;
+    private HashMap<String, Integer> sceneAssetRequests;
+    private SceneModelCache sceneModelCache;
+
+    @BeforeEach
+    void setUp() {
+        sceneAssets = new HashMap<>();
+        sceneAssets.put(TOWER_MODEL_NAME, createEmptySceneAsset());
+        sceneAssets.put(PORTAL_MODEL_NAME, createEmptySceneAsset());
+        sceneAssetRequests = new HashMap<>();
+        sceneModelCache = new SceneModelCache(modelName -> {
+            sceneAssetRequests.merge(modelName, 1, Integer::sum);
+            var sceneAsset = sceneAssets.get(modelName);
+            if (sceneAsset == null) {
+                throw new IllegalArgumentException("Unknown scene asset " + modelName);
+            }
+            return sceneAsset;
+        });
+    }
+
+    @Test
+    void testObtainWithValidArgument() {
+        var firstScene = sceneModelCache.obtain(TOWER_MODEL_NAME);
+        var secondScene = sceneModelCache.obtain(TOWER_MODEL_NAME);
+        var portalScene = sceneModelCache.obtain(PORTAL_MODEL_NAME);
+
+        // Every scene in use is a separate scene over the shared model
+        Assertions.assertNotSame(firstScene, secondScene);
+        Assertions.assertSame(sceneAssets.get(TOWER_MODEL_NAME).scene.model, firstScene.modelInstance.model);
+        Assertions.assertSame(sceneAssets.get(TOWER_MODEL_NAME).scene.model, secondScene.modelInstance.model);
+        Assertions.assertSame(sceneAssets.get(PORTAL_MODEL_NAME).scene.model, portalScene.modelInstance.model);
+
+        // The scene asset is only requested once per model
+        Assertions.assertEquals(1, (int) sceneAssetRequests.get(TOWER_MODEL_NAME));
+        Assertions.assertEquals(1, (int) sceneAssetRequests.get(PORTAL_MODEL_NAME));
+    }
+
+    @Test
+    void testObtainWithInvalidArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sceneModelCache.obtain("unknown.glb"));
+    }
+
+    @Test
+    void whenSceneIsFreed_thenSceneIsReusedForSameModel() {
+        var scene = sceneModelCache.obtain(TOWER_MODEL_NAME);
+        scene.modelInstance.transform.setToTranslation(1f, 2f, 3f);
+        sceneModelCache.free(scene);
+
+        // A freed scene isn't handed out for another model
+        Assertions.assertNotSame(scene, sceneModelCache.obtain(PORTAL_MODEL_NAME));
+
+        var reusedScene = sceneModelCache.obtain(TOWER_MODEL_NAME);
+        Assertions.assertSame(scene, reusedScene);
+        Assertions.assertArrayEquals(new Matrix4().val, reusedScene.modelInstance.transform.val);
+
+        // All freed scenes are used, so the next scene is a new one
+        Assertions.assertNotSame(scene, sceneModelCache.obtain(TOWER_MODEL_NAME));
+    }
+
+    @Test
+    void whenSceneIsFreedTwice_thenExceptionIsThrown() {
+        var scene = sceneModelCache.obtain(TOWER_MODEL_NAME);
+        sceneModelCache.free(scene);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sceneModelCache.free(scene));
+    }
+
+    @Test
+    void whenForeignSceneIsFreed_thenExceptionIsThrown() {
+        var foreignScene = new Scene(sceneAssets.get(TOWER_MODEL_NAME).scene);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sceneModelCache.free(foreignScene));
+
+        // Scenes of another cache are foreign as well
+        var otherSceneModelCache = new SceneModelCache(sceneAssets::get);
+        var otherScene = otherSceneModelCache.obtain(TOWER_MODEL_NAME);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sceneModelCache.free(otherScene));
+    }
+
+    private static @NonNull SceneAsset createEmptySceneAsset() {
+        var sceneModel = new SceneModel();
+        sceneModel.model = new Model();
+        var sceneAsset = new SceneAsset();
+        sceneAsset.scene = sceneModel;
+        return sceneAsset;
+    }
+}
@@ -38,4 +38,23 @@ class ConfigurationTest {
         Assertions.assertThrows(IllegalArgumentException.class,
                 () -> config.getFloatProperty("SPASS_AM_STUDIEREN_WÄHREND_CORONA"));
     }
+
+    @Test
+    void testOverridePropertyWithValidArgument() {
+        var config = Configuration.getInstance();
+        var previousMaxWaveCount = config.getIntProperty("MAX_WAVE_COUNT");
+        try {
+            config.overrideProperty("MAX_WAVE_COUNT", "3");
+            Assertions.assertEquals(3, config.getIntProperty("MAX_WAVE_COUNT"));
+        } finally {
+            config.overrideProperty("MAX_WAVE_COUNT", Integer.toString(previousMaxWaveCount));
+        }
+    }
+
+    @Test
+    void testOverridePropertyWithInvalidArgument() {
+        var config = Configuration.getInstance();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> config.overrideProperty("SPASS_AM_STUDIEREN_WÄHREND_CORONA", "1"));
+    }
 }
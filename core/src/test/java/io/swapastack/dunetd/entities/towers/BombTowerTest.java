@@ -35,7 +35,7 @@ class BombTowerTest {
 
     @BeforeEach
     void setUp() {
-        bombTower = new BombTower(Vector2.ZERO, null);
+        bombTower = new BombTower(0, Vector2.ZERO, null);
         inRangePosition = Vector2.ZERO;
         outOfRangePosition = new Vector2(BOMB_TOWER_RANGE + 1, 0);
         justInRangePosition = new Vector2(BOMB_TOWER_RANGE, 0);
@@ -44,8 +44,9 @@ class BombTowerTest {
     @Test
     void whenTowerTargetsHostileUnitInRangeAndNoKillOrder_thenHostileUnitIsNotDamaged() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(inRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(bombTower, hostileUnit);
 
-        Assertions.assertFalse(bombTower.target(false, hostileUnit));
+        Assertions.assertFalse(bombTower.target(false, index));
 
         Assertions.assertEquals(100, hostileUnit.getHealth());
     }
@@ -53,8 +54,9 @@ class BombTowerTest {
     @Test
     void whenTowerTargetsHostileUnitInRangeAndKillOrder_thenHostileUnitIsDamaged() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(inRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(bombTower, hostileUnit);
 
-        Assertions.assertTrue(bombTower.target(true, hostileUnit));
+        Assertions.assertTrue(bombTower.target(true, index));
 
         Assertions.assertEquals(100 - BOMB_TOWER_DAMAGE, hostileUnit.getHealth());
     }
@@ -62,8 +64,9 @@ class BombTowerTest {
     @Test
     void whenTowerTargetsHostileUnitOutOfRangeAndNoKillOrder_thenHostileUnitIsNotDamaged() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(outOfRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(bombTower, hostileUnit);
 
-        Assertions.assertFalse(bombTower.target(false, hostileUnit));
+        Assertions.assertFalse(bombTower.target(false, index));
 
         Assertions.assertEquals(100, hostileUnit.getHealth());
     }
@@ -71,8 +74,9 @@ class BombTowerTest {
     @Test
     void whenTowerTargetsHostileUnitOutOfRangeAndKillOrder_thenHostileUnitIsNotDamaged() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(outOfRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(bombTower, hostileUnit);
 
-        Assertions.assertFalse(bombTower.target(true, hostileUnit));
+        Assertions.assertFalse(bombTower.target(true, index));
 
         Assertions.assertEquals(100, hostileUnit.getHealth());
     }
@@ -83,7 +87,10 @@ class BombTowerTest {
         var inAreDamageRange = Vector2.add(justInRangePosition, new Vector2(BOMB_TOWER_AREA_DAMAGE_RANGE, 0));
         var hostileUnitInAreDamageRange = TowerTestHelper.createHostileUnitWithHealth(inAreDamageRange, 100);
 
-        Assertions.assertTrue(bombTower.target(true, hostileUnit, hostileUnitInAreDamageRange));
+        var hostileUnits = TowerTestHelper.createIndexAndSelectTargets(bombTower, hostileUnit,
+                hostileUnitInAreDamageRange);
+
+        Assertions.assertTrue(bombTower.target(true, hostileUnits));
 
         Assertions.assertEquals(100 - BOMB_TOWER_DAMAGE, hostileUnit.getHealth());
         Assertions.assertEquals(100 - BOMB_TOWER_DAMAGE, hostileUnitInAreDamageRange.getHealth());
@@ -30,7 +30,7 @@ class GuardTowerTest {
 
     @BeforeEach
     void setUp() {
-        guardTower = new GuardTower(Vector2.ZERO, null);
+        guardTower = new GuardTower(0, Vector2.ZERO, null);
         inRangePosition = Vector2.ZERO;
         outOfRangePosition = new Vector2(GUARD_TOWER_RANGE + 1, 0);
     }
@@ -38,8 +38,9 @@ class GuardTowerTest {
     @Test
     void whenTowerTargetsHostileUnitInRangeAndNoKillOrder_thenHostileUnitIsNotDamaged() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(inRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(guardTower, hostileUnit);
 
-        Assertions.assertFalse(guardTower.target(false, hostileUnit));
+        Assertions.assertFalse(guardTower.target(false, index));
 
         Assertions.assertEquals(100, hostileUnit.getHealth());
     }
@@ -47,8 +48,9 @@ class GuardTowerTest {
     @Test
     void whenTowerTargetsHostileUnitInRangeAndKillOrder_thenHostileUnitIsDamaged() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(inRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(guardTower, hostileUnit);
 
-        Assertions.assertTrue(guardTower.target(true, hostileUnit));
+        Assertions.assertTrue(guardTower.target(true, index));
 
         Assertions.assertEquals(100 - GUARD_TOWER_DAMAGE, hostileUnit.getHealth());
     }
@@ -56,8 +58,9 @@ class GuardTowerTest {
     @Test
     void whenTowerTargetsHostileUnitOutOfRangeAndNoKillOrder_thenHostileUnitIsNotDamaged() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(outOfRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(guardTower, hostileUnit);
 
-        Assertions.assertFalse(guardTower.target(false, hostileUnit));
+        Assertions.assertFalse(guardTower.target(false, index));
 
         Assertions.assertEquals(100, hostileUnit.getHealth());
     }
@@ -65,8 +68,9 @@ class GuardTowerTest {
     @Test
     void whenTowerTargetsHostileUnitOutOfRangeAndKillOrder_thenHostileUnitIsNotDamaged() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(outOfRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(guardTower, hostileUnit);
 
-        Assertions.assertFalse(guardTower.target(true, hostileUnit));
+        Assertions.assertFalse(guardTower.target(true, index));
 
         Assertions.assertEquals(100, hostileUnit.getHealth());
     }
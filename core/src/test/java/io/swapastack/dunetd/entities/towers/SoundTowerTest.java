@@ -31,7 +31,7 @@ class SoundTowerTest {
 
     @BeforeEach
     void setUp() {
-        soundTower = new SoundTower(Vector2.ZERO, null);
+        soundTower = new SoundTower(0, Vector2.ZERO, null);
         inRangePosition = Vector2.ZERO;
         outOfRangePosition = new Vector2(SOUND_TOWER_RANGE + 1, 0);
     }
@@ -39,8 +39,9 @@ class SoundTowerTest {
     @Test
     void whenTowerTargetsHostileUnitInRangeAndNoKillOrder_thenHostileUnitIsNotSlowedDown() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithSpeed(inRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(soundTower, hostileUnit);
 
-        Assertions.assertFalse(soundTower.target(false, hostileUnit));
+        Assertions.assertFalse(soundTower.target(false, index));
 
         Assertions.assertEquals(100, hostileUnit.getCurrentSpeed());
     }
@@ -48,8 +49,9 @@ class SoundTowerTest {
     @Test
     void whenTowerTargetsHostileUnitInRangeAndKillOrder_thenHostileUnitIsSlowedDown() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithSpeed(inRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(soundTower, hostileUnit);
 
-        Assertions.assertTrue(soundTower.target(true, hostileUnit));
+        Assertions.assertTrue(soundTower.target(true, index));
 
         var expectedSpeed = SLOWING_EFFECT_MULTIPLIER * 100;
         Assertions.assertEquals(expectedSpeed, hostileUnit.getCurrentSpeed());
@@ -58,8 +60,9 @@ class SoundTowerTest {
     @Test
     void whenTowerTargetsHostileUnitOutOfRangeAndNoKillOrder_thenHostileUnitIsNotSlowedDown() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithSpeed(outOfRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(soundTower, hostileUnit);
 
-        Assertions.assertFalse(soundTower.target(false, hostileUnit));
+        Assertions.assertFalse(soundTower.target(false, index));
 
         Assertions.assertEquals(100, hostileUnit.getCurrentSpeed());
     }
@@ -67,8 +70,9 @@ class SoundTowerTest {
     @Test
     void whenTowerTargetsHostileUnitOutOfRangeAndKillOrder_thenHostileUnitIsNotSlowedDown() {
         var hostileUnit = TowerTestHelper.createHostileUnitWithSpeed(outOfRangePosition, 100);
+        var index = TowerTestHelper.createIndexAndSelectTargets(soundTower, hostileUnit);
 
-        Assertions.assertFalse(soundTower.target(true, hostileUnit));
+        Assertions.assertFalse(soundTower.target(true, index));
 
         Assertions.assertEquals(100, hostileUnit.getCurrentSpeed());
     }
@@ -18,13 +18,13 @@ class TowerEnumTest {
 
     @Test
     void whenFromTowerIsCalledWithValidTowers_thenCorrectEnumIsReturned() {
-        var guardTower = new GuardTower(Vector2.ZERO, null);
+        var guardTower = new GuardTower(0, Vector2.ZERO, null);
         Assertions.assertEquals(TowerEnum.GUARD_TOWER, TowerEnum.fromTower(guardTower));
 
-        var bombTower = new BombTower(Vector2.ZERO, null);
+        var bombTower = new BombTower(1, Vector2.ZERO, null);
         Assertions.assertEquals(TowerEnum.BOMB_TOWER, TowerEnum.fromTower(bombTower));
 
-        var soundTower = new SoundTower(Vector2.ZERO, null);
+        var soundTower = new SoundTower(2, Vector2.ZERO, null);
         Assertions.assertEquals(TowerEnum.SOUND_TOWER, TowerEnum.fromTower(soundTower));
     }
 
@@ -38,15 +38,15 @@ class TowerEnumTest {
     @Test
     void whenToTowerIsCalled_thenCorrectTowerIsCreated() {
         var guardTowerEnum = TowerEnum.GUARD_TOWER;
-        var guardTower = guardTowerEnum.toTower(Vector2.ZERO, null);
+        var guardTower = guardTowerEnum.toTower(0, Vector2.ZERO, null);
         Assertions.assertInstanceOf(GuardTower.class, guardTower);
 
         var bombTowerEnum = TowerEnum.BOMB_TOWER;
-        var bombTower = bombTowerEnum.toTower(Vector2.ZERO, null);
+        var bombTower = bombTowerEnum.toTower(1, Vector2.ZERO, null);
         Assertions.assertInstanceOf(BombTower.class, bombTower);
 
         var soundTowerEnum = TowerEnum.SOUND_TOWER;
-        var soundTower = soundTowerEnum.toTower(Vector2.ZERO, null);
+        var soundTower = soundTowerEnum.toTower(2, Vector2.ZERO, null);
         Assertions.assertInstanceOf(SoundTower.class, soundTower);
     }
 }
@@ -0,0 +1,140 @@
+package io.swapastack.dunetd.entities.towers;
+
+import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.hostileunits.BossUnit;
+import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
+import io.swapastack.dunetd.hostileunits.Infantry;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TowerRegistryTest {
+
+    private TowerRegistry towerRegistry;
+
+    @BeforeAll
+    static void setUpBeforeAll() throws IOException, NoSuchFieldException, IllegalAccessException {
+        TestHelper.readConfigFile();
+    }
+
+    @BeforeEach
+    void setUp() {
+        towerRegistry = new TowerRegistry(10);
+    }
+
+    @Test
+    void whenTowersAreAdded_thenTowersAreGroupedByTypeAndOrderedByPosition() {
+        var guardTower1 = new GuardTower(0, new Vector2(2, 1), null);
+        var guardTower2 = new GuardTower(1, new Vector2(0, 5), null);
+        var guardTower3 = new GuardTower(2, new Vector2(2, 0), null);
+        var bombTower = new BombTower(3, new Vector2(1, 1), null);
+
+        towerRegistry.add(guardTower1);
+        towerRegistry.add(bombTower);
+        towerRegistry.add(guardTower2);
+        towerRegistry.add(guardTower3);
+
+        Assertions.assertEquals(List.of(guardTower2, guardTower3, guardTower1),
+                towerRegistry.getActiveTowers(TowerEnum.GUARD_TOWER));
+        Assertions.assertEquals(List.of(bombTower), towerRegistry.getActiveTowers(TowerEnum.BOMB_TOWER));
+        Assertions.assertTrue(towerRegistry.getActiveTowers(TowerEnum.SOUND_TOWER).isEmpty());
+        Assertions.assertEquals(4, towerRegistry.getNumberOfActiveTowers());
+    }
+
+    @Test
+    void whenTowerIsRemoved_thenTowerIsNotActiveAnymore() {
+        var soundTower = new SoundTower(0, new Vector2(1, 1), null);
+        towerRegistry.add(soundTower);
+
+        Assertions.assertTrue(towerRegistry.remove(soundTower));
+        Assertions.assertFalse(towerRegistry.remove(soundTower));
+        Assertions.assertEquals(0, towerRegistry.getNumberOfActiveTowers());
+    }
+
+    @Test
+    void whenTowerIsSetToDebris_thenTowerIsMovedToDebris() {
+        var guardTower = new GuardTower(0, new Vector2(1, 1), null);
+        towerRegistry.add(guardTower);
+
+        towerRegistry.setToDebris(guardTower);
+
+        Assertions.assertTrue(guardTower.isDebris());
+        Assertions.assertEquals(0, towerRegistry.getNumberOfActiveTowers());
+        Assertions.assertEquals(List.of(guardTower), towerRegistry.getDebris());
+
+        Assertions.assertTrue(towerRegistry.remove(guardTower));
+        Assertions.assertTrue(towerRegistry.getDebris().isEmpty());
+    }
+
+    @Test
+    void whenDebrisIsCleared_thenNoDebrisIsLeft() {
+        var guardTower = new GuardTower(0, new Vector2(1, 1), null);
+        towerRegistry.add(guardTower);
+        towerRegistry.setToDebris(guardTower);
+
+        towerRegistry.clearDebris();
+
+        Assertions.assertTrue(towerRegistry.getDebris().isEmpty());
+    }
+
+    @Test
+    void whenUnregisteredTowerOrDebrisIsUsed_thenExceptionIsThrown() {
+        var guardTower = new GuardTower(0, new Vector2(1, 1), null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> towerRegistry.setToDebris(guardTower));
+
+        guardTower.setToDebris();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> towerRegistry.add(guardTower));
+    }
+
+    @Test
+    void whenTargetsAreSelectedInParallel_thenResultIsSameAsSequential() {
+        var sequentialHostileUnits = updateTowersOfScenario(false);
+        var parallelHostileUnits = updateTowersOfScenario(true);
+
+        var killedHostileUnits = 0;
+        for (int i = 0; i < sequentialHostileUnits.size(); i++) {
+            var sequentialHostileUnit = sequentialHostileUnits.get(i);
+            var parallelHostileUnit = parallelHostileUnits.get(i);
+            Assertions.assertEquals(sequentialHostileUnit.getHealth(), parallelHostileUnit.getHealth());
+            Assertions.assertEquals(sequentialHostileUnit.getCurrentSpeed(), parallelHostileUnit.getCurrentSpeed());
+            killedHostileUnits += sequentialHostileUnit.isDead() ? 1 : 0;
+        }
+        // Towers have to compete for the same hostile units, otherwise the order doesn't matter
+        Assertions.assertTrue(killedHostileUnits > 0);
+        Assertions.assertTrue(killedHostileUnits < sequentialHostileUnits.size());
+    }
+
+    /**
+     * Lets a row of towers on each side attack a column of hostile units between them and returns the hostile units.
+     */
+    private static List<HostileUnit> updateTowersOfScenario(boolean parallelTargetSelection) {
+        var registry = new TowerRegistry(10);
+        registry.setParallelTargetSelection(parallelTargetSelection);
+        for (int y = 0; y < 10; y++) {
+            registry.add(new GuardTower(2L * y, new Vector2(0, y), null));
+            registry.add(y % 2 == 0 ? new BombTower(2L * y + 1, new Vector2(2, y), null)
+                    : new SoundTower(2L * y + 1, new Vector2(2, y), null));
+        }
+
+        var hostileUnits = new ArrayList<HostileUnit>();
+        for (int i = 0; i < 30; i++) {
+            var position = new Vector2(1, i / 3f);
+            hostileUnits.add(i % 5 == 0 ? new BossUnit(position) : new Infantry(position));
+        }
+
+        var index = new HostileUnitSpatialIndex(10, 10);
+        for (int tick = 0; tick < 20; tick++) {
+            index.rebuild(hostileUnits);
+            registry.updateTowers(100, index);
+        }
+        return hostileUnits;
+    }
+}
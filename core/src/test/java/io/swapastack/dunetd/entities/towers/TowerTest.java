@@ -1,9 +1,14 @@
 package io.swapastack.dunetd.entities.towers;
 
+import io.swapastack.dunetd.AllocationCounter;
 import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
 import io.swapastack.dunetd.vectors.Vector2;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -20,13 +25,13 @@ class TowerTest {
     void whenTowerIsUpdatedAndTowerIsDebris_thenCurrentReloadTimeIsNotCountedDown() {
         var tower = TowerTestHelper.createTowerWithReloadTimeAndTargetReturnsTrueOnce(100);
 
-        tower.update(50);
+        tower.update(50, TowerTestHelper.createIndex());
 
         Assertions.assertEquals(100, tower.getCurrentReloadTimeInMilliseconds());
 
         tower.setToDebris();
 
-        tower.update(50);
+        tower.update(50, TowerTestHelper.createIndex());
 
         Assertions.assertEquals(100, tower.getCurrentReloadTimeInMilliseconds());
     }
@@ -35,7 +40,7 @@ class TowerTest {
     void whenTowerIsUpdatedAndTowerIsNoDebrisAndTargetReturnsTrue_thenCurrentReloadTimeIsReset() {
         var tower = TowerTestHelper.createTowerWithReloadTimeAndTargetReturnsTrueOnce(100);
 
-        tower.update(50);
+        tower.update(50, TowerTestHelper.createIndex());
 
         Assertions.assertEquals(100, tower.getCurrentReloadTimeInMilliseconds());
     }
@@ -44,9 +49,9 @@ class TowerTest {
     void whenTowerIsUpdatedTwiceAndTowerIsNoDebris_thenCurrentReloadTimeIsCountedDown() {
         var tower = TowerTestHelper.createTowerWithReloadTimeAndTargetReturnsTrueOnce(100);
 
-        tower.update(50);
+        tower.update(50, TowerTestHelper.createIndex());
         // Now currentReloadTimeInMilliseconds is set to 100
-        tower.update(50);
+        tower.update(50, TowerTestHelper.createIndex());
 
         Assertions.assertEquals(50, tower.getCurrentReloadTimeInMilliseconds());
     }
@@ -56,7 +61,8 @@ class TowerTest {
         var tower = TowerTestHelper.createTowerWithRange(0);
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(Vector2.ZERO, 100);
 
-        var hostileUnitsInRange = tower.getHostileUnitsInRange(hostileUnit);
+        tower.selectTargets(TowerTestHelper.createIndex(hostileUnit));
+        var hostileUnitsInRange = tower.getHostileUnitsInRange();
 
         Assertions.assertEquals(1, hostileUnitsInRange.size());
         Assertions.assertEquals(hostileUnit, hostileUnitsInRange.get(0));
@@ -67,7 +73,8 @@ class TowerTest {
         var tower = TowerTestHelper.createTowerWithRange(0);
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(new Vector2(1, 0), 100);
 
-        var hostileUnitsInRange = tower.getHostileUnitsInRange(hostileUnit);
+        tower.selectTargets(TowerTestHelper.createIndex(hostileUnit));
+        var hostileUnitsInRange = tower.getHostileUnitsInRange();
 
         Assertions.assertEquals(0, hostileUnitsInRange.size());
     }
@@ -77,8 +84,63 @@ class TowerTest {
         var tower = TowerTestHelper.createTowerWithRange(0);
         var hostileUnit = TowerTestHelper.createHostileUnitWithHealth(Vector2.ZERO, 0);
 
-        var hostileUnitsInRange = tower.getHostileUnitsInRange(hostileUnit);
+        tower.selectTargets(TowerTestHelper.createIndex(hostileUnit));
+        var hostileUnitsInRange = tower.getHostileUnitsInRange();
 
         Assertions.assertEquals(0, hostileUnitsInRange.size());
     }
+
+    @Test
+    void whenSelectedHostileUnitDiesBeforeAttack_thenHostileUnitsInRangeSkipsIt() {
+        var tower = TowerTestHelper.createTowerWithRange(1);
+        var firstHostileUnit = TowerTestHelper.createHostileUnitWithHealth(Vector2.ZERO, 100);
+        var secondHostileUnit = TowerTestHelper.createHostileUnitWithHealth(new Vector2(1, 0), 100);
+
+        tower.selectTargets(TowerTestHelper.createIndex(firstHostileUnit, secondHostileUnit));
+        firstHostileUnit.kill();
+        var hostileUnitsInRange = tower.getHostileUnitsInRange();
+
+        Assertions.assertEquals(1, hostileUnitsInRange.size());
+        Assertions.assertEquals(secondHostileUnit, hostileUnitsInRange.get(0));
+    }
+
+    @Test
+    void whenTowersAreUpdatedInSteadyState_thenNoMemoryIsAllocatedPerTick() {
+        var allocationCounter = AllocationCounter.createOrSkipTest();
+
+        var towers = new Tower[]{
+                new GuardTower(0, new Vector2(5, 5), null),
+                new BombTower(1, new Vector2(6, 5), null),
+                new SoundTower(2, new Vector2(5, 6), null)
+        };
+        var random = new Random(0);
+        var hostileUnits = new ArrayList<HostileUnit>();
+        for (int i = 0; i < 200; i++) {
+            var position = new Vector2(3 + random.nextFloat() * 5, 3 + random.nextFloat() * 5);
+            hostileUnits.add(TowerTestHelper.createHostileUnitWithHealth(position, Integer.MAX_VALUE));
+        }
+        var hostileUnitSpatialIndex = new HostileUnitSpatialIndex(20, 20);
+
+        // Warm up, so buffers reached their final size and the code got compiled
+        updateTowers(towers, hostileUnits, hostileUnitSpatialIndex, 20000);
+
+        var ticks = 10000;
+        var allocatedBytesBefore = allocationCounter.getAllocatedBytes();
+        updateTowers(towers, hostileUnits, hostileUnitSpatialIndex, ticks);
+        var allocatedBytes = allocationCounter.getAllocatedBytes() - allocatedBytesBefore;
+
+        // A single object per tick would take at least 16 bytes, less than a byte per tick leaves room for noise of
+        // the JIT compiler and the allocation buffers
+        Assertions.assertTrue(allocatedBytes < ticks, allocatedBytes + " bytes were allocated in " + ticks + " ticks");
+    }
+
+    private static void updateTowers(Tower[] towers, ArrayList<HostileUnit> hostileUnits,
+                                     HostileUnitSpatialIndex hostileUnitSpatialIndex, int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            hostileUnitSpatialIndex.rebuild(hostileUnits);
+            for (var tower : towers) {
+                tower.update(10, hostileUnitSpatialIndex);
+            }
+        }
+    }
 }
@@ -1,14 +1,31 @@
 package io.swapastack.dunetd.entities.towers;
 
 import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.hostileunits.HostileUnitSpatialIndex;
 import io.swapastack.dunetd.vectors.Vector2;
 
+import java.util.List;
+
 import org.jetbrains.annotations.NotNull;
 
 import lombok.NonNull;
 
 final class TowerTestHelper {
 
+    private static final int INDEX_SIZE = 20;
+
+    static HostileUnitSpatialIndex createIndex(HostileUnit... hostileUnits) {
+        var index = new HostileUnitSpatialIndex(INDEX_SIZE, INDEX_SIZE);
+        index.rebuild(List.of(hostileUnits));
+        return index;
+    }
+
+    static HostileUnitSpatialIndex createIndexAndSelectTargets(Tower tower, HostileUnit... hostileUnits) {
+        var index = createIndex(hostileUnits);
+        tower.selectTargets(index);
+        return index;
+    }
+
     static HostileUnit createHostileUnitWithHealth(Vector2 position, int health) {
         return new HostileUnit(position, 0, health, null) {
             @Override
@@ -28,29 +45,29 @@ final class TowerTestHelper {
     }
 
     static Tower createDummyTower() {
-        return new Tower(Vector2.ZERO, 0, 0, 0, null, 0) {
+        return new Tower(0, Vector2.ZERO, 0, 0, 0, null, 0) {
             @Override
-            protected boolean target(boolean killOrder, @NotNull @NonNull HostileUnit... hostileUnits) {
+            protected boolean target(boolean killOrder, @NotNull @NonNull HostileUnitSpatialIndex hostileUnits) {
                 return false;
             }
         };
     }
 
     static Tower createTowerWithReloadTimeAndTargetReturnsTrueOnce(int reloadTimeInMilliseconds) {
-        return new Tower(Vector2.ZERO, 0, 0, reloadTimeInMilliseconds, null, 0) {
+        return new Tower(0, Vector2.ZERO, 0, 0, reloadTimeInMilliseconds, null, 0) {
             private int once;
 
             @Override
-            protected boolean target(boolean killOrder, @NotNull @NonNull HostileUnit... hostileUnits) {
+            protected boolean target(boolean killOrder, @NotNull @NonNull HostileUnitSpatialIndex hostileUnits) {
                 return once++ == 0;
             }
         };
     }
 
     static Tower createTowerWithRange(int range) {
-        return new Tower(Vector2.ZERO, range, 0, 0, null, 0) {
+        return new Tower(0, Vector2.ZERO, range, 0, 0, null, 0) {
             @Override
-            protected boolean target(boolean killOrder, @NotNull @NonNull HostileUnit... hostileUnits) {
+            protected boolean target(boolean killOrder, @NotNull @NonNull HostileUnitSpatialIndex hostileUnits) {
                 return false;
             }
         };
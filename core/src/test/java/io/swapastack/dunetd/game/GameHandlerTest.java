@@ -1,10 +1,15 @@
 package io.swapastack.dunetd.game;
 
+import io.swapastack.dunetd.AllocationCounter;
 import io.swapastack.dunetd.TestHelper;
 import io.swapastack.dunetd.config.Configuration;
 import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.entities.EntityListener;
 import io.swapastack.dunetd.entities.towers.DamageTower;
 import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.hostileunits.HostileUnit;
+import io.swapastack.dunetd.hostileunits.HostileUnitListener;
+import io.swapastack.dunetd.shaihulud.ShaiHuludListener;
 import io.swapastack.dunetd.vectors.Vector2;
 
 import java.io.IOException;
@@ -81,6 +86,37 @@ class GameHandlerTest {
         }
     }
 
+    @Test
+    void whenNewGameIsStarted_thenEntityIdsRestartAtZero() {
+        var firstGameHandler = new GameHandler(10, 10);
+        Assertions.assertEquals(0, firstGameHandler.getStartPortal().getId());
+        Assertions.assertEquals(1, firstGameHandler.getEndPortal().getId());
+        Assertions.assertTrue(firstGameHandler.buildTower(TowerEnum.GUARD_TOWER, 5, 5));
+        Assertions.assertEquals(2, firstGameHandler.getGrid()[5][5].getId());
+
+        var secondGameHandler = new GameHandler(10, 10);
+        Assertions.assertEquals(0, secondGameHandler.getStartPortal().getId());
+        Assertions.assertEquals(1, secondGameHandler.getEndPortal().getId());
+        Assertions.assertTrue(secondGameHandler.buildTower(TowerEnum.BOMB_TOWER, 5, 5));
+        Assertions.assertEquals(2, secondGameHandler.getGrid()[5][5].getId());
+    }
+
+    @Test
+    void whenTwoGamesAreRunning_thenEachGameCountsItsOwnEntityIds() {
+        var firstGameHandler = new GameHandler(10, 10);
+        var secondGameHandler = new GameHandler(10, 10);
+        Assertions.assertTrue(firstGameHandler.buildTower(TowerEnum.GUARD_TOWER, 5, 5));
+        Assertions.assertTrue(secondGameHandler.buildTower(TowerEnum.GUARD_TOWER, 5, 5));
+        Assertions.assertTrue(firstGameHandler.buildTower(TowerEnum.SOUND_TOWER, 6, 5));
+
+        // Ids of the first game are not changed by the creation of the second game
+        Assertions.assertEquals(0, firstGameHandler.getStartPortal().getId());
+        Assertions.assertEquals(1, firstGameHandler.getEndPortal().getId());
+        Assertions.assertEquals(2, firstGameHandler.getGrid()[5][5].getId());
+        Assertions.assertEquals(3, firstGameHandler.getGrid()[6][5].getId());
+        Assertions.assertEquals(2, secondGameHandler.getGrid()[5][5].getId());
+    }
+
     @Test
     void whenTowerIsBuiltInTheWavePhase_thenBuildingIsCancelled()
             throws NoSuchFieldException, IllegalAccessException {
@@ -152,13 +188,35 @@ class GameHandlerTest {
                 var gameHandler = new GameHandler(width, height);
                 setSpice(gameHandler, Integer.MAX_VALUE);
 
+                Assertions.assertFalse(gameHandler.wouldBlockPath(0, 1));
                 Assertions.assertTrue(gameHandler.buildTower(TowerEnum.GUARD_TOWER, 0, 1));
                 Assertions.assertNotNull(gameHandler.getGrid()[0][1]);
+                Assertions.assertTrue(gameHandler.wouldBlockPath(1, 0));
                 Assertions.assertFalse(gameHandler.buildTower(TowerEnum.GUARD_TOWER, 1, 0));
+                Assertions.assertNull(gameHandler.getGrid()[1][0]);
             }
         }
     }
 
+    @Test
+    void whenPathChanges_thenPathVersionIsIncremented() throws NoSuchFieldException, IllegalAccessException {
+        var gameHandler = new GameHandler(5, 5);
+        setSpice(gameHandler, Integer.MAX_VALUE);
+        Assertions.assertEquals(0, gameHandler.getPathVersion());
+
+        // Tower on the path changes the path
+        var wayPoint = gameHandler.getPath().getWaypoint(1);
+        Assertions.assertTrue(gameHandler.buildTower(TowerEnum.GUARD_TOWER, (int) wayPoint.x(), (int) wayPoint.y()));
+        Assertions.assertEquals(1, gameHandler.getPathVersion());
+
+        // Tower next to the path doesn't change the path
+        var path = gameHandler.getPath();
+        Assertions.assertTrue(gameHandler.buildTower(TowerEnum.GUARD_TOWER, 4, 0));
+        Assertions.assertFalse(path.getNextWaypoint(new Vector2(4, 0)).isPresent());
+        Assertions.assertSame(path, gameHandler.getPath());
+        Assertions.assertEquals(1, gameHandler.getPathVersion());
+    }
+
     @Test
     void whenTowerIsTearedDownInTheWavePhase_thenTearingDownIsCancelled()
             throws NoSuchFieldException, IllegalAccessException {
@@ -306,8 +364,10 @@ class GameHandlerTest {
 
                         Assertions.assertTrue(gameHandler.buildTower(TowerEnum.GUARD_TOWER, x, y));
                         Assertions.assertNotNull(gameHandler.getGrid()[x][y]);
+                        Assertions.assertEquals(1, gameHandler.getTowerRegistry().getNumberOfActiveTowers());
                         Assertions.assertTrue(gameHandler.tearDownTower(x, y));
                         Assertions.assertNull(gameHandler.getGrid()[x][y]);
+                        Assertions.assertEquals(0, gameHandler.getTowerRegistry().getNumberOfActiveTowers());
                     }
                 }
             }
@@ -395,6 +455,51 @@ class GameHandlerTest {
         }
     }
 
+    @Test
+    void whenWaveIsPlayedInSteadyState_thenNoMemoryIsAllocatedPerTick() throws NoSuchFieldException,
+            IllegalAccessException {
+        var allocationCounter = AllocationCounter.createOrSkipTest();
+        // deltaTimeInMilliseconds is ~ 60 FPS
+        var deltaTimeInMilliseconds = 16.6f;
+        var gameHandler = new GameHandler(MAX_GRID_WIDTH, MAX_GRID_HEIGHT, new NoOpEntityListener(),
+                new NoOpHostileUnitListener(), new NoOpShaiHuludListener());
+        setSpice(gameHandler, Integer.MAX_VALUE);
+        setHealthToInfinity(gameHandler);
+
+        // Towers of all types next to the path, so they rotate and notify the listener
+        var towerEnums = TowerEnum.values();
+        for (int x = 0; x < MAX_GRID_WIDTH - 1; x++) {
+            Assertions.assertTrue(gameHandler.buildTower(towerEnums[x % towerEnums.length], x, 2));
+        }
+
+        // Warm up with the first waves, so the pools and buffers reached their size and the code got compiled
+        while (gameHandler.getWaveNumber() < 3 || gameHandler.getGamePhase() != GamePhase.WAVE_PHASE) {
+            gameHandler.update(deltaTimeInMilliseconds);
+        }
+
+        // Only ticks after all hostile units of the wave were released and before the wave ends are counted, because
+        // creating hostile units and starting the next phase are allowed to allocate
+        var measuredTicks = 0;
+        var allocatedBytes = 0L;
+        while (gameHandler.getGamePhase() == GamePhase.WAVE_PHASE) {
+            var isReleaseFinished = gameHandler.getNumberOfRemainingHostileUnits()
+                    == gameHandler.getHostileUnitStore().getSize();
+            var allocatedBytesBefore = allocationCounter.getAllocatedBytes();
+            gameHandler.update(deltaTimeInMilliseconds);
+            var allocatedBytesOfTick = allocationCounter.getAllocatedBytes() - allocatedBytesBefore;
+            if (isReleaseFinished && gameHandler.getGamePhase() == GamePhase.WAVE_PHASE) {
+                measuredTicks++;
+                allocatedBytes += allocatedBytesOfTick;
+            }
+        }
+
+        Assertions.assertTrue(measuredTicks >= 1000, "Only " + measuredTicks + " ticks were measured");
+        // A single object per tick would take at least 16 bytes, less than a byte per tick leaves room for noise of
+        // the JIT compiler, the allocation buffers and a pool growing once
+        Assertions.assertTrue(allocatedBytes < measuredTicks,
+                allocatedBytes + " bytes were allocated in " + measuredTicks + " ticks");
+    }
+
     void setSpice(@NonNull GameHandler gameHandler, int spice) throws NoSuchFieldException,
             IllegalAccessException {
         var field = GameHandler.class.getDeclaredField("playerSpice");
@@ -428,4 +533,84 @@ class GameHandlerTest {
         field.setAccessible(true);
         field.set(gameHandler, true);
     }
+
+    private static final class NoOpEntityListener implements EntityListener {
+
+        @Override
+        public void onCreate(@NonNull Entity entity, float x, float y, float rotation) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onShow(@NonNull Entity entity) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onRotate(@NonNull Entity entity, float rotation) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onToDebris(@NonNull Entity entity) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onDestroy(@NonNull Entity entity) {
+            // Only the notification is tested
+        }
+    }
+
+    private static final class NoOpHostileUnitListener implements HostileUnitListener {
+
+        @Override
+        public void onCreate(@NonNull HostileUnit hostileUnit, float x, float y, float rotation) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onShow(@NonNull HostileUnit hostileUnit) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onMove(@NonNull HostileUnit hostileUnit, float x, float y, float rotation,
+                           float deltaTimeInMilliseconds) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onDestroy(@NonNull HostileUnit hostileUnit) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onPause(boolean paused) {
+            // Only the notification is tested
+        }
+    }
+
+    private static final class NoOpShaiHuludListener implements ShaiHuludListener {
+
+        @Override
+        public void onCreate() {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onShow(float x, float y, float rotation) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onMove(float x, float y, float rotation) {
+            // Only the notification is tested
+        }
+
+        @Override
+        public void onVanish() {
+            // Only the notification is tested
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package io.swapastack.dunetd.game;
+
+import io.swapastack.dunetd.hostileunits.HostileUnitEnum;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WaveScheduleTest {
+
+    @Test
+    void testAddWithInvalidArguments() {
+        var waveSchedule = new WaveSchedule();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> waveSchedule.add(HostileUnitEnum.INFANTRY, -1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> waveSchedule.add(HostileUnitEnum.INFANTRY, 1, -1));
+    }
+
+    @Test
+    void testNextReleasesHostileUnitsInOrder() {
+        var waveSchedule = new WaveSchedule();
+        waveSchedule.add(HostileUnitEnum.INFANTRY, 2, 100);
+        waveSchedule.add(HostileUnitEnum.HARVESTER, 0, 200);
+        waveSchedule.add(HostileUnitEnum.BOSS_UNIT, 1, 300);
+        Assertions.assertEquals(3, waveSchedule.getHostileUnitCount());
+        Assertions.assertEquals(3, waveSchedule.getRemainingHostileUnitCount());
+
+        Assertions.assertEquals(HostileUnitEnum.INFANTRY, waveSchedule.next());
+        Assertions.assertEquals(100, waveSchedule.getReleaseDelayInMilliseconds());
+        Assertions.assertEquals(HostileUnitEnum.INFANTRY, waveSchedule.next());
+        Assertions.assertEquals(HostileUnitEnum.BOSS_UNIT, waveSchedule.next());
+        Assertions.assertEquals(300, waveSchedule.getReleaseDelayInMilliseconds());
+
+        Assertions.assertFalse(waveSchedule.hasNext());
+        Assertions.assertEquals(0, waveSchedule.getRemainingHostileUnitCount());
+        Assertions.assertEquals(3, waveSchedule.getHostileUnitCount());
+        Assertions.assertThrows(IllegalStateException.class, waveSchedule::next);
+    }
+
+    @Test
+    void testAddMoreEntriesThanHostileUnitTypes() {
+        var waveSchedule = new WaveSchedule();
+        for (int i = 0; i < 10; i++) {
+            waveSchedule.add(i % 2 == 0 ? HostileUnitEnum.INFANTRY : HostileUnitEnum.HARVESTER, 1, i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(i % 2 == 0 ? HostileUnitEnum.INFANTRY : HostileUnitEnum.HARVESTER,
+                    waveSchedule.next());
+            Assertions.assertEquals(i, waveSchedule.getReleaseDelayInMilliseconds());
+        }
+        Assertions.assertFalse(waveSchedule.hasNext());
+    }
+}
@@ -0,0 +1,63 @@
+package io.swapastack.dunetd.hostileunits;
+
+import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class HostileUnitPoolTest {
+
+    @BeforeAll
+    static void setUp() throws IOException, NoSuchFieldException, IllegalAccessException {
+        TestHelper.readConfigFile();
+    }
+
+    @Test
+    void testObtainCreatesHostileUnitOfType() {
+        var pool = new HostileUnitPool(null);
+        Assertions.assertInstanceOf(Infantry.class, pool.obtain(HostileUnitEnum.INFANTRY, Vector2.ZERO));
+        Assertions.assertInstanceOf(Harvester.class, pool.obtain(HostileUnitEnum.HARVESTER, Vector2.ZERO));
+        Assertions.assertInstanceOf(BossUnit.class, pool.obtain(HostileUnitEnum.BOSS_UNIT, Vector2.ZERO));
+    }
+
+    @Test
+    void testObtainReusesFreedHostileUnitInInitialState() {
+        var pool = new HostileUnitPool(null);
+        var hostileUnit = pool.obtain(HostileUnitEnum.INFANTRY, Vector2.ZERO);
+        var health = hostileUnit.getHealth();
+        var path = Path.calculatePath(new Entity[1][3], Vector2.ZERO, new Vector2(0, 2));
+        hostileUnit.slowDown(0.5f, 1000);
+        hostileUnit.move(path, 1f);
+        hostileUnit.kill();
+
+        pool.free(hostileUnit);
+        Assertions.assertEquals(1, pool.getFreeCount(HostileUnitEnum.INFANTRY));
+        Assertions.assertEquals(0, pool.getFreeCount(HostileUnitEnum.HARVESTER));
+
+        var reusedHostileUnit = pool.obtain(HostileUnitEnum.INFANTRY, new Vector2(0, 1));
+        Assertions.assertSame(hostileUnit, reusedHostileUnit);
+        Assertions.assertEquals(0, pool.getFreeCount(HostileUnitEnum.INFANTRY));
+        Assertions.assertEquals(new Vector2(0, 1), reusedHostileUnit.getPosition());
+        Assertions.assertEquals(health, reusedHostileUnit.getHealth());
+        Assertions.assertEquals(reusedHostileUnit.getSpeed(), reusedHostileUnit.getCurrentSpeed());
+        Assertions.assertFalse(reusedHostileUnit.isDead());
+
+        // The reused hostile unit searches its place on the path again
+        reusedHostileUnit.move(path, 0.5f / reusedHostileUnit.getSpeed());
+        Assertions.assertEquals(new Vector2(0, 1.5f), reusedHostileUnit.getPosition());
+    }
+
+    @Test
+    void testObtainDoesNotReuseHostileUnitOfOtherType() {
+        var pool = new HostileUnitPool(null);
+        var hostileUnit = pool.obtain(HostileUnitEnum.INFANTRY, Vector2.ZERO);
+        pool.free(hostileUnit);
+        Assertions.assertNotSame(hostileUnit, pool.obtain(HostileUnitEnum.BOSS_UNIT, Vector2.ZERO));
+    }
+}
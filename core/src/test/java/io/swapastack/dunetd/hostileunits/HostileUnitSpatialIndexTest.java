@@ -0,0 +1,120 @@
+package io.swapastack.dunetd.hostileunits;
+
+import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class HostileUnitSpatialIndexTest {
+
+    @BeforeAll
+    static void setUp() throws IOException, NoSuchFieldException, IllegalAccessException {
+        TestHelper.readConfigFile();
+    }
+
+    @Test
+    void testConstructorWithInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HostileUnitSpatialIndex(0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HostileUnitSpatialIndex(1, 0));
+    }
+
+    @Test
+    void testQueryKeepsOrderOfHostileUnits() {
+        var first = new Infantry(new Vector2(3, 3));
+        var second = new Infantry(new Vector2(2, 2));
+        var third = new Infantry(new Vector2(2.5f, 2.5f));
+        var outOfRange = new Infantry(new Vector2(9, 9));
+        var index = new HostileUnitSpatialIndex(10, 10);
+        index.rebuild(List.of(first, outOfRange, second, third));
+
+        var result = new ArrayList<HostileUnit>();
+        Assertions.assertEquals(3, index.query(2.5f, 2.5f, 1f, result));
+        Assertions.assertEquals(List.of(first, second, third), result);
+        Assertions.assertEquals(4, index.getSize());
+    }
+
+    @Test
+    void testQuerySkipsDeadHostileUnits() {
+        var alive = new Infantry(new Vector2(1, 1));
+        var dead = new Infantry(new Vector2(1, 1));
+        dead.kill();
+        var index = new HostileUnitSpatialIndex(5, 5);
+        index.rebuild(List.of(dead, alive));
+
+        var result = new ArrayList<HostileUnit>();
+        Assertions.assertEquals(1, index.query(1, 1, 0, result));
+        Assertions.assertEquals(List.of(alive), result);
+    }
+
+    @Test
+    void testQueryClearsResult() {
+        var index = new HostileUnitSpatialIndex(5, 5);
+        index.rebuild(List.of(new Infantry(new Vector2(1, 1))));
+
+        var result = new ArrayList<HostileUnit>();
+        result.add(new Infantry(Vector2.ZERO));
+        Assertions.assertEquals(0, index.query(4, 4, 1, result));
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testQueryWithHostileUnitsOutsideGrid() {
+        var outside = new Infantry(new Vector2(-0.5f, 5.5f));
+        var index = new HostileUnitSpatialIndex(5, 5);
+        index.rebuild(List.of(outside));
+
+        var result = new ArrayList<HostileUnit>();
+        Assertions.assertEquals(1, index.query(-1, 6, 1, result));
+        Assertions.assertEquals(0, index.query(3, 3, 1, result));
+    }
+
+    @Test
+    void testRebuildWithFewerHostileUnits() {
+        var hostileUnit = new Infantry(new Vector2(1, 1));
+        var index = new HostileUnitSpatialIndex(5, 5);
+        index.rebuild(List.of(hostileUnit, new Infantry(new Vector2(1, 1))));
+        index.rebuild(List.of(hostileUnit));
+
+        var result = new ArrayList<HostileUnit>();
+        Assertions.assertEquals(1, index.query(1, 1, 1, result));
+        Assertions.assertEquals(List.of(hostileUnit), result);
+        Assertions.assertEquals(1, index.getSize());
+    }
+
+    @Test
+    void testQueryMatchesLinearSearch() {
+        var random = new Random(42);
+        var width = 20;
+        var height = 15;
+        var hostileUnits = new ArrayList<HostileUnit>();
+        for (int i = 0; i < 500; i++) {
+            var position = new Vector2(random.nextFloat() * (width - 1), random.nextFloat() * (height - 1));
+            hostileUnits.add(new Infantry(position));
+        }
+        var index = new HostileUnitSpatialIndex(width, height);
+        index.rebuild(hostileUnits);
+
+        var result = new ArrayList<HostileUnit>();
+        for (int i = 0; i < 200; i++) {
+            var position = new Vector2(random.nextFloat() * width, random.nextFloat() * height);
+            var rangeSquared = random.nextFloat() * 6;
+
+            var expected = new ArrayList<HostileUnit>();
+            for (var hostileUnit : hostileUnits) {
+                if (position.getDistanceSquared(hostileUnit.getPosition()) <= rangeSquared) {
+                    expected.add(hostileUnit);
+                }
+            }
+
+            index.query(position.x(), position.y(), rangeSquared, result);
+            Assertions.assertEquals(expected, result);
+        }
+    }
+}
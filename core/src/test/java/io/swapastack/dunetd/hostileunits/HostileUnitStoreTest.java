@@ -0,0 +1,128 @@
+package io.swapastack.dunetd.hostileunits;
+
+import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.pathfinding.Path;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class HostileUnitStoreTest {
+
+    @BeforeAll
+    static void setUp() throws IOException, NoSuchFieldException, IllegalAccessException {
+        TestHelper.readConfigFile();
+    }
+
+    @Test
+    void testConstructorWithInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HostileUnitStore(0));
+    }
+
+    @Test
+    void testCreateHostileUnitsInStore() {
+        var store = new HostileUnitStore(1);
+        var infantry = new Infantry(new Vector2(1, 2), null, store);
+        var harvester = new Harvester(new Vector2(3, 4), null, store);
+
+        Assertions.assertEquals(2, store.getSize());
+        Assertions.assertSame(infantry, store.getHostileUnit(0));
+        Assertions.assertSame(harvester, store.getHostileUnit(1));
+        Assertions.assertEquals(3f, store.getX(1));
+        Assertions.assertEquals(4f, store.getY(1));
+        Assertions.assertEquals(harvester.getHealth(), store.getHealth(1));
+        Assertions.assertEquals(HostileUnitEnum.INFANTRY, store.getType(0));
+        Assertions.assertEquals(HostileUnitEnum.HARVESTER, store.getType(1));
+    }
+
+    @Test
+    void testAttachAndDetachKeepOrderAndState() {
+        var store = new HostileUnitStore(4);
+        var first = new Infantry(Vector2.ZERO);
+        var second = new BossUnit(Vector2.ZERO);
+        var third = new Infantry(Vector2.ZERO);
+        second.dealDamage(1);
+        store.attach(first);
+        store.attach(second);
+        store.attach(third);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> store.attach(first));
+
+        var health = second.getHealth();
+        store.detach(first);
+        Assertions.assertEquals(2, store.getSize());
+        Assertions.assertSame(second, store.getHostileUnit(0));
+        Assertions.assertSame(third, store.getHostileUnit(1));
+        Assertions.assertEquals(health, store.getHealth(0));
+        Assertions.assertEquals(HostileUnitEnum.BOSS_UNIT, store.getType(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> store.detach(first));
+
+        // Detached hostile units keep their state
+        first.dealDamage(1);
+        Assertions.assertEquals(third.getHealth() - 1, first.getHealth());
+    }
+
+    @Test
+    void testRemoveMarkedKeepsOrderOfRemainingHostileUnits() {
+        var store = new HostileUnitStore(2);
+        var hostileUnits = new HostileUnit[6];
+        for (int i = 0; i < hostileUnits.length; i++) {
+            hostileUnits[i] = new Infantry(new Vector2(i, 0), null, store);
+        }
+
+        store.markForRemoval(0);
+        store.markForRemoval(3);
+        store.markForRemoval(3);
+        store.markForRemoval(5);
+        Assertions.assertTrue(store.isMarkedForRemoval(3));
+        Assertions.assertEquals(6, store.getSize());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> store.markForRemoval(6));
+
+        var removedHostileUnits = new ArrayList<HostileUnit>();
+        store.removeMarked(removedHostileUnits::add);
+
+        Assertions.assertEquals(List.of(hostileUnits[0], hostileUnits[3], hostileUnits[5]), removedHostileUnits);
+        Assertions.assertEquals(3, store.getSize());
+        Assertions.assertSame(hostileUnits[1], store.getHostileUnit(0));
+        Assertions.assertSame(hostileUnits[2], store.getHostileUnit(1));
+        Assertions.assertSame(hostileUnits[4], store.getHostileUnit(2));
+        Assertions.assertEquals(4f, store.getX(2));
+        Assertions.assertFalse(store.isMarkedForRemoval(0));
+
+        // Removed hostile units keep their state and can be added again
+        Assertions.assertEquals(new Vector2(3, 0), hostileUnits[3].getPosition());
+        store.attach(hostileUnits[3]);
+        Assertions.assertSame(hostileUnits[3], store.getHostileUnit(3));
+        Assertions.assertFalse(store.isMarkedForRemoval(3));
+    }
+
+    @Test
+    void testMoveHostileUnitsInStore() {
+        var store = new HostileUnitStore(2);
+        var path = Path.calculatePath(new Entity[1][4], Vector2.ZERO, new Vector2(0, 3));
+        var slow = new HostileUnit(Vector2.ZERO, 1, 100, null, store) {
+            @Override
+            public int getSpiceReward() {
+                return 0;
+            }
+        };
+        var fast = new HostileUnit(Vector2.ZERO, 2, 100, null, store) {
+            @Override
+            public int getSpiceReward() {
+                return 0;
+            }
+        };
+        slow.move(path, 1f);
+        fast.move(path, 1f);
+
+        Assertions.assertEquals(1f, store.getY(0));
+        Assertions.assertEquals(2f, store.getY(1));
+        Assertions.assertNull(store.getType(0));
+        Assertions.assertEquals(new Vector2(0, 2), fast.getPosition());
+    }
+}
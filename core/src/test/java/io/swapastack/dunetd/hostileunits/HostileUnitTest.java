@@ -70,6 +70,35 @@ class HostileUnitTest {
         Assertions.assertThrows(IllegalStateException.class, () -> hostileUnit.move(path, 0.016f));
     }
 
+    @Test
+    void testMoveAlongSeveralWaypointsInOneUpdate() {
+        var grid = getEntityGrid(3, 3, new Vector2(1, 0), new Vector2(1, 1));
+        var path = Path.calculatePath(grid, Vector2.ZERO, new Vector2(2, 0));
+        var hostileUnit = getNewHostileUnit(Vector2.ZERO, 1, 100);
+        hostileUnit.move(path, 3.5f);
+        Assertions.assertEquals(new Vector2(1.5f, 2), hostileUnit.getPosition());
+        hostileUnit.move(path, 10f);
+        Assertions.assertEquals(new Vector2(2, 0), hostileUnit.getPosition());
+    }
+
+    @Test
+    void testMoveAfterPathChanged() {
+        var startPosition = Vector2.ZERO;
+        var firstPath = Path.calculatePath(getEntityGrid(1, 4), startPosition, new Vector2(0, 3));
+        var hostileUnit = getNewHostileUnit(startPosition, 1, 100);
+        hostileUnit.move(firstPath, 1.5f);
+        Assertions.assertEquals(new Vector2(0, 1.5f), hostileUnit.getPosition());
+
+        // New path with the same course, the hostile unit continues from its position
+        var secondPath = Path.calculatePath(getEntityGrid(1, 4), startPosition, new Vector2(0, 3));
+        hostileUnit.move(secondPath, 1f);
+        Assertions.assertEquals(new Vector2(0, 2.5f), hostileUnit.getPosition());
+
+        // New path, which doesn't contain the position of the hostile unit
+        var thirdPath = Path.calculatePath(getEntityGrid(2, 1), startPosition, new Vector2(1, 0));
+        Assertions.assertThrows(IllegalStateException.class, () -> hostileUnit.move(thirdPath, 1f));
+    }
+
     @Test
     void testDealDamageWithValidArguments() {
         var hostileUnit = getNewHostileUnit(Vector2.ZERO, 1, 100);
@@ -133,6 +162,27 @@ class HostileUnitTest {
         Assertions.assertTrue(hostileUnit.isDead());
     }
 
+    @Test
+    void whenHostileUnitChanges_thenListenerIsNotified() {
+        var listener = new RecordingHostileUnitListener();
+        var hostileUnit = new HostileUnit(Vector2.ZERO, 1, 100, listener) {
+            @Override
+            public int getSpiceReward() {
+                return 0;
+            }
+        };
+        Assertions.assertEquals("create 0.0 0.0", listener.events.toString());
+
+        var path = Path.calculatePath(getEntityGrid(1, 3), Vector2.ZERO, new Vector2(0, 2));
+        hostileUnit.show();
+        hostileUnit.move(path, 0.5f);
+        hostileUnit.move(path, 5f);
+        hostileUnit.move(path, 5f);
+        hostileUnit.kill();
+        Assertions.assertEquals("create 0.0 0.0;show;move 0.0 0.5 0.5;move 0.0 2.0 5.0;destroy",
+                listener.events.toString());
+    }
+
     HostileUnit getNewHostileUnit(Vector2 position, float speed, int health) {
         return new HostileUnit(position, speed, health, null) {
             @Override
@@ -144,9 +194,47 @@ class HostileUnitTest {
 
     Entity[][] getEntityGrid(int width, int height, Vector2... towerPositions) {
         var grid = new Entity[width][height];
+        long id = 0;
         for (var towerPosition : towerPositions) {
-            grid[(int) towerPosition.x()][(int) towerPosition.y()] = new GuardTower(towerPosition, null);
+            grid[(int) towerPosition.x()][(int) towerPosition.y()] = new GuardTower(id++, towerPosition, null);
         }
         return grid;
     }
+
+    private static final class RecordingHostileUnitListener implements HostileUnitListener {
+
+        private final StringBuilder events = new StringBuilder();
+
+        private void record(String event) {
+            if (!events.isEmpty()) {
+                events.append(';');
+            }
+            events.append(event);
+        }
+
+        @Override
+        public void onCreate(HostileUnit hostileUnit, float x, float y, float rotation) {
+            record("create " + x + " " + y);
+        }
+
+        @Override
+        public void onShow(HostileUnit hostileUnit) {
+            record("show");
+        }
+
+        @Override
+        public void onMove(HostileUnit hostileUnit, float x, float y, float rotation, float deltaTimeInMilliseconds) {
+            record("move " + x + " " + y + " " + deltaTimeInMilliseconds);
+        }
+
+        @Override
+        public void onDestroy(HostileUnit hostileUnit) {
+            record("destroy");
+        }
+
+        @Override
+        public void onPause(boolean paused) {
+            record("pause " + paused);
+        }
+    }
 }
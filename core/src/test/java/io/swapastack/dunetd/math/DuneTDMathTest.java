@@ -110,14 +110,15 @@ class DuneTDMathTest {
     @Test
     void testIsPositionAvailableWithPositionInsideTheGridAndNonNullEntities() {
         var grid = getEntityGrid(10, 10);
-        grid[0][0] = new Entity(Vector2.ZERO) { };
+        grid[0][0] = new Entity(0, Vector2.ZERO) { };
         Assertions.assertFalse(DuneTDMath.isPositionAvailable(grid, 0, 0));
     }
 
     Entity[][] getEntityGrid(int width, int height, Vector2... towerPositions) {
         var grid = new Entity[width][height];
+        long id = 0;
         for (var towerPosition : towerPositions) {
-            grid[(int) towerPosition.x()][(int) towerPosition.y()] = new GuardTower(towerPosition, null);
+            grid[(int) towerPosition.x()][(int) towerPosition.y()] = new GuardTower(id++, towerPosition, null);
         }
         return grid;
     }
@@ -49,6 +49,23 @@ class EntityGraphTest {
         Assertions.assertEquals(width + height - 1, path.getCount());
     }
 
+    @Test
+    void testFindPathAroundTowers() {
+        // Wall with a single gap at the top, the path has to go around it
+        var grid = getEntityGrid(5, 5, new Vector2(2f, 0f), new Vector2(2f, 1f), new Vector2(2f, 2f),
+                new Vector2(2f, 3f));
+        var path = new EntityGraph(grid).findPath(Vector2.ZERO, new Vector2(4f, 0f));
+
+        Assertions.assertEquals(13, path.getCount());
+        Assertions.assertEquals(Vector2.ZERO, path.get(0).getPosition());
+        Assertions.assertEquals(new Vector2(4f, 0f), path.get(path.getCount() - 1).getPosition());
+        for (int i = 1; i < path.getCount(); i++) {
+            var position = path.get(i).getPosition();
+            Assertions.assertNull(grid[(int) position.x()][(int) position.y()]);
+            Assertions.assertEquals(1f, position.getDistance(path.get(i - 1).getPosition()), 0f);
+        }
+    }
+
     @Test
     void testFindPathWithPositionsOutsideTheGrid() {
         var entityGraph = new EntityGraph(new Entity[1][1]);
@@ -72,6 +89,9 @@ class EntityGraphTest {
     void testGetNodeCount() {
         var entityGraph = new EntityGraph(new Entity[1][1]);
         Assertions.assertEquals(1, entityGraph.getNodeCount());
+
+        entityGraph = new EntityGraph(new Entity[3][4]);
+        Assertions.assertEquals(12, entityGraph.getNodeCount());
     }
 
     @Test
@@ -97,8 +117,9 @@ class EntityGraphTest {
 
     Entity[][] getEntityGrid(int width, int height, Vector2... towerPositions) {
         var grid = new Entity[width][height];
+        long id = 0;
         for (var towerPosition : towerPositions) {
-            grid[(int) towerPosition.x()][(int) towerPosition.y()] = new GuardTower(towerPosition, null);
+            grid[(int) towerPosition.x()][(int) towerPosition.y()] = new GuardTower(id++, towerPosition, null);
         }
         return grid;
     }
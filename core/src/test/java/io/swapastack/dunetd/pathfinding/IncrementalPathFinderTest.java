@@ -0,0 +1,108 @@
+package io.swapastack.dunetd.pathfinding;
+
+import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.entities.towers.GuardTower;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class IncrementalPathFinderTest {
+
+    @BeforeAll
+    static void setUp() throws IOException, NoSuchFieldException, IllegalAccessException {
+        TestHelper.readConfigFile();
+    }
+
+    @Test
+    void testConstructorWithInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new IncrementalPathFinder(0, 1, Vector2.ZERO, Vector2.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new IncrementalPathFinder(2, 2, Vector2.ZERO, new Vector2(2, 1)));
+    }
+
+    @Test
+    void testSetBlockedWithInvalidArguments() {
+        var pathFinder = new IncrementalPathFinder(3, 3, Vector2.ZERO, new Vector2(2, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> pathFinder.setBlocked(3, 0, true));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> pathFinder.setBlocked(0, 0, true));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> pathFinder.setBlocked(2, 2, true));
+    }
+
+    @Test
+    void testCalculatePathWithoutBlockedTiles() {
+        var pathFinder = new IncrementalPathFinder(5, 4, Vector2.ZERO, new Vector2(4, 3));
+        var path = pathFinder.calculatePath();
+
+        assertValidPath(pathFinder, path, Vector2.ZERO, new Vector2(4, 3));
+        Assertions.assertEquals(6, path.getLength());
+    }
+
+    @Test
+    void testCalculatePathWhenBlocked() {
+        var pathFinder = new IncrementalPathFinder(3, 3, Vector2.ZERO, new Vector2(2, 2));
+        pathFinder.setBlocked(1, 0, true);
+        pathFinder.setBlocked(1, 1, true);
+        Assertions.assertFalse(pathFinder.calculatePath().isBlocked());
+
+        pathFinder.setBlocked(1, 2, true);
+        Assertions.assertTrue(pathFinder.calculatePath().isBlocked());
+        Assertions.assertTrue(pathFinder.isBlocked(1, 2));
+
+        pathFinder.setBlocked(1, 1, false);
+        var path = pathFinder.calculatePath();
+        assertValidPath(pathFinder, path, Vector2.ZERO, new Vector2(2, 2));
+        Assertions.assertFalse(pathFinder.isBlocked(1, 1));
+    }
+
+    @Test
+    void testCalculatePathMatchesFullSearch() {
+        var random = new Random(7);
+        for (int width = 2; width <= 12; width++) {
+            for (int height = 2; height <= 12; height++) {
+                var start = Vector2.ZERO;
+                var end = new Vector2(width - 1f, height - 1f);
+                var pathFinder = new IncrementalPathFinder(width, height, start, end);
+                var grid = new Entity[width][height];
+
+                for (int i = 0; i < width * height; i++) {
+                    var x = random.nextInt(width);
+                    var y = random.nextInt(height);
+                    if (x == 0 && y == 0 || x == width - 1 && y == height - 1) {
+                        continue;
+                    }
+
+                    var isBlocked = grid[x][y] == null;
+                    grid[x][y] = isBlocked ? new GuardTower(i, new Vector2(x, y), null) : null;
+                    pathFinder.setBlocked(x, y, isBlocked);
+
+                    var expectedPath = Path.calculatePath(grid, start, end);
+                    var path = pathFinder.calculatePath();
+                    Assertions.assertEquals(expectedPath.isBlocked(), path.isBlocked());
+                    Assertions.assertEquals(expectedPath.getLength(), path.getLength());
+                    if (!path.isBlocked()) {
+                        assertValidPath(pathFinder, path, start, end);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertValidPath(IncrementalPathFinder pathFinder, Path path, Vector2 start, Vector2 end) {
+        var waypoints = path.getWaypoints();
+        Assertions.assertEquals(start, waypoints[0]);
+        Assertions.assertEquals(end, waypoints[waypoints.length - 1]);
+        for (int i = 0; i < waypoints.length; i++) {
+            Assertions.assertFalse(pathFinder.isBlocked((int) waypoints[i].x(), (int) waypoints[i].y()));
+            if (i > 0) {
+                Assertions.assertEquals(1f, waypoints[i].getDistance(waypoints[i - 1]), 0f);
+            }
+        }
+    }
+}
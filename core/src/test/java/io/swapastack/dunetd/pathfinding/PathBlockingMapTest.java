@@ -0,0 +1,93 @@
+package io.swapastack.dunetd.pathfinding;
+
+import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.entities.Entity;
+import io.swapastack.dunetd.entities.towers.GuardTower;
+import io.swapastack.dunetd.vectors.Vector2;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class PathBlockingMapTest {
+
+    @BeforeAll
+    static void setUp() throws IOException, NoSuchFieldException, IllegalAccessException {
+        TestHelper.readConfigFile();
+    }
+
+    @Test
+    void testConstructorWithInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new PathBlockingMap(1, 0, Vector2.ZERO, Vector2.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new PathBlockingMap(2, 2, Vector2.ZERO, new Vector2(1, 2)));
+    }
+
+    @Test
+    void testUpdateWithInvalidGrid() {
+        var pathBlockingMap = new PathBlockingMap(2, 2, Vector2.ZERO, new Vector2(1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> pathBlockingMap.update(new Entity[3][2]));
+    }
+
+    @Test
+    void testWouldBlockPathInCorridor() {
+        var grid = new Entity[3][2];
+        grid[1][1] = new GuardTower(0, new Vector2(1, 1), null);
+        var pathBlockingMap = new PathBlockingMap(3, 2, Vector2.ZERO, new Vector2(2, 1));
+        pathBlockingMap.update(grid);
+
+        Assertions.assertTrue(pathBlockingMap.wouldBlockPath(1, 0));
+        Assertions.assertTrue(pathBlockingMap.wouldBlockPath(2, 0));
+        Assertions.assertFalse(pathBlockingMap.wouldBlockPath(0, 1));
+        Assertions.assertFalse(pathBlockingMap.wouldBlockPath(1, 1));
+        Assertions.assertFalse(pathBlockingMap.wouldBlockPath(0, 0));
+        Assertions.assertFalse(pathBlockingMap.wouldBlockPath(3, 0));
+    }
+
+    @Test
+    void testWouldBlockPathMatchesPathCalculation() {
+        var random = new Random(11);
+        for (int width = 2; width <= 8; width++) {
+            for (int height = 2; height <= 8; height++) {
+                var start = Vector2.ZERO;
+                var end = new Vector2(width - 1f, height - 1f);
+                var grid = new Entity[width][height];
+                var pathBlockingMap = new PathBlockingMap(width, height, start, end);
+
+                for (int i = 0; i < width * height / 2; i++) {
+                    var x = random.nextInt(width);
+                    var y = random.nextInt(height);
+                    if (x == 0 && y == 0 || x == width - 1 && y == height - 1) {
+                        continue;
+                    }
+                    grid[x][y] = grid[x][y] == null ? new GuardTower(i, new Vector2(x, y), null) : null;
+                    pathBlockingMap.update(grid);
+
+                    assertMatchesPathCalculation(grid, pathBlockingMap, start, end);
+                }
+            }
+        }
+    }
+
+    private static void assertMatchesPathCalculation(Entity[][] grid, PathBlockingMap pathBlockingMap,
+                                                     Vector2 start, Vector2 end) {
+        var isPathBlocked = Path.calculatePath(grid, start, end).isBlocked();
+        for (int x = 0; x < grid.length; x++) {
+            for (int y = 0; y < grid[0].length; y++) {
+                if (grid[x][y] != null || x == 0 && y == 0 || x == grid.length - 1 && y == grid[0].length - 1) {
+                    Assertions.assertFalse(pathBlockingMap.wouldBlockPath(x, y));
+                    continue;
+                }
+
+                grid[x][y] = new GuardTower(-1, new Vector2(x, y), null);
+                var wouldBlockPath = !isPathBlocked && Path.calculatePath(grid, start, end).isBlocked();
+                grid[x][y] = null;
+                Assertions.assertEquals(wouldBlockPath, pathBlockingMap.wouldBlockPath(x, y));
+            }
+        }
+    }
+}
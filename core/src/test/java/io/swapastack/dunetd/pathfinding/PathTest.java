@@ -93,6 +93,17 @@ class PathTest {
         Assertions.assertTrue(waypointOptional.isEmpty());
     }
 
+    @Test
+    void testGetNextWaypointIndex() {
+        var path = new Path(new Vector2[]{Vector2.ZERO, new Vector2(0, 1), new Vector2(1, 1)});
+        Assertions.assertEquals(1, path.getNextWaypointIndex(Vector2.ZERO));
+        Assertions.assertEquals(1, path.getNextWaypointIndex(new Vector2(0, 0.5f)));
+        Assertions.assertEquals(2, path.getNextWaypointIndex(new Vector2(0, 1)));
+        Assertions.assertEquals(2, path.getNextWaypointIndex(new Vector2(0.5f, 1)));
+        Assertions.assertEquals(2, path.getNextWaypointIndex(new Vector2(1, 1)));
+        Assertions.assertEquals(-1, path.getNextWaypointIndex(new Vector2(1, 0)));
+    }
+
     @Test
     void testGetWaypointWithValidArguments() {
         var grid = getEntityGrid(10, 10);
@@ -114,11 +125,12 @@ class PathTest {
 
     Entity[][] getEntityGrid(int width, int height, Vector2... towerPositions) {
         var grid = new Entity[width][height];
+        long id = 0;
         for (var towerPosition : towerPositions) {
             int x = (int) towerPosition.x();
             int y = (int) towerPosition.y();
 
-            grid[x][y] = new GuardTower(towerPosition, null);
+            grid[x][y] = new GuardTower(id++, towerPosition, null);
         }
         return grid;
     }
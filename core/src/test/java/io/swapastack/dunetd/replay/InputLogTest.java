@@ -0,0 +1,67 @@
+package io.swapastack.dunetd.replay;
+
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InputLogTest {
+
+    @Test
+    void testInputCommandWithInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> InputCommand.of(-1, InputCommandType.SKIP_BUILD_PHASE));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new InputCommand(0, InputCommandType.BUILD_TOWER, 1, 1, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new InputCommand(0, InputCommandType.TEAR_DOWN_TOWER, 1, 1, TowerEnum.GUARD_TOWER));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new InputCommand(0, InputCommandType.PAUSE_GAME, 1, 0, null));
+    }
+
+    @Test
+    void testAddWithInvalidArguments() {
+        var inputLog = new InputLog(5, 5);
+        inputLog.add(InputCommand.of(10, InputCommandType.SKIP_BUILD_PHASE));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> inputLog.add(InputCommand.of(9, InputCommandType.SKIP_BUILD_PHASE)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> inputLog.setTickCount(9));
+    }
+
+    @Test
+    void testWriteAndReadInputLog() throws IOException {
+        var commands = List.of(
+                new InputCommand(0, InputCommandType.BUILD_TOWER, 1, 2, TowerEnum.BOMB_TOWER),
+                new InputCommand(0, InputCommandType.TEAR_DOWN_TOWER, 1, 2, null),
+                InputCommand.of(5, InputCommandType.SPEED_UP_TIME),
+                new InputCommand(300, InputCommandType.SET_THUMPER, -1, 4, null),
+                InputCommand.of(1_000_000, InputCommandType.PAUSE_GAME));
+        var inputLog = new InputLog(7, 9);
+        commands.forEach(inputLog::add);
+        inputLog.setTickCount(1_000_500);
+
+        var outputStream = new ByteArrayOutputStream();
+        inputLog.write(outputStream);
+        // Header with 5 bytes and only a few bytes per command
+        Assertions.assertTrue(outputStream.size() < 40);
+
+        var readInputLog = InputLog.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        Assertions.assertEquals(7, readInputLog.getGridWidth());
+        Assertions.assertEquals(9, readInputLog.getGridHeight());
+        Assertions.assertEquals(commands, readInputLog.getCommands());
+        Assertions.assertEquals(1_000_500, readInputLog.getTickCount());
+    }
+
+    @Test
+    void testReadInvalidInputLog() {
+        var invalidBytes = new byte[]{1, 2, 3, 4, 5};
+        Assertions.assertThrows(IOException.class, () -> InputLog.read(new ByteArrayInputStream(invalidBytes)));
+        var truncatedBytes = new byte[]{0x44, 0x54, 0x44, 0x52, 1, 5};
+        Assertions.assertThrows(IOException.class, () -> InputLog.read(new ByteArrayInputStream(truncatedBytes)));
+    }
+}
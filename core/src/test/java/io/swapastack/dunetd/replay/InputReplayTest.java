@@ -0,0 +1,99 @@
+package io.swapastack.dunetd.replay;
+
+import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.game.GameHandler;
+import io.swapastack.dunetd.game.GamePhase;
+import io.swapastack.dunetd.simulation.SimulationEngine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class InputReplayTest {
+
+    @BeforeAll
+    static void setUp() throws IOException, NoSuchFieldException, IllegalAccessException {
+        TestHelper.readConfigFile();
+    }
+
+    @Test
+    void testReplayWithUsedSimulationEngine() {
+        var inputLog = new InputLog(5, 5);
+        var simulationEngine = new SimulationEngine(new GameHandler(5, 5));
+        simulationEngine.runTicks(1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new InputRecorder(simulationEngine));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> InputReplay.replay(inputLog, simulationEngine));
+    }
+
+    @Test
+    void testReplayReproducesRecordedGame() throws IOException {
+        var simulationEngine = new SimulationEngine(new GameHandler(6, 6));
+        var gameHandler = simulationEngine.getGameHandler();
+        var inputRecorder = new InputRecorder(simulationEngine);
+
+        // Play with uneven frame times like the render loop
+        Assertions.assertTrue(inputRecorder.buildTower(TowerEnum.GUARD_TOWER, 1, 0));
+        Assertions.assertTrue(inputRecorder.buildTower(TowerEnum.BOMB_TOWER, 1, 2));
+        simulationEngine.update(123.4f);
+        Assertions.assertTrue(inputRecorder.buildTower(TowerEnum.SOUND_TOWER, 3, 2));
+        Assertions.assertTrue(inputRecorder.tearDownTower(1, 2));
+        inputRecorder.speedUpTime();
+        inputRecorder.skipBuildPhase();
+        for (int i = 0; i < 200; i++) {
+            simulationEngine.update(16.7f + i % 3);
+        }
+        Assertions.assertEquals(GamePhase.WAVE_PHASE, gameHandler.getGamePhase());
+        inputRecorder.pauseGame(true);
+        simulationEngine.update(1000f);
+        inputRecorder.pauseGame(false);
+        Assertions.assertTrue(inputRecorder.setThumper(0, 3));
+        Assertions.assertTrue(inputRecorder.setThumper(5, 3));
+        for (int i = 0; i < 300; i++) {
+            simulationEngine.update(33.3f);
+        }
+
+        var outputStream = new ByteArrayOutputStream();
+        inputRecorder.getInputLog().write(outputStream);
+        var inputLog = InputLog.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        Assertions.assertEquals(10, inputLog.getCommands().size());
+
+        var replayedEngine = InputReplay.replay(inputLog);
+        var replayedGameHandler = replayedEngine.getGameHandler();
+
+        Assertions.assertEquals(simulationEngine.getTickCount(), replayedEngine.getTickCount());
+        Assertions.assertEquals(gameHandler.getGamePhase(), replayedGameHandler.getGamePhase());
+        Assertions.assertEquals(gameHandler.getWaveNumber(), replayedGameHandler.getWaveNumber());
+        Assertions.assertEquals(gameHandler.getPlayerHealth(), replayedGameHandler.getPlayerHealth());
+        Assertions.assertEquals(gameHandler.getPlayerSpice(), replayedGameHandler.getPlayerSpice());
+        Assertions.assertEquals(gameHandler.getNumberOfRemainingHostileUnits(),
+                replayedGameHandler.getNumberOfRemainingHostileUnits());
+        Assertions.assertEquals(gameHandler.getShaiHulud().getGridPosition(),
+                replayedGameHandler.getShaiHulud().getGridPosition());
+
+        var store = gameHandler.getHostileUnitStore();
+        var replayedStore = replayedGameHandler.getHostileUnitStore();
+        Assertions.assertEquals(store.getSize(), replayedStore.getSize());
+        for (int slot = 0; slot < store.getSize(); slot++) {
+            Assertions.assertEquals(store.getX(slot), replayedStore.getX(slot));
+            Assertions.assertEquals(store.getY(slot), replayedStore.getY(slot));
+            Assertions.assertEquals(store.getHealth(slot), replayedStore.getHealth(slot));
+        }
+
+        for (int x = 0; x < gameHandler.getGridWidth(); x++) {
+            for (int y = 0; y < gameHandler.getGridHeight(); y++) {
+                var entity = gameHandler.getGrid()[x][y];
+                var replayedEntity = replayedGameHandler.getGrid()[x][y];
+                Assertions.assertEquals(entity == null, replayedEntity == null);
+                if (entity != null) {
+                    Assertions.assertEquals(entity.getClass(), replayedEntity.getClass());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.swapastack.dunetd.simulation;
+
+import io.swapastack.dunetd.TestHelper;
+import io.swapastack.dunetd.config.Configuration;
+import io.swapastack.dunetd.entities.towers.TowerEnum;
+import io.swapastack.dunetd.game.GameHandler;
+import io.swapastack.dunetd.game.GamePhase;
+import io.swapastack.dunetd.game.TimeFactor;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SimulationEngineTest {
+
+    private static final int TICK_DURATION = Configuration.getInstance()
+            .getIntProperty("SIMULATION_TICK_DURATION_IN_MILLISECONDS");
+
+    private static final int MAX_TICKS_PER_UPDATE = Configuration.getInstance()
+            .getIntProperty("SIMULATION_MAX_TICKS_PER_UPDATE");
+
+    private static final int GAME_BUILD_PHASE_DURATION_IN_MS = Configuration.getInstance()
+            .getIntProperty("GAME_BUILD_PHASE_DURATION_IN_MILLISECONDS");
+
+    @BeforeAll
+    static void setUp() throws IOException, NoSuchFieldException, IllegalAccessException {
+        TestHelper.readConfigFile();
+    }
+
+    @Test
+    void testUpdateWithNegativeDeltaTime() {
+        var simulationEngine = new SimulationEngine(new GameHandler(5, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> simulationEngine.update(-1));
+    }
+
+    @Test
+    void testUpdateAccumulatesDeltaTime() {
+        var simulationEngine = new SimulationEngine(new GameHandler(5, 5));
+
+        Assertions.assertEquals(0, simulationEngine.update(TICK_DURATION / 2f));
+        Assertions.assertEquals(0, simulationEngine.getTickCount());
+        Assertions.assertEquals(0.5f, simulationEngine.getInterpolationAlpha(), 0.0001f);
+
+        Assertions.assertEquals(1, simulationEngine.update(TICK_DURATION / 2f));
+        Assertions.assertEquals(1, simulationEngine.getTickCount());
+        Assertions.assertEquals(0f, simulationEngine.getInterpolationAlpha(), 0.0001f);
+
+        Assertions.assertEquals(3, simulationEngine.update(TICK_DURATION * 3f));
+        Assertions.assertEquals(4, simulationEngine.getTickCount());
+    }
+
+    @Test
+    void testUpdateIsLimitedByMaxTicksPerUpdate() {
+        var simulationEngine = new SimulationEngine(new GameHandler(5, 5));
+
+        Assertions.assertEquals(MAX_TICKS_PER_UPDATE, simulationEngine.update(TICK_DURATION * 1000f));
+        Assertions.assertEquals(MAX_TICKS_PER_UPDATE, simulationEngine.getTickCount());
+        Assertions.assertTrue(simulationEngine.getInterpolationAlpha() < 1f);
+        Assertions.assertEquals(0, simulationEngine.update(0));
+    }
+
+    @Test
+    void testUpdateIsLimitedByMaxUpdateDuration() {
+        // Every request of the wall time advances it by 5 milliseconds
+        var nanoTime = new AtomicLong();
+        var simulationEngine = new SimulationEngine(createStartedGameHandler(), () -> nanoTime.addAndGet(5_000_000));
+
+        // The deadline is 8 milliseconds after the start, the first tick is always executed
+        Assertions.assertEquals(2, simulationEngine.update(TICK_DURATION * 10f));
+        Assertions.assertTrue(simulationEngine.getInterpolationAlpha() < 1f);
+    }
+
+    @Test
+    void testTimeFactorExecutesMoreTicksOfSameDuration() {
+        var fastGameHandler = createStartedGameHandler();
+        var normalGameHandler = createStartedGameHandler();
+        var fastSimulationEngine = new SimulationEngine(fastGameHandler);
+        var normalSimulationEngine = new SimulationEngine(normalGameHandler);
+
+        // Normal -> double -> triple -> quadruple -> sixteenfold
+        for (int i = 0; i < 4; i++) {
+            fastGameHandler.speedUpTime();
+        }
+        Assertions.assertEquals(TimeFactor.SIXTEENFOLD, fastGameHandler.getTimeFactor());
+
+        Assertions.assertEquals(16, fastSimulationEngine.update(TICK_DURATION));
+        normalSimulationEngine.runTicks(16);
+        Assertions.assertEquals(normalGameHandler.getRemainingBuildPhaseDurationInMilliseconds(),
+                fastGameHandler.getRemainingBuildPhaseDurationInMilliseconds());
+    }
+
+    @Test
+    void testSkipToEndOfWave() {
+        var gameHandler = createStartedGameHandler();
+        var simulationEngine = new SimulationEngine(gameHandler);
+        Assertions.assertFalse(simulationEngine.startSkippingToEndOfWave());
+
+        simulationEngine.runUntil(() -> gameHandler.getGamePhase() == GamePhase.WAVE_PHASE, Integer.MAX_VALUE);
+        Assertions.assertTrue(simulationEngine.startSkippingToEndOfWave());
+
+        // Frame times are ignored while skipping
+        var updates = 0;
+        while (simulationEngine.isSkippingToEndOfWave() && updates < 100_000) {
+            Assertions.assertTrue(simulationEngine.update(0) > 0);
+            updates++;
+        }
+
+        Assertions.assertFalse(simulationEngine.isSkippingToEndOfWave());
+        Assertions.assertNotSame(GamePhase.WAVE_PHASE, gameHandler.getGamePhase());
+        Assertions.assertEquals(0f, simulationEngine.getInterpolationAlpha());
+    }
+
+    @Test
+    void testRunTicksWithInvalidArgument() {
+        var simulationEngine = new SimulationEngine(new GameHandler(5, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> simulationEngine.runTicks(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> simulationEngine.runUntil(() -> true, -1));
+    }
+
+    @Test
+    void testResultIsIndependentOfFrameRate() {
+        var firstGameHandler = createStartedGameHandler();
+        var secondGameHandler = createStartedGameHandler();
+        var firstSimulationEngine = new SimulationEngine(firstGameHandler);
+        var secondSimulationEngine = new SimulationEngine(secondGameHandler);
+
+        // Irregular frame times which sum up to 1000 milliseconds
+        for (int i = 0; i < 50; i++) {
+            firstSimulationEngine.update(7);
+            firstSimulationEngine.update(13);
+        }
+        secondSimulationEngine.runTicks(1000 / TICK_DURATION);
+
+        Assertions.assertEquals(secondSimulationEngine.getTickCount(), firstSimulationEngine.getTickCount());
+        Assertions.assertEquals(secondGameHandler.getRemainingBuildPhaseDurationInMilliseconds(),
+                firstGameHandler.getRemainingBuildPhaseDurationInMilliseconds());
+        Assertions.assertEquals(GAME_BUILD_PHASE_DURATION_IN_MS - 1000,
+                firstGameHandler.getRemainingBuildPhaseDurationInMilliseconds());
+    }
+
+    @Test
+    void testRunUntilWavePhase() {
+        var gameHandler = createStartedGameHandler();
+        var simulationEngine = new SimulationEngine(gameHandler);
+
+        var ticks = simulationEngine.runUntil(() -> gameHandler.getGamePhase() == GamePhase.WAVE_PHASE,
+                Integer.MAX_VALUE);
+
+        Assertions.assertSame(GamePhase.WAVE_PHASE, gameHandler.getGamePhase());
+        Assertions.assertEquals((int) Math.ceil(GAME_BUILD_PHASE_DURATION_IN_MS / (double) TICK_DURATION), ticks);
+        Assertions.assertEquals(ticks, simulationEngine.getTickCount());
+
+        // Condition is already fulfilled, so no tick is executed
+        Assertions.assertEquals(0, simulationEngine.runUntil(() -> true, Integer.MAX_VALUE));
+        Assertions.assertEquals(5, simulationEngine.runUntil(() -> false, 5));
+    }
+
+    private static GameHandler createStartedGameHandler() {
+        var gameHandler = new GameHandler(5, 5);
+        // Building the first tower starts the game
+        Assertions.assertTrue(gameHandler.buildTower(TowerEnum.GUARD_TOWER, 0, 4));
+        return gameHandler;
+    }
+}